@@ -0,0 +1,143 @@
+package ch.logixisland.anuto.business.game;
+
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.AnutoApplication;
+import ch.logixisland.anuto.GameFactory;
+import ch.logixisland.anuto.business.score.ScoreBoard;
+import ch.logixisland.anuto.business.wave.WaveManager;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.loop.GameLoop;
+import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.entity.Types;
+import ch.logixisland.anuto.entity.plateau.Plateau;
+import ch.logixisland.anuto.entity.tower.Tower;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Records an hour of a late game, where the next wave is called as soon as it is ready and the
+ * map is never free of enemies, and recovers it like after the app was killed. The time needed to
+ * play the whole session at full speed is what a recovery replaying the whole journal would take.
+ */
+@RunWith(AndroidJUnit4.class)
+public class GameRecoveryBenchmarkTest {
+
+    private static final String TAG = GameRecoveryBenchmarkTest.class.getSimpleName();
+
+    private static final int TARGET_FRAME_RATE = GameLoop.DEFAULT_TARGET_FRAME_RATE;
+    private static final int SESSION_TICKS = 60 * 60 * TARGET_FRAME_RATE;
+    private static final int MAX_REPLAYED_TICKS = 6 * 60 * TARGET_FRAME_RATE;
+    private static final int LIVES = Integer.MAX_VALUE / 2;
+    private static final long TIMEOUT_MINUTES = 30;
+
+    @Test
+    public void recoveryOfAnHourLongSessionIsBounded() throws Exception {
+        GameFactory factory = AnutoApplication.getInstance().getGameFactory();
+        final GameEngine gameEngine = factory.getGameEngine();
+        final GameState gameState = factory.getGameState();
+        final ScoreBoard scoreBoard = factory.getScoreBoard();
+        final WaveManager waveManager = factory.getWaveManager();
+        final EntityRegistry entityRegistry = factory.getEntityRegistry();
+        final GameRecovery gameRecovery = factory.getGameRecovery();
+
+        final CountDownLatch recorded = new CountDownLatch(1);
+        final CountDownLatch recovered = new CountDownLatch(1);
+        final long[] recordingTime = new long[1];
+        final long[] recovery = new long[2];
+
+        GameRecoveryListener listener = new GameRecoveryListener() {
+            @Override
+            public void gameRecovered(int replayedTicks, long recoveryTime) {
+                recovery[0] = replayedTicks;
+                recovery[1] = recoveryTime;
+                recovered.countDown();
+            }
+        };
+
+        gameRecovery.addListener(listener);
+        gameEngine.setTargetFrameRate(TARGET_FRAME_RATE);
+        gameEngine.start();
+
+        try {
+            gameEngine.post(new Message() {
+                @Override
+                public void execute() {
+                    gameState.restart();
+                    scoreBoard.reset(LIVES, 0);
+                    placeTowers(gameEngine, entityRegistry);
+
+                    final long startTime = System.nanoTime();
+
+                    gameEngine.post(new Message() {
+                        @Override
+                        public void execute() {
+                            waveManager.startNextWave();
+                            gameEngine.postAfterTicks(this, TARGET_FRAME_RATE);
+                        }
+                    });
+
+                    gameEngine.postAfterTicks(new Message() {
+                        @Override
+                        public void execute() {
+                            recordingTime[0] = (System.nanoTime() - startTime) / 1000000L;
+                            recorded.countDown();
+                        }
+                    }, SESSION_TICKS);
+
+                    gameEngine.catchUp(SESSION_TICKS);
+                }
+            });
+
+            assertTrue("Session was not recorded in time", recorded.await(TIMEOUT_MINUTES, TimeUnit.MINUTES));
+
+            // the game is replaced like after a restart of the app
+            gameEngine.post(new Message() {
+                @Override
+                public void execute() {
+                    gameRecovery.startGame();
+                }
+            });
+
+            assertTrue("Game was not recovered in time", recovered.await(TIMEOUT_MINUTES, TimeUnit.MINUTES));
+
+            Log.i(TAG, String.format("Playing %d ticks took %d ms, the recovery replayed %d ticks in %d ms",
+                    SESSION_TICKS, recordingTime[0], recovery[0], recovery[1]));
+            assertTrue("Recovery replayed " + recovery[0] + " ticks", recovery[0] <= MAX_REPLAYED_TICKS);
+        } finally {
+            gameRecovery.removeListener(listener);
+
+            gameEngine.post(new Message() {
+                @Override
+                public void execute() {
+                    gameState.restart();
+                }
+            });
+
+            gameEngine.stop();
+        }
+    }
+
+    private static void placeTowers(GameEngine gameEngine, EntityRegistry entityRegistry) {
+        List<String> towerNames = new ArrayList<>(gameEngine.getGameConfiguration()
+                .getTowerSettingsRoot().getTowerSlots().getTowerNames());
+        List<Plateau> plateaus = gameEngine.getEntitiesByType(Types.PLATEAU).cast(Plateau.class).toList();
+
+        for (int i = 0; i < plateaus.size(); i++) {
+            Tower tower = (Tower) entityRegistry.createEntity(towerNames.get(i % towerNames.size()));
+            tower.setPlateau(plateaus.get(i));
+            tower.setEnabled(true);
+            gameEngine.add(tower);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package ch.logixisland.anuto.business.stress;
+
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.AnutoApplication;
+import ch.logixisland.anuto.GameFactory;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(AndroidJUnit4.class)
+public class StressTestRunnerTest {
+
+    private static final long TIMEOUT_MINUTES = 10;
+
+    @Test
+    public void outcomeIsEquivalentAtEveryTickRate() throws Exception {
+        GameFactory factory = AnutoApplication.getInstance().getGameFactory();
+        GameEngine gameEngine = factory.getGameEngine();
+        StressTestRunner runner = new StressTestRunner(InstrumentationRegistry.getTargetContext(), gameEngine,
+                factory.getGameState(), factory.getScoreBoard(), factory.getWaveManager(),
+                factory.getEntityRegistry(), factory.getGameRecovery());
+
+        final CountDownLatch finished = new CountDownLatch(1);
+        final List<RateEquivalence> results = new ArrayList<>();
+
+        runner.addListener(new StressTestListener() {
+            @Override
+            public void stressTestFinished(List<RateEquivalence> equivalences) {
+                results.addAll(equivalences);
+                finished.countDown();
+            }
+        });
+
+        gameEngine.start();
+
+        try {
+            runner.runEquivalence(StressScenario.fromName(StressScenario.EQUIVALENCE));
+            assertTrue("Stress test did not finish in time", finished.await(TIMEOUT_MINUTES, TimeUnit.MINUTES));
+        } finally {
+            gameEngine.stop();
+        }
+
+        assertFalse(results.isEmpty());
+
+        for (RateEquivalence equivalence : results) {
+            String name = equivalence.getScenario().getName();
+            assertTrue(name + " was not played at every tick rate", equivalence.isComplete());
+            assertTrue(name + ": " + equivalence.getSummary(), equivalence.isEquivalent());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+import android.graphics.Bitmap;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+
+import ch.logixisland.anuto.R;
+import ch.logixisland.anuto.engine.logic.loop.FrameRateLogger;
+import ch.logixisland.anuto.engine.render.Renderer;
+import ch.logixisland.anuto.engine.render.Viewport;
+import ch.logixisland.anuto.engine.theme.ThemeManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+@RunWith(AndroidJUnit4.class)
+public class SpriteFactoryTest {
+
+    private static final int GC_ATTEMPTS = 20;
+    private static final long WAIT_TIME = 10;
+    private static final int WAIT_ATTEMPTS = 500;
+
+    // pretends every sheet is a row of square 64 pixel frames, decoded with 4 bytes per pixel
+    private static class FakeDecoder implements SpriteDecoder {
+        final CountDownLatch mDecodeStarted = new CountDownLatch(1);
+        final CountDownLatch mDecodeAllowed = new CountDownLatch(1);
+        int mDecodeCount;
+        boolean mBlocking;
+
+        @Override
+        public void readSheetSize(SpriteSheetLayout layout) {
+            layout.setSheetSize(64 * layout.getSpriteCount(), 64);
+        }
+
+        @Override
+        public SpriteSheet decode(SpriteSheetLayout layout) {
+            if (isBlocking()) {
+                mDecodeStarted.countDown();
+
+                try {
+                    mDecodeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return createSheet(layout);
+        }
+
+        private synchronized SpriteSheet createSheet(SpriteSheetLayout layout) {
+            mDecodeCount++;
+            long byteCount = (long) layout.getFrameWidth() * layout.getFrameHeight() * layout.getSpriteCount() * 4;
+            return new SpriteSheet(new Bitmap[layout.getSpriteCount()], byteCount);
+        }
+
+        synchronized int getDecodeCount() {
+            return mDecodeCount;
+        }
+
+        synchronized boolean isBlocking() {
+            return mBlocking;
+        }
+
+        synchronized void setBlocking(boolean blocking) {
+            mBlocking = blocking;
+        }
+    }
+
+    private ThemeManager mThemeManager;
+    private Viewport mViewport;
+    private FakeDecoder mDecoder;
+    private SpriteBudget mBudget;
+    private SpriteFactory mSpriteFactory;
+
+    @Before
+    public void setUp() {
+        mThemeManager = new ThemeManager(InstrumentationRegistry.getTargetContext());
+        mViewport = new Viewport();
+        mDecoder = new FakeDecoder();
+        mBudget = new SpriteBudget(Long.MAX_VALUE);
+        Renderer renderer = new Renderer(mViewport, mThemeManager, new FrameRateLogger());
+        mSpriteFactory = new SpriteFactory(mThemeManager, mViewport, renderer, mDecoder, mBudget);
+    }
+
+    @Test
+    public void decodedSheetIsCharged() {
+        mSpriteFactory.createTemplate(R.attr.rocket, 4);
+
+        assertEquals(1, mDecoder.getDecodeCount());
+        assertEquals(4 * 64 * 64 * 4, mBudget.getUsed());
+    }
+
+    @Test
+    public void cachedSheetIsNotDecodedAgain() {
+        mSpriteFactory.createTemplate(R.attr.rocket, 4);
+        mSpriteFactory.createTemplate(R.attr.rocket, 4);
+
+        assertEquals(1, mDecoder.getDecodeCount());
+        assertEquals(4 * 64 * 64 * 4, mBudget.getUsed());
+    }
+
+    @Test
+    public void preloadedSheetIsCollected() {
+        mSpriteFactory.preload(R.attr.rocket, 4);
+        mSpriteFactory.awaitPreload();
+        mSpriteFactory.createTemplate(R.attr.rocket, 4);
+
+        assertEquals(1, mDecoder.getDecodeCount());
+        assertEquals(4 * 64 * 64 * 4, mBudget.getUsed());
+    }
+
+    @Test
+    public void replacedSheetStaysChargedWhileTemplatesHoldIt() {
+        SpriteTemplate template = mSpriteFactory.createTemplate(R.attr.rocket, 4);
+
+        // a different sprite count decodes the sheet again and replaces it in the cache
+        mSpriteFactory.createTemplate(R.attr.rocket, 2);
+        assertEquals(2, mDecoder.getDecodeCount());
+        assertEquals(4 * 64 * 64 * 4 + 2 * 64 * 64 * 4, mBudget.getUsed());
+        assertNotNull(template);
+
+        template = null;
+        assertBudgetCollected(2 * 64 * 64 * 4, R.attr.rocket, 2);
+    }
+
+    @Test
+    public void themeChangeReleasesSheetsOnceTemplatesAreGone() {
+        SpriteTemplate template = mSpriteFactory.createTemplate(R.attr.rocket, 4);
+
+        mThemeManager.setThemeIndex(1);
+        assertEquals(4 * 64 * 64 * 4, mBudget.getUsed());
+        assertNotNull(template);
+
+        template = null;
+        mSpriteFactory.createTemplate(R.attr.glueEffect, 2);
+        assertBudgetCollected(2 * 64 * 64 * 4, R.attr.glueEffect, 2);
+    }
+
+    @Test
+    public void themeChangeDiscardsPendingPreloads() throws Exception {
+        mDecoder.setBlocking(true);
+        mSpriteFactory.preload(R.attr.rocket, 4);
+        mDecoder.mDecodeStarted.await();
+
+        // the sheet is being decoded for the old theme, nothing may collect or keep it
+        mThemeManager.setThemeIndex(1);
+        mDecoder.mDecodeAllowed.countDown();
+        mSpriteFactory.awaitPreload();
+
+        for (int i = 0; i < WAIT_ATTEMPTS && mBudget.getUsed() != 0; i++) {
+            Thread.sleep(WAIT_TIME);
+        }
+
+        assertEquals(0, mBudget.getUsed());
+
+        mDecoder.setBlocking(false);
+        mSpriteFactory.createTemplate(R.attr.rocket, 4);
+        assertEquals(2, mDecoder.getDecodeCount());
+        assertEquals(4 * 64 * 64 * 4, mBudget.getUsed());
+    }
+
+    // released sheets are given back to the budget the next time a template is created after the gc
+    private void assertBudgetCollected(long expectedByteCount, int attrId, int spriteCount) {
+        for (int i = 0; i < GC_ATTEMPTS && mBudget.getUsed() != expectedByteCount; i++) {
+            System.gc();
+            System.runFinalization();
+            mSpriteFactory.createTemplate(attrId, spriteCount);
+        }
+
+        assertEquals(expectedByteCount, mBudget.getUsed());
+    }
+}
@@ -0,0 +1,119 @@
+package ch.logixisland.anuto.business.stress;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.loop.TickProfiler;
+import ch.logixisland.anuto.entity.Types;
+
+/**
+ * Records the duration, the used heap and the entity counts of every tick. The buffers are
+ * allocated up front so the recording itself does not show up in the heap.
+ */
+public class LoadProfile implements TickProfiler {
+
+    private final GameEngine mGameEngine;
+    private final Runtime mRuntime = Runtime.getRuntime();
+
+    private final long[] mTickNanos;
+    private final long[] mHeapBytes;
+    private final int[] mEnemyCounts;
+    private final int[] mShotCounts;
+    private final int[] mEffectCounts;
+    private int mTickCount;
+
+    public LoadProfile(GameEngine gameEngine, int maxTickCount) {
+        mGameEngine = gameEngine;
+        mTickNanos = new long[maxTickCount];
+        mHeapBytes = new long[maxTickCount];
+        mEnemyCounts = new int[maxTickCount];
+        mShotCounts = new int[maxTickCount];
+        mEffectCounts = new int[maxTickCount];
+    }
+
+    @Override
+    public void tickExecuted(long tickNanos) {
+        if (mTickCount >= mTickNanos.length) {
+            return;
+        }
+
+        // counted after the tick, so it is not part of the measured time
+        mTickNanos[mTickCount] = tickNanos;
+        mHeapBytes[mTickCount] = mRuntime.totalMemory() - mRuntime.freeMemory();
+        mEnemyCounts[mTickCount] = mGameEngine.getEntitiesByType(Types.ENEMY).count();
+        mShotCounts[mTickCount] = mGameEngine.getEntitiesByType(Types.SHOT).count();
+        mEffectCounts[mTickCount] = mGameEngine.getEntitiesByType(Types.EFFECT).count();
+        mTickCount++;
+    }
+
+    public int getTickCount() {
+        return mTickCount;
+    }
+
+    public void writeCsv(File file, StressScenario scenario) throws IOException {
+        PrintWriter writer = new PrintWriter(new FileWriter(file));
+
+        try {
+            writer.println("# " + scenario);
+            writer.println("tick,tickMicros,heapKb,enemies,shots,effects");
+
+            for (int i = 0; i < mTickCount; i++) {
+                writer.println(i + "," + mTickNanos[i] / 1000L + "," + mHeapBytes[i] / 1024L + "," +
+                        mEnemyCounts[i] + "," + mShotCounts[i] + "," + mEffectCounts[i]);
+            }
+        } finally {
+            writer.close();
+        }
+
+        if (writer.checkError()) {
+            throw new IOException("Could not write " + file + "!");
+        }
+    }
+
+    public String getSummary() {
+        if (mTickCount == 0) {
+            return "no ticks";
+        }
+
+        long[] sorted = Arrays.copyOf(mTickNanos, mTickCount);
+        Arrays.sort(sorted);
+
+        long total = 0;
+        for (long nanos : sorted) {
+            total += nanos;
+        }
+
+        return String.format("ticks=%d mean=%.2fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms peakHeap=%dkB peakEnemies=%d",
+                mTickCount, toMillis(total / mTickCount), toMillis(percentile(sorted, 50)),
+                toMillis(percentile(sorted, 95)), toMillis(percentile(sorted, 99)),
+                toMillis(sorted[mTickCount - 1]), max(mHeapBytes) / 1024L, max(mEnemyCounts));
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percent / 100)];
+    }
+
+    private long max(long[] values) {
+        long max = 0;
+        for (int i = 0; i < mTickCount; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    private int max(int[] values) {
+        int max = 0;
+        for (int i = 0; i < mTickCount; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    private static float toMillis(long nanos) {
+        return nanos / 1000000f;
+    }
+}
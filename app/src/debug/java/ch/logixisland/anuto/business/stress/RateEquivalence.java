@@ -0,0 +1,120 @@
+package ch.logixisland.anuto.business.stress;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the outcome of one scenario played at different tick rates. Kills and leaks may differ
+ * by a small share of the enemies and the credits by the same share of the reference credits,
+ * because the enemies and shots move in slightly different steps.
+ */
+public class RateEquivalence {
+
+    public static final int[] TARGET_FRAME_RATES = {20, 30, 60};
+    public static final int REFERENCE_FRAME_RATE = 30;
+    public static final float TOLERANCE = 0.02f;
+
+    private static class Outcome {
+        final int mTargetFrameRate;
+        final int mKills;
+        final int mLeaks;
+        final int mCredits;
+
+        Outcome(int targetFrameRate, int kills, int leaks, int credits) {
+            mTargetFrameRate = targetFrameRate;
+            mKills = kills;
+            mLeaks = leaks;
+            mCredits = credits;
+        }
+    }
+
+    private final StressScenario mScenario;
+    private final List<Outcome> mOutcomes = new ArrayList<>();
+
+    public RateEquivalence(StressScenario scenario) {
+        mScenario = scenario;
+    }
+
+    public StressScenario getScenario() {
+        return mScenario;
+    }
+
+    public void addOutcome(int targetFrameRate, int kills, int leaks, int credits) {
+        mOutcomes.add(new Outcome(targetFrameRate, kills, leaks, credits));
+    }
+
+    public boolean isComplete() {
+        return mOutcomes.size() >= TARGET_FRAME_RATES.length;
+    }
+
+    public boolean isEquivalent() {
+        Outcome reference = getReference();
+
+        if (reference == null) {
+            return false;
+        }
+
+        for (Outcome outcome : mOutcomes) {
+            if (!isEquivalent(reference, outcome)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(isEquivalent() ? "equivalent" : "NOT equivalent");
+
+        for (Outcome outcome : mOutcomes) {
+            summary.append(String.format(" | %dHz kills=%d leaks=%d credits=%d", outcome.mTargetFrameRate,
+                    outcome.mKills, outcome.mLeaks, outcome.mCredits));
+        }
+
+        return summary.toString();
+    }
+
+    public void writeCsv(File file) throws IOException {
+        PrintWriter writer = new PrintWriter(new FileWriter(file));
+        Outcome reference = getReference();
+
+        try {
+            writer.println("# " + mScenario);
+            writer.println("targetFrameRate,kills,leaks,credits,equivalent");
+
+            for (Outcome outcome : mOutcomes) {
+                writer.println(outcome.mTargetFrameRate + "," + outcome.mKills + "," + outcome.mLeaks + "," +
+                        outcome.mCredits + "," + (reference != null && isEquivalent(reference, outcome)));
+            }
+        } finally {
+            writer.close();
+        }
+
+        if (writer.checkError()) {
+            throw new IOException("Could not write " + file + "!");
+        }
+    }
+
+    private Outcome getReference() {
+        for (Outcome outcome : mOutcomes) {
+            if (outcome.mTargetFrameRate == REFERENCE_FRAME_RATE) {
+                return outcome;
+            }
+        }
+
+        return mOutcomes.isEmpty() ? null : mOutcomes.get(0);
+    }
+
+    private boolean isEquivalent(Outcome reference, Outcome outcome) {
+        float enemyTolerance = TOLERANCE * mScenario.getEnemyCount();
+        float creditTolerance = TOLERANCE * Math.max(Math.abs(reference.mCredits), 1);
+
+        return Math.abs(outcome.mKills - reference.mKills) <= enemyTolerance &&
+                Math.abs(outcome.mLeaks - reference.mLeaks) <= enemyTolerance &&
+                Math.abs(outcome.mCredits - reference.mCredits) <= creditTolerance;
+    }
+}
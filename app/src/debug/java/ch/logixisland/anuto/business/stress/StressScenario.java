@@ -0,0 +1,123 @@
+package ch.logixisland.anuto.business.stress;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class StressScenario {
+
+    public static final String SWEEP = "sweep";
+    public static final String EQUIVALENCE = "equivalence";
+
+    private static final long DEFAULT_SEED = 1L;
+    private static final float DEFAULT_SPAWN_DURATION = 20f;
+    private static final float DEFAULT_DURATION = 60f;
+    private static final int DEFAULT_DIFFICULTY_CREDITS = 50000;
+
+    private static final List<StressScenario> sPresets = Arrays.asList(
+            new StressScenario("enemies-1k", 1000, 100, 0.2f),
+            new StressScenario("enemies-5k", 5000, 200, 0.2f),
+            new StressScenario("enemies-10k", 10000, 200, 0.2f),
+            new StressScenario("enemies-25k", 25000, 300, 0.2f),
+            new StressScenario("enemies-50k", 50000, 300, 0.2f),
+            new StressScenario("towers-500", 2000, 500, 0.2f),
+            new StressScenario("effects", 5000, 300, 0.8f)
+    );
+
+    // small enough that every enemy is killed or leaks within the duration
+    private static final StressScenario sEquivalence = new StressScenario(EQUIVALENCE, DEFAULT_SEED, 300, 60, 0.2f,
+            DEFAULT_SPAWN_DURATION, 120f, 5000);
+
+    private final String mName;
+    private final long mSeed;
+    private final int mEnemyCount;
+    private final int mTowerCount;
+    private final float mEffectTowerShare;
+    private final float mSpawnDuration;
+    private final float mDuration;
+    private final int mDifficultyCredits;
+
+    public StressScenario(String name, int enemyCount, int towerCount, float effectTowerShare) {
+        this(name, DEFAULT_SEED, enemyCount, towerCount, effectTowerShare, DEFAULT_SPAWN_DURATION,
+                DEFAULT_DURATION, DEFAULT_DIFFICULTY_CREDITS);
+    }
+
+    public StressScenario(String name, long seed, int enemyCount, int towerCount, float effectTowerShare,
+                          float spawnDuration, float duration, int difficultyCredits) {
+        if (enemyCount < 1 || towerCount < 1) {
+            throw new IllegalArgumentException("A scenario needs at least one enemy and one tower!");
+        }
+
+        mName = name;
+        mSeed = seed;
+        mEnemyCount = enemyCount;
+        mTowerCount = towerCount;
+        mEffectTowerShare = effectTowerShare;
+        mSpawnDuration = spawnDuration;
+        mDuration = duration;
+        mDifficultyCredits = difficultyCredits;
+    }
+
+    public static List<StressScenario> getPresets() {
+        return Collections.unmodifiableList(sPresets);
+    }
+
+    // a preset name, "sweep" for all presets in order of load or "equivalence" for the tick rate check
+    public static List<StressScenario> fromName(String name) {
+        if (SWEEP.equals(name)) {
+            return getPresets();
+        }
+
+        if (EQUIVALENCE.equals(name)) {
+            return Collections.singletonList(sEquivalence);
+        }
+
+        for (StressScenario scenario : sPresets) {
+            if (scenario.getName().equals(name)) {
+                return Collections.singletonList(scenario);
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown stress scenario " + name + "!");
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public long getSeed() {
+        return mSeed;
+    }
+
+    public int getEnemyCount() {
+        return mEnemyCount;
+    }
+
+    public int getTowerCount() {
+        return mTowerCount;
+    }
+
+    // share of the towers that are glue towers, glue guns and teleporters
+    public float getEffectTowerShare() {
+        return mEffectTowerShare;
+    }
+
+    public float getSpawnDuration() {
+        return mSpawnDuration;
+    }
+
+    public float getDuration() {
+        return mDuration;
+    }
+
+    // fed into the regular difficulty formula, higher values make the enemies live longer
+    public int getDifficultyCredits() {
+        return mDifficultyCredits;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: seed=%d enemies=%d towers=%d effectTowerShare=%.2f spawnDuration=%.0fs duration=%.0fs difficultyCredits=%d",
+                mName, mSeed, mEnemyCount, mTowerCount, mEffectTowerShare, mSpawnDuration, mDuration, mDifficultyCredits);
+    }
+}
@@ -0,0 +1,167 @@
+package ch.logixisland.anuto.business.stress;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates the map, the wave and the tower layout of a stress scenario. The map consists of
+ * horizontal lanes with two rows of plateaus between them and two paths that snake through all
+ * lanes in opposite directions. Everything is derived from the seed, so a scenario is repeatable.
+ */
+public class StressScenarioGenerator {
+
+    private static final String[] ENEMY_NAMES = {"soldier", "blob", "sprinter", "flyer", "healer"};
+    private static final String[] TOWER_NAMES = {"canon", "dualCanon", "machineGun", "simpleLaser",
+            "bouncingLaser", "straightLaser", "mortar", "mineLayer", "rocketLauncher"};
+    private static final String[] EFFECT_TOWER_NAMES = {"glueTower", "glueGun", "teleporter"};
+
+    private static final int LANE_SPACING = 3;
+    private static final int MIN_COLUMNS = 4;
+    private static final float SPAWN_INTERVAL = 0.5f;
+    private static final float SPAWN_OFFSET = 0.05f;
+
+    private final StressScenario mScenario;
+    private final int mLaneCount;
+    private final int mColumnCount;
+
+    public StressScenarioGenerator(StressScenario scenario) {
+        mScenario = scenario;
+
+        // every lane has two rows of plateaus, the lane count keeps the map roughly square
+        mLaneCount = Math.max(1, Math.round((float) Math.sqrt(scenario.getTowerCount() / 6f)));
+        mColumnCount = Math.max(MIN_COLUMNS, (scenario.getTowerCount() + 2 * mLaneCount - 1) / (2 * mLaneCount));
+    }
+
+    public int getWidth() {
+        return mColumnCount + 2;
+    }
+
+    public int getHeight() {
+        return mLaneCount * LANE_SPACING;
+    }
+
+    public String createMapXml() {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<map>\n");
+        xml.append("    <width>").append(getWidth()).append("</width>\n");
+        xml.append("    <height>").append(getHeight()).append("</height>\n");
+
+        xml.append("    <plateaus>\n");
+        for (int y = 0; y < getHeight(); y++) {
+            if (isLane(y)) {
+                continue;
+            }
+
+            for (int x = 1; x <= mColumnCount; x++) {
+                xml.append("        <plateau name=\"basic\" x=\"").append(x).append("\" y=\"").append(y).append("\"/>\n");
+            }
+        }
+        xml.append("    </plateaus>\n");
+
+        xml.append("    <paths>\n");
+        appendPath(xml, createWayPoints(false));
+        appendPath(xml, createWayPoints(true));
+        xml.append("    </paths>\n");
+
+        xml.append("</map>\n");
+        return xml.toString();
+    }
+
+    // one wave that spawns the enemies in batches over the spawn duration
+    public String createWavesXml() {
+        Random random = new Random(mScenario.getSeed());
+        int batchCount = Math.max(1, Math.round(mScenario.getSpawnDuration() / SPAWN_INTERVAL));
+        int batchSize = (mScenario.getEnemyCount() + batchCount - 1) / batchCount;
+
+        StringBuilder xml = new StringBuilder();
+        xml.append("<waves>\n");
+        xml.append("    <wave>\n");
+        xml.append("        <waveReward>0</waveReward>\n");
+        xml.append("        <enemies>\n");
+
+        for (int i = 0; i < mScenario.getEnemyCount(); i++) {
+            xml.append("            <enemy name=\"").append(ENEMY_NAMES[random.nextInt(ENEMY_NAMES.length)]).append('"');
+            xml.append(" pathIndex=\"").append(random.nextInt(2)).append('"');
+
+            if (i % batchSize == 0) {
+                xml.append(" delay=\"").append(SPAWN_INTERVAL).append('"');
+            } else {
+                xml.append(" offset=\"").append(SPAWN_OFFSET).append('"');
+            }
+
+            xml.append("/>\n");
+        }
+
+        xml.append("        </enemies>\n");
+        xml.append("    </wave>\n");
+        xml.append("</waves>\n");
+        return xml.toString();
+    }
+
+    // the tower for each plateau in the order of the map, null leaves the plateau empty
+    public List<String> createTowerLayout(int plateauCount) {
+        Random random = new Random(mScenario.getSeed());
+        int effectTowerCount = Math.min(mScenario.getTowerCount(), Math.round(mScenario.getTowerCount() * mScenario.getEffectTowerShare()));
+        List<String> layout = new ArrayList<>(plateauCount);
+
+        for (int i = 0; i < plateauCount; i++) {
+            if (i < effectTowerCount) {
+                layout.add(EFFECT_TOWER_NAMES[i % EFFECT_TOWER_NAMES.length]);
+            } else if (i < mScenario.getTowerCount()) {
+                layout.add(TOWER_NAMES[i % TOWER_NAMES.length]);
+            } else {
+                layout.add(null);
+            }
+        }
+
+        Collections.shuffle(layout, random);
+        return layout;
+    }
+
+    private boolean isLane(int y) {
+        return y % LANE_SPACING == 1;
+    }
+
+    private List<float[]> createWayPoints(boolean reverse) {
+        List<float[]> wayPoints = new ArrayList<>();
+        float left = -1f;
+        float right = getWidth();
+
+        for (int lane = 0; lane < mLaneCount; lane++) {
+            float y = lane * LANE_SPACING + 1;
+            boolean leftToRight = lane % 2 == 0;
+            float startX = leftToRight ? left : right;
+            float endX = leftToRight ? right : left;
+
+            // the turns run along the outer columns, which have no plateaus
+            if (lane > 0) {
+                startX = leftToRight ? 0f : getWidth() - 1;
+            }
+            if (lane < mLaneCount - 1) {
+                endX = leftToRight ? getWidth() - 1 : 0f;
+            }
+
+            wayPoints.add(new float[]{startX, y});
+            wayPoints.add(new float[]{endX, y});
+        }
+
+        if (reverse) {
+            Collections.reverse(wayPoints);
+        }
+
+        return wayPoints;
+    }
+
+    private static void appendPath(StringBuilder xml, List<float[]> wayPoints) {
+        xml.append("        <path>\n");
+
+        for (float[] wayPoint : wayPoints) {
+            xml.append(String.format(Locale.US, "            <wayPoint x=\"%.1f\" y=\"%.1f\"/>\n", wayPoint[0], wayPoint[1]));
+        }
+
+        xml.append("        </path>\n");
+    }
+}
@@ -0,0 +1,7 @@
+package ch.logixisland.anuto.business.stress;
+
+import java.util.List;
+
+public interface StressTestListener {
+    void stressTestFinished(List<RateEquivalence> equivalences);
+}
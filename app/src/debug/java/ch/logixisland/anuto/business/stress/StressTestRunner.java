@@ -0,0 +1,306 @@
+package ch.logixisland.anuto.business.stress;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import ch.logixisland.anuto.business.game.GameRecovery;
+import ch.logixisland.anuto.business.game.GameState;
+import ch.logixisland.anuto.business.score.ScoreBoard;
+import ch.logixisland.anuto.business.wave.WaveManager;
+import ch.logixisland.anuto.data.map.MapDescriptorRoot;
+import ch.logixisland.anuto.data.wave.WaveDescriptorRoot;
+import ch.logixisland.anuto.engine.logic.GameConfiguration;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.entity.Types;
+import ch.logixisland.anuto.entity.plateau.Plateau;
+import ch.logixisland.anuto.entity.tower.Tower;
+
+/**
+ * Plays generated stress scenarios headlessly at full speed and writes a load profile of each to
+ * the external files directory. The scenario files are written next to it, so a run can be
+ * repeated and inspected. In the equivalence mode each scenario is played at every tick rate and
+ * the outcomes are compared. The game on the current map is restarted afterwards.
+ */
+public class StressTestRunner {
+
+    private final static String TAG = StressTestRunner.class.getSimpleName();
+
+    private static final int LIVES = Integer.MAX_VALUE / 2;
+
+    private static class StressRun {
+        final StressScenario mScenario;
+        final int mTargetFrameRate;
+        final RateEquivalence mEquivalence;
+
+        StressRun(StressScenario scenario, int targetFrameRate, RateEquivalence equivalence) {
+            mScenario = scenario;
+            mTargetFrameRate = targetFrameRate;
+            mEquivalence = equivalence;
+        }
+    }
+
+    private final Context mContext;
+    private final GameEngine mGameEngine;
+    private final GameState mGameState;
+    private final ScoreBoard mScoreBoard;
+    private final WaveManager mWaveManager;
+    private final EntityRegistry mEntityRegistry;
+    private final GameRecovery mGameRecovery;
+
+    private final List<StressTestListener> mListeners = new CopyOnWriteArrayList<>();
+    private final List<RateEquivalence> mEquivalences = new ArrayList<>();
+
+    private Iterator<StressRun> mPendingRuns;
+    private GameConfiguration mPreviousConfiguration;
+    private int mPreviousTargetFrameRate;
+
+    public StressTestRunner(Context context, GameEngine gameEngine, GameState gameState, ScoreBoard scoreBoard,
+                            WaveManager waveManager, EntityRegistry entityRegistry, GameRecovery gameRecovery) {
+        mContext = context;
+        mGameEngine = gameEngine;
+        mGameState = gameState;
+        mScoreBoard = scoreBoard;
+        mWaveManager = waveManager;
+        mEntityRegistry = entityRegistry;
+        mGameRecovery = gameRecovery;
+    }
+
+    public boolean isRunning() {
+        return mPendingRuns != null;
+    }
+
+    public void addListener(StressTestListener listener) {
+        mListeners.add(listener);
+    }
+
+    public void removeListener(StressTestListener listener) {
+        mListeners.remove(listener);
+    }
+
+    public void run(List<StressScenario> scenarios) {
+        List<StressRun> runs = new ArrayList<>();
+
+        for (StressScenario scenario : scenarios) {
+            runs.add(new StressRun(scenario, 0, null));
+        }
+
+        start(runs, new ArrayList<RateEquivalence>());
+    }
+
+    // plays every scenario at each tick rate, the listeners get the outcomes to check when all are done
+    public void runEquivalence(List<StressScenario> scenarios) {
+        List<StressRun> runs = new ArrayList<>();
+        List<RateEquivalence> equivalences = new ArrayList<>();
+
+        for (StressScenario scenario : scenarios) {
+            RateEquivalence equivalence = new RateEquivalence(scenario);
+            equivalences.add(equivalence);
+
+            for (int targetFrameRate : RateEquivalence.TARGET_FRAME_RATES) {
+                runs.add(new StressRun(scenario, targetFrameRate, equivalence));
+            }
+        }
+
+        start(runs, equivalences);
+    }
+
+    private void start(final List<StressRun> runs, final List<RateEquivalence> equivalences) {
+        if (mGameEngine.isThreadChangeNeeded()) {
+            mGameEngine.post(new Message() {
+                @Override
+                public void execute() {
+                    start(runs, equivalences);
+                }
+            });
+            return;
+        }
+
+        if (isRunning()) {
+            return;
+        }
+
+        // generated games must not replace the checkpoint of the real one
+        mGameRecovery.setEnabled(false);
+        mPreviousConfiguration = mGameEngine.getGameConfiguration();
+        mPreviousTargetFrameRate = mGameEngine.getPendingTargetFrameRate();
+        mPendingRuns = runs.iterator();
+        mEquivalences.clear();
+        mEquivalences.addAll(equivalences);
+        runNext();
+    }
+
+    private void runNext() {
+        if (!mPendingRuns.hasNext()) {
+            finish();
+            return;
+        }
+
+        final StressRun run = mPendingRuns.next();
+        final StressScenario scenario = run.mScenario;
+        final File directory = getOutputDirectory();
+        Log.i(TAG, "Starting " + scenario + (run.mTargetFrameRate > 0 ? " at " + run.mTargetFrameRate + "Hz" : ""));
+
+        try {
+            mGameEngine.setTargetFrameRate(run.mTargetFrameRate > 0 ? run.mTargetFrameRate : mPreviousTargetFrameRate);
+            startScenario(scenario, directory);
+        } catch (Exception e) {
+            Log.e(TAG, "Could not start " + scenario.getName() + "!", e);
+            finish();
+            return;
+        }
+
+        int ticks = Math.round(scenario.getDuration() * mGameEngine.getTargetFrameRate());
+        final LoadProfile profile = new LoadProfile(mGameEngine, ticks);
+        mGameEngine.setTickProfiler(profile);
+
+        mGameEngine.postAfterTicks(new Message() {
+            @Override
+            public void execute() {
+                mGameEngine.setTickProfiler(null);
+
+                if (run.mEquivalence != null) {
+                    addOutcome(run, directory);
+                } else {
+                    writeLoadProfile(scenario, profile, directory);
+                }
+
+                runNext();
+            }
+        }, ticks);
+
+        mGameEngine.catchUp(ticks);
+    }
+
+    private void writeLoadProfile(StressScenario scenario, LoadProfile profile, File directory) {
+        Log.i(TAG, scenario.getName() + ": " + profile.getSummary());
+
+        try {
+            File file = new File(directory, scenario.getName() + ".csv");
+            profile.writeCsv(file, scenario);
+            Log.i(TAG, "Load profile written to " + file);
+        } catch (IOException e) {
+            Log.e(TAG, "Could not write load profile!", e);
+        }
+    }
+
+    // every enemy spawns within the spawn duration, the ones neither killed nor leaked are still on the map
+    private void addOutcome(StressRun run, File directory) {
+        StressScenario scenario = run.mScenario;
+        int leaks = LIVES - mScoreBoard.getLives();
+        int remaining = mGameEngine.getEntitiesByType(Types.ENEMY).count();
+        int kills = scenario.getEnemyCount() - leaks - remaining;
+        int credits = mScoreBoard.getCreditsEarned() - scenario.getDifficultyCredits();
+        RateEquivalence equivalence = run.mEquivalence;
+        equivalence.addOutcome(run.mTargetFrameRate, kills, leaks, credits);
+
+        if (!equivalence.isComplete()) {
+            return;
+        }
+
+        if (equivalence.isEquivalent()) {
+            Log.i(TAG, scenario.getName() + ": " + equivalence.getSummary());
+        } else {
+            Log.e(TAG, scenario.getName() + ": " + equivalence.getSummary());
+        }
+
+        try {
+            File file = new File(directory, scenario.getName() + "_equivalence.csv");
+            equivalence.writeCsv(file);
+            Log.i(TAG, "Equivalence written to " + file);
+        } catch (IOException e) {
+            Log.e(TAG, "Could not write equivalence!", e);
+        }
+    }
+
+    private void startScenario(StressScenario scenario, File directory) throws IOException {
+        StressScenarioGenerator generator = new StressScenarioGenerator(scenario);
+        String mapXml = generator.createMapXml();
+        String wavesXml = generator.createWavesXml();
+        writeFile(new File(directory, scenario.getName() + "_map.xml"), mapXml);
+        writeFile(new File(directory, scenario.getName() + "_waves.xml"), wavesXml);
+
+        mGameEngine.setGameConfiguration(new GameConfiguration(
+                mPreviousConfiguration.getGameSettingsRoot(),
+                mPreviousConfiguration.getEnemySettingsRoot(),
+                mPreviousConfiguration.getTowerSettingsRoot(),
+                MapDescriptorRoot.fromXml(toStream(mapXml)),
+                WaveDescriptorRoot.fromXml(toStream(wavesXml))
+        ));
+
+        mGameState.restart();
+        mGameEngine.getRandom().setSeed(scenario.getSeed());
+
+        // the difficulty formula sizes the enemy health from the credits earned
+        mScoreBoard.reset(LIVES, 0);
+        mScoreBoard.giveCredits(scenario.getDifficultyCredits(), true);
+
+        List<Plateau> plateaus = mGameEngine.getEntitiesByType(Types.PLATEAU).cast(Plateau.class).toList();
+        List<String> layout = generator.createTowerLayout(plateaus.size());
+
+        for (int i = 0; i < plateaus.size(); i++) {
+            if (layout.get(i) != null) {
+                Tower tower = (Tower) mEntityRegistry.createEntity(layout.get(i));
+                tower.setPlateau(plateaus.get(i));
+                tower.setEnabled(true);
+                mGameEngine.add(tower);
+            }
+        }
+
+        mWaveManager.startNextWave();
+    }
+
+    private void finish() {
+        mPendingRuns = null;
+        mGameEngine.setGameConfiguration(mPreviousConfiguration);
+        mGameEngine.setTargetFrameRate(mPreviousTargetFrameRate);
+        mPreviousConfiguration = null;
+
+        mGameRecovery.setEnabled(true);
+        mGameState.restart();
+
+        List<RateEquivalence> equivalences = new ArrayList<>(mEquivalences);
+        mEquivalences.clear();
+
+        for (StressTestListener listener : mListeners) {
+            listener.stressTestFinished(equivalences);
+        }
+    }
+
+    private File getOutputDirectory() {
+        File directory = mContext.getExternalFilesDir("stress");
+
+        if (directory == null) {
+            directory = new File(mContext.getFilesDir(), "stress");
+        }
+
+        directory.mkdirs();
+        return directory;
+    }
+
+    private static ByteArrayInputStream toStream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(Charset.forName("UTF-8")));
+    }
+
+    private static void writeFile(File file, String content) throws IOException {
+        Writer writer = new FileWriter(file);
+
+        try {
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ch.logixisland.anuto.view.stress;
+
+import android.app.Activity;
+import android.content.Intent;
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.Toast;
+
+import java.util.List;
+
+import ch.logixisland.anuto.AnutoApplication;
+import ch.logixisland.anuto.GameFactory;
+import ch.logixisland.anuto.business.stress.StressScenario;
+import ch.logixisland.anuto.business.stress.StressTestRunner;
+import ch.logixisland.anuto.view.game.GameActivity;
+
+/**
+ * Starts a stress run and shows the game while it runs. Only part of debug builds, because a run
+ * replaces the game of the player:
+ * adb shell am start -n ch.logixisland.anuto/.view.stress.StressTestActivity --es scenario sweep
+ * adb shell am start -n ch.logixisland.anuto/.view.stress.StressTestActivity --ez equivalence true
+ */
+public class StressTestActivity extends Activity {
+
+    private static final String TAG = StressTestActivity.class.getSimpleName();
+
+    public static final String EXTRA_SCENARIO = "scenario";
+    public static final String EXTRA_EQUIVALENCE = "equivalence";
+
+    private static StressTestRunner sStressTestRunner;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+
+        boolean equivalence = getIntent().getBooleanExtra(EXTRA_EQUIVALENCE, false);
+        String name = getIntent().getStringExtra(EXTRA_SCENARIO);
+        List<StressScenario> scenarios = null;
+
+        if (name == null) {
+            name = equivalence ? StressScenario.EQUIVALENCE : StressScenario.SWEEP;
+        }
+
+        try {
+            scenarios = StressScenario.fromName(name);
+        } catch (IllegalArgumentException e) {
+            Log.e(TAG, "Could not start stress test!", e);
+            Toast.makeText(this, e.getMessage(), Toast.LENGTH_LONG).show();
+        }
+
+        if (scenarios != null && equivalence) {
+            getStressTestRunner().runEquivalence(scenarios);
+        } else if (scenarios != null) {
+            getStressTestRunner().run(scenarios);
+        }
+
+        if (scenarios != null) {
+            startActivity(new Intent(this, GameActivity.class).addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP));
+        }
+
+        finish();
+    }
+
+    private static synchronized StressTestRunner getStressTestRunner() {
+        if (sStressTestRunner == null) {
+            GameFactory factory = AnutoApplication.getInstance().getGameFactory();
+            sStressTestRunner = new StressTestRunner(AnutoApplication.getInstance(), factory.getGameEngine(),
+                    factory.getGameState(), factory.getScoreBoard(), factory.getWaveManager(),
+                    factory.getEntityRegistry(), factory.getGameRecovery());
+        }
+
+        return sStressTestRunner;
+    }
+}
@@ -2,6 +2,8 @@ package ch.logixisland.anuto;
 
 import android.app.Application;
 
+import ch.logixisland.anuto.engine.logic.StartupTimer;
+
 public class AnutoApplication extends Application {
 
     private static AnutoApplication sInstance;
@@ -12,7 +14,7 @@ public class AnutoApplication extends Application {
         super.onCreate();
 
         sInstance = this;
-        mGameFactory = new GameFactory(getApplicationContext());
+        mGameFactory = new GameFactory(getApplicationContext(), new StartupTimer());
     }
 
     public static AnutoApplication getInstance() {
@@ -1,8 +1,20 @@
 package ch.logixisland.anuto;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import ch.logixisland.anuto.business.game.GameConfigurationLoader;
+import ch.logixisland.anuto.business.game.GameRecovery;
 import ch.logixisland.anuto.business.game.GameSpeed;
 import ch.logixisland.anuto.business.game.GameState;
 import ch.logixisland.anuto.business.game.HighScores;
@@ -15,11 +27,19 @@ import ch.logixisland.anuto.business.tower.TowerSelector;
 import ch.logixisland.anuto.business.wave.WaveManager;
 import ch.logixisland.anuto.data.map.MapRepository;
 import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.StartupTimer;
+import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataRegistry;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpritePreloader;
 import ch.logixisland.anuto.engine.logic.entity.EntityStore;
+import ch.logixisland.anuto.engine.logic.loop.ChangeNotifier;
 import ch.logixisland.anuto.engine.logic.loop.FrameRateLogger;
 import ch.logixisland.anuto.engine.logic.loop.GameLoop;
 import ch.logixisland.anuto.engine.logic.loop.MessageQueue;
+import ch.logixisland.anuto.engine.logic.persistence.CommandJournal;
 import ch.logixisland.anuto.engine.logic.persistence.GamePersister;
 import ch.logixisland.anuto.engine.render.Renderer;
 import ch.logixisland.anuto.engine.render.Viewport;
@@ -27,7 +47,9 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.sound.SoundFactory;
 import ch.logixisland.anuto.engine.sound.SoundManager;
 import ch.logixisland.anuto.engine.theme.ThemeManager;
+import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Blob;
+import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.entity.enemy.Flyer;
 import ch.logixisland.anuto.entity.enemy.Healer;
 import ch.logixisland.anuto.entity.enemy.Soldier;
@@ -48,97 +70,203 @@ import ch.logixisland.anuto.entity.tower.Teleporter;
 
 public class GameFactory {
 
-    // Engine
+    // Menu
     private final ThemeManager mThemeManager;
     private final SoundManager mSoundManager;
-    private final SpriteFactory mSpriteFactory;
-    private final SoundFactory mSoundFactory;
-    private final Viewport mViewport;
-    private final FrameRateLogger mFrameRateLogger;
-    private final EntityStore mEntityStore;
-    private final MessageQueue mMessageQueue;
-    private final Renderer mRenderer;
-    private final GameEngine mGameEngine;
-    private final GameLoop mGameLoop;
-    private final GamePersister mGamePersister;
-    private final EntityRegistry mEntityRegistry;
-
-    // Business
-    private final ScoreBoard mScoreBoard;
-    private final HighScores mHighScores;
-    private final TowerSelector mTowerSelector;
-    private final TowerControl mTowerControl;
-    private final TowerAging mTowerAging;
-    private final TowerInserter mTowerInserter;
-    private final MapRepository mMapRepository;
-    private final GameConfigurationLoader mGameConfigurationLoader;
-    private final WaveManager mWaveManager;
-    private final GameSpeed mSpeedManager;
-    private final GameState mGameState;
     private final SettingsManager mSettingsManager;
+    private final MapRepository mMapRepository;
 
-    public GameFactory(Context context) {
-        // Engine
+    // Engine
+    private SpriteFactory mSpriteFactory;
+    private SoundFactory mSoundFactory;
+    private Viewport mViewport;
+    private FrameRateLogger mFrameRateLogger;
+    private EntityStore mEntityStore;
+    private MessageQueue mMessageQueue;
+    private ChangeNotifier mChangeNotifier;
+    private Renderer mRenderer;
+    private GameEngine mGameEngine;
+    private GameLoop mGameLoop;
+    private GamePersister mGamePersister;
+    private CommandJournal mCommandJournal;
+    private EntityRegistry mEntityRegistry;
+    private EntityMetadataRegistry mEntityMetadataRegistry;
+    private EntitySpritePreloader mEntitySpritePreloader;
+
+    // Gameplay
+    private ScoreBoard mScoreBoard;
+    private HighScores mHighScores;
+    private TowerSelector mTowerSelector;
+    private TowerControl mTowerControl;
+    private TowerAging mTowerAging;
+    private TowerInserter mTowerInserter;
+    private GameConfigurationLoader mGameConfigurationLoader;
+    private WaveManager mWaveManager;
+    private GameSpeed mSpeedManager;
+    private GameState mGameState;
+    private GameRecovery mGameRecovery;
+
+    private final ExecutorService mStageExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "GameFactory");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final Future<?> mEngineStage;
+    private final Future<?> mGameplayStage;
+
+    // only what the menus need is created on the calling thread, the rest is wired in the background
+    public GameFactory(final Context context, final StartupTimer startupTimer) {
+        // Menu
+        long startTime = startupTimer.getTime();
         mThemeManager = new ThemeManager(context);
         mSoundManager = new SoundManager(context);
-        mSpriteFactory = new SpriteFactory(context, mThemeManager);
+        mSettingsManager = new SettingsManager(context, mThemeManager, mSoundManager);
+        mMapRepository = new MapRepository();
+        startupTimer.stageFinished("menu", startTime);
+
+        mEngineStage = mStageExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                createEngine(context, startupTimer);
+            }
+        });
+
+        mGameplayStage = mStageExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                awaitStage(mEngineStage);
+                createGameplay(context, startupTimer);
+            }
+        });
+    }
+
+    public boolean isGameplayReady() {
+        return mGameplayStage.isDone();
+    }
+
+    // runs on the main thread once the gameplay stage has finished or failed
+    public void runWhenGameplayReady(final Runnable runnable) {
+        final Handler handler = new Handler(Looper.getMainLooper());
+
+        mStageExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                handler.post(runnable);
+            }
+        });
+    }
+
+    private void createEngine(Context context, StartupTimer startupTimer) {
+        long startTime = startupTimer.getTime();
         mSoundFactory = new SoundFactory(context, mSoundManager);
         mViewport = new Viewport();
         mFrameRateLogger = new FrameRateLogger();
         mEntityStore = new EntityStore();
         mMessageQueue = new MessageQueue();
+        mChangeNotifier = new ChangeNotifier(mFrameRateLogger);
         mRenderer = new Renderer(mViewport, mThemeManager, mFrameRateLogger);
-        mGameLoop = new GameLoop(mRenderer, mFrameRateLogger);
-        mGameEngine = new GameEngine(mSpriteFactory, mThemeManager, mSoundFactory, mEntityStore, mMessageQueue, mRenderer, mGameLoop);
+        mSpriteFactory = new SpriteFactory(context, mThemeManager, mViewport, mRenderer);
+        mGameLoop = new GameLoop(mRenderer, mChangeNotifier, mFrameRateLogger);
+        mGameEngine = new GameEngine(mSpriteFactory, mThemeManager, mSoundFactory, mEntityStore, mMessageQueue, mChangeNotifier, mRenderer, mGameLoop);
         mEntityRegistry = new EntityRegistry(mGameEngine);
+        mEntityMetadataRegistry = new EntityMetadataRegistry(mGameEngine);
+        mEntitySpritePreloader = new EntitySpritePreloader(mSpriteFactory);
         mGamePersister = new GamePersister();
+        mCommandJournal = new CommandJournal(mGameEngine, new File(context.getFilesDir(), "journal.bin"));
 
-        registerEntities();
+        registerFactories();
+        mSettingsManager.setGameEngine(mGameEngine);
+        startupTimer.stageFinished("engine", startTime);
+    }
 
-        // Business
-        mMapRepository = new MapRepository();
+    private void createGameplay(Context context, StartupTimer startupTimer) {
+        long startTime = startupTimer.getTime();
         mScoreBoard = new ScoreBoard(mGameEngine);
         mGameState = new GameState(mGameEngine, mThemeManager, mScoreBoard);
-        mGameConfigurationLoader = new GameConfigurationLoader(context, mGameEngine, mScoreBoard, mGameState, mViewport, mEntityRegistry, mMapRepository);
+        mGameConfigurationLoader = new GameConfigurationLoader(context, mGameEngine, mScoreBoard, mGameState, mViewport, mEntityRegistry, mEntityMetadataRegistry, mEntitySpritePreloader, mMapRepository, startupTimer);
         mTowerAging = new TowerAging(mGameEngine);
         mSpeedManager = new GameSpeed(mGameEngine);
-        mWaveManager = new WaveManager(mGameEngine, mScoreBoard, mGameState, mEntityRegistry, mTowerAging);
+        mWaveManager = new WaveManager(mGameEngine, mScoreBoard, mGameState, mEntityRegistry, mEntityMetadataRegistry, mTowerAging, mCommandJournal);
         mHighScores = new HighScores(context, mGameState, mScoreBoard, mGameConfigurationLoader);
         mTowerSelector = new TowerSelector(mGameEngine, mGameState, mScoreBoard);
-        mTowerControl = new TowerControl(mGameEngine, mScoreBoard, mTowerSelector, mEntityRegistry);
-        mTowerInserter = new TowerInserter(mGameEngine, mGameState, mEntityRegistry, mTowerSelector, mTowerAging, mScoreBoard);
-        mSettingsManager = new SettingsManager(context, mThemeManager, mSoundManager);
+        mTowerControl = new TowerControl(mGameEngine, mScoreBoard, mTowerSelector, mEntityRegistry, mCommandJournal);
+        mTowerInserter = new TowerInserter(mGameEngine, mGameState, mEntityRegistry, mEntityMetadataRegistry, mTowerSelector, mTowerAging, mScoreBoard, mCommandJournal);
 
         registerPersisters();
-        
-        mGameState.restart();
-    }
-
-    private void registerEntities() {
-        mEntityRegistry.registerEntity(new BasicPlateau.Factory());
+        mGameRecovery = new GameRecovery(context, mGameEngine, mGameState, mWaveManager, mTowerInserter, mGamePersister, mCommandJournal);
+        startupTimer.stageFinished("gameplay", startTime);
 
-        mEntityRegistry.registerEntity(new Blob.Factory());
-        mEntityRegistry.registerEntity(new Flyer.Factory());
-        mEntityRegistry.registerEntity(new Healer.Factory());
-        mEntityRegistry.registerEntity(new Soldier.Factory());
-        mEntityRegistry.registerEntity(new Sprinter.Factory());
+        // the game starts or is recovered on the game thread, after the configuration has been loaded
+        mGameRecovery.startGame();
+    }
 
-        mEntityRegistry.registerEntity(new Canon.Factory());
-        mEntityRegistry.registerEntity(new DualCanon.Factory());
-        mEntityRegistry.registerEntity(new MachineGun.Factory());
-        mEntityRegistry.registerEntity(new SimpleLaser.Factory());
-        mEntityRegistry.registerEntity(new BouncingLaser.Factory());
-        mEntityRegistry.registerEntity(new StraightLaser.Factory());
-        mEntityRegistry.registerEntity(new Mortar.Factory());
-        mEntityRegistry.registerEntity(new MineLayer.Factory());
-        mEntityRegistry.registerEntity(new RocketLauncher.Factory());
-        mEntityRegistry.registerEntity(new GlueTower.Factory());
-        mEntityRegistry.registerEntity(new GlueGun.Factory());
-        mEntityRegistry.registerEntity(new Teleporter.Factory());
+    // a failed stage fails every caller that needs it, not only the first one
+    private static void awaitStage(Future<?> stage) {
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    stage.get();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Could not create game!", e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 
+    private void registerFactories() {
+        mEntityStore.setRanking(Types.ENEMY, Enemy.distanceRemainingRanking());
+
+        List<EntityFactory> factories = Arrays.<EntityFactory>asList(
+                new BasicPlateau.Factory(),
+
+                new Blob.Factory(),
+                new Flyer.Factory(),
+                new Healer.Factory(),
+                new Soldier.Factory(),
+                new Sprinter.Factory(),
+
+                new Canon.Factory(),
+                new DualCanon.Factory(),
+                new MachineGun.Factory(),
+                new SimpleLaser.Factory(),
+                new BouncingLaser.Factory(),
+                new StraightLaser.Factory(),
+                new Mortar.Factory(),
+                new MineLayer.Factory(),
+                new RocketLauncher.Factory(),
+                new GlueTower.Factory(),
+                new GlueGun.Factory(),
+                new Teleporter.Factory()
+        );
+
+        for (EntityFactory factory : factories) {
+            mEntityRegistry.registerEntity(factory);
+
+            if (factory instanceof EntityMetadataFactory) {
+                mEntityMetadataRegistry.registerMetadata((EntityMetadataFactory) factory);
+            }
+
+            if (factory instanceof EntitySpriteFactory) {
+                mEntitySpritePreloader.registerSprites((EntitySpriteFactory) factory);
+            }
+        }
     }
 
     private void registerPersisters() {
+        mGamePersister.registerPersister(mGameEngine);
         mGamePersister.registerPersister(mEntityRegistry);
         mGamePersister.registerPersister(mMessageQueue);
         mGamePersister.registerPersister(mGameConfigurationLoader);
@@ -172,46 +300,57 @@ public class GameFactory {
     }
 
     public Viewport getViewport() {
+        awaitStage(mEngineStage);
         return mViewport;
     }
 
     public Renderer getRenderer() {
+        awaitStage(mEngineStage);
         return mRenderer;
     }
 
     public GameEngine getGameEngine() {
+        awaitStage(mEngineStage);
         return mGameEngine;
     }
 
     public ScoreBoard getScoreBoard() {
+        awaitStage(mGameplayStage);
         return mScoreBoard;
     }
 
     public TowerSelector getTowerSelector() {
+        awaitStage(mGameplayStage);
         return mTowerSelector;
     }
 
     public TowerControl getTowerControl() {
+        awaitStage(mGameplayStage);
         return mTowerControl;
     }
 
     public TowerInserter getTowerInserter() {
+        awaitStage(mGameplayStage);
         return mTowerInserter;
     }
 
     public GameConfigurationLoader getGameConfigurationLoader() {
+        awaitStage(mGameplayStage);
         return mGameConfigurationLoader;
     }
 
     public WaveManager getWaveManager() {
+        awaitStage(mGameplayStage);
         return mWaveManager;
     }
 
     public GameSpeed getSpeedManager() {
+        awaitStage(mGameplayStage);
         return mSpeedManager;
     }
 
     public GameState getGameState() {
+        awaitStage(mGameplayStage);
         return mGameState;
     }
 
@@ -224,7 +363,18 @@ public class GameFactory {
     }
 
     public HighScores getHighScores() {
+        awaitStage(mGameplayStage);
         return mHighScores;
     }
 
+    public EntityRegistry getEntityRegistry() {
+        awaitStage(mEngineStage);
+        return mEntityRegistry;
+    }
+
+    public GameRecovery getGameRecovery() {
+        awaitStage(mGameplayStage);
+        return mGameRecovery;
+    }
+
 }
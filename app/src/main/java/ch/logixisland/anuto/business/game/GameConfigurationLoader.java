@@ -2,6 +2,11 @@ package ch.logixisland.anuto.business.game;
 
 import android.content.Context;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.business.score.ScoreBoard;
 import ch.logixisland.anuto.data.game.GameDescriptorRoot;
@@ -11,11 +16,17 @@ import ch.logixisland.anuto.data.map.MapRepository;
 import ch.logixisland.anuto.data.map.PlateauDescriptor;
 import ch.logixisland.anuto.data.setting.GameSettingsRoot;
 import ch.logixisland.anuto.data.setting.enemy.EnemySettingsRoot;
+import ch.logixisland.anuto.data.setting.tower.TowerSettings;
 import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
+import ch.logixisland.anuto.data.wave.EnemyDescriptor;
+import ch.logixisland.anuto.data.wave.WaveDescriptor;
 import ch.logixisland.anuto.data.wave.WaveDescriptorRoot;
 import ch.logixisland.anuto.engine.logic.GameConfiguration;
 import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.StartupTimer;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataRegistry;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpritePreloader;
 import ch.logixisland.anuto.engine.logic.loop.Message;
 import ch.logixisland.anuto.engine.logic.persistence.Persister;
 import ch.logixisland.anuto.engine.render.Viewport;
@@ -28,25 +39,33 @@ public class GameConfigurationLoader implements Persister, GameStateListener {
     private final Viewport mViewport;
     private final ScoreBoard mScoreBoard;
     private final EntityRegistry mEntityRegistry;
+    private final EntityMetadataRegistry mEntityMetadataRegistry;
+    private final EntitySpritePreloader mEntitySpritePreloader;
     private final GameState mGameState;
     private final MapRepository mMapRepository;
+    private final StartupTimer mStartupTimer;
 
-    private MapInfo mMapInfo;
+    private volatile MapInfo mMapInfo;
 
     public GameConfigurationLoader(Context context, GameEngine gameEngine, ScoreBoard scoreBoard,
                                    GameState gameState, Viewport viewport,
-                                   EntityRegistry entityRegistry, MapRepository mapRepository) {
+                                   EntityRegistry entityRegistry, EntityMetadataRegistry entityMetadataRegistry,
+                                   EntitySpritePreloader entitySpritePreloader, MapRepository mapRepository,
+                                   StartupTimer startupTimer) {
         mContext = context;
         mGameEngine = gameEngine;
         mViewport = viewport;
         mScoreBoard = scoreBoard;
         mEntityRegistry = entityRegistry;
+        mEntityMetadataRegistry = entityMetadataRegistry;
+        mEntitySpritePreloader = entitySpritePreloader;
         mGameState = gameState;
         mMapRepository = mapRepository;
+        mStartupTimer = startupTimer;
 
         mGameState.addListener(this);
 
-        setGameConfiguration(mMapRepository.getMapInfos().get(0));
+        loadInitialGameConfiguration(mMapRepository.getMapInfos().get(0));
     }
 
     public MapInfo getMapInfo() {
@@ -72,17 +91,45 @@ public class GameConfigurationLoader implements Persister, GameStateListener {
         mGameState.restart();
     }
 
+    // parsing the settings takes a while, so the first map is loaded while the activity starts up
+    private void loadInitialGameConfiguration(final MapInfo mapInfo) {
+        mMapInfo = mapInfo;
+
+        FutureTask<GameConfiguration> load = new FutureTask<>(new Callable<GameConfiguration>() {
+            @Override
+            public GameConfiguration call() {
+                long startTime = mStartupTimer.getTime();
+                GameConfiguration configuration = loadGameConfiguration(mapInfo);
+
+                // another map may have been loaded in the meantime
+                if (mMapInfo == mapInfo) {
+                    mGameEngine.setGameConfiguration(configuration);
+                }
+
+                mStartupTimer.stageFinished("configuration", startTime);
+                return configuration;
+            }
+        });
+
+        // a failed load is rethrown to everyone waiting for the configuration
+        mGameEngine.setGameConfigurationLoad(load);
+        new Thread(load, "GameConfigurationLoader").start();
+    }
+
     private void setGameConfiguration(MapInfo mapInfo) {
         mMapInfo = mapInfo;
+        mGameEngine.setGameConfiguration(loadGameConfiguration(mapInfo));
+    }
 
+    private GameConfiguration loadGameConfiguration(MapInfo mapInfo) {
         try {
-            mGameEngine.setGameConfiguration(new GameConfiguration(
+            return new GameConfiguration(
                     GameSettingsRoot.fromXml(mContext, R.raw.game_settings),
                     EnemySettingsRoot.fromXml(mContext, R.raw.enemy_settings),
                     TowerSettingsRoot.fromXml(mContext, R.raw.tower_settings),
                     MapDescriptorRoot.fromXml(mContext, mapInfo.getMapDescriptorResId()),
                     WaveDescriptorRoot.fromXml(mContext, R.raw.wave_descriptors)
-            ));
+            );
         } catch (Exception e) {
             throw new RuntimeException("Could not load map!", e);
         }
@@ -90,9 +137,12 @@ public class GameConfigurationLoader implements Persister, GameStateListener {
 
     @Override
     public void gameRestart() {
+        long startTime = mStartupTimer.getTime();
         mGameEngine.clear();
 
         GameConfiguration configuration = mGameEngine.getGameConfiguration();
+        mViewport.setGameSize(configuration.getMapDescriptorRoot().getWidth(), configuration.getMapDescriptorRoot().getHeight());
+        preloadSprites(configuration);
 
         for (PlateauDescriptor descriptor : configuration.getMapDescriptorRoot().getPlateaus()) {
             Plateau plateau = (Plateau) mEntityRegistry.createEntity(descriptor.getName());
@@ -100,8 +150,36 @@ public class GameConfigurationLoader implements Persister, GameStateListener {
             mGameEngine.add(plateau);
         }
 
-        mViewport.setGameSize(configuration.getMapDescriptorRoot().getWidth(), configuration.getMapDescriptorRoot().getHeight());
+        mEntitySpritePreloader.awaitPreload();
         mScoreBoard.reset(configuration.getGameSettingsRoot().getLives(), configuration.getGameSettingsRoot().getCredits());
+
+        mStartupTimer.stageFinished("restart", startTime);
+        mStartupTimer.finish();
+    }
+
+    // decodes every sheet the map can need in the background, so none is decoded during the game
+    private void preloadSprites(GameConfiguration configuration) {
+        Set<String> names = new HashSet<>();
+
+        for (PlateauDescriptor descriptor : configuration.getMapDescriptorRoot().getPlateaus()) {
+            names.add(descriptor.getName());
+        }
+
+        for (WaveDescriptor wave : configuration.getWaveDescriptorRoot().getWaves()) {
+            for (EnemyDescriptor enemy : wave.getEnemies()) {
+                names.add(enemy.getName());
+            }
+        }
+
+        for (String towerName : configuration.getTowerSettingsRoot().getTowerSlots().getTowerNames()) {
+            while (towerName != null && names.add(towerName)) {
+                towerName = mEntityMetadataRegistry.getMetadata(towerName, TowerSettings.class).getUpgrade();
+            }
+        }
+
+        for (String name : names) {
+            mEntitySpritePreloader.preload(name);
+        }
     }
 
     @Override
@@ -119,5 +197,6 @@ public class GameConfigurationLoader implements Persister, GameStateListener {
         setGameConfiguration(mMapRepository.getMapById(gameDescriptor.getMapId()));
         GameConfiguration configuration = mGameEngine.getGameConfiguration();
         mViewport.setGameSize(configuration.getMapDescriptorRoot().getWidth(), configuration.getMapDescriptorRoot().getHeight());
+        preloadSprites(configuration);
     }
 }
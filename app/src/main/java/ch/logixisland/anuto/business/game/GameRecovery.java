@@ -0,0 +1,226 @@
+package ch.logixisland.anuto.business.game;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import ch.logixisland.anuto.business.tower.TowerInserter;
+import ch.logixisland.anuto.business.wave.WaveListener;
+import ch.logixisland.anuto.business.wave.WaveManager;
+import ch.logixisland.anuto.data.game.GameDescriptorRoot;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.engine.logic.persistence.CommandJournal;
+import ch.logixisland.anuto.engine.logic.persistence.GamePersister;
+
+/**
+ * Keeps a checkpoint of the running game and restores it together with the command journal when
+ * the app was killed. Checkpoints are taken when no enemies are on the map, the journal covers
+ * everything that happens in between. Late games may never be free of enemies, so a checkpoint
+ * is also taken with enemies on the map once the journal gets long. Shots and effects are not
+ * part of it, the replay after such a checkpoint is close to the recorded game but not exact.
+ */
+public class GameRecovery implements GameStateListener, WaveListener {
+
+    private final static String TAG = GameRecovery.class.getSimpleName();
+
+    private static final float MIN_CHECKPOINT_INTERVAL = 30f;
+    private static final float MAX_CHECKPOINT_INTERVAL = 300f;
+
+    private final GameEngine mGameEngine;
+    private final GameState mGameState;
+    private final WaveManager mWaveManager;
+    private final TowerInserter mTowerInserter;
+    private final GamePersister mGamePersister;
+    private final CommandJournal mCommandJournal;
+    private final File mCheckpointFile;
+    private final File mCheckpointTempFile;
+    private final List<GameRecoveryListener> mListeners = new CopyOnWriteArrayList<>();
+
+    private boolean mEnabled = true;
+    private boolean mRecovering;
+    private int mCheckpointTickCount;
+
+    private final Message mCheckpointMessage = new Message() {
+        @Override
+        public void execute() {
+            writeCheckpoint();
+        }
+    };
+
+    private final Message mRecoveryMessage = new Message() {
+        @Override
+        public void execute() {
+            recover();
+        }
+    };
+
+    public GameRecovery(Context context, GameEngine gameEngine, GameState gameState, WaveManager waveManager,
+                        TowerInserter towerInserter, GamePersister gamePersister, CommandJournal commandJournal) {
+        mGameEngine = gameEngine;
+        mGameState = gameState;
+        mWaveManager = waveManager;
+        mTowerInserter = towerInserter;
+        mGamePersister = gamePersister;
+        mCommandJournal = commandJournal;
+        mCheckpointFile = new File(context.getFilesDir(), "checkpoint.xml");
+        mCheckpointTempFile = new File(context.getFilesDir(), "checkpoint.xml.tmp");
+
+        mGameState.addListener(this);
+        mWaveManager.addListener(this);
+    }
+
+    // continues the last game if the app was killed while it was running, otherwise starts a new one
+    public void startGame() {
+        if (mCheckpointFile.exists()) {
+            // the game state may only be replaced between two ticks
+            mGameEngine.notifyChanged(mRecoveryMessage);
+        } else {
+            mGameState.restart();
+        }
+    }
+
+    public void addListener(GameRecoveryListener listener) {
+        mListeners.add(listener);
+    }
+
+    public void removeListener(GameRecoveryListener listener) {
+        mListeners.remove(listener);
+    }
+
+    // a disabled recovery forgets the running game and takes no checkpoints, call from the game thread
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+
+        if (!enabled) {
+            mCommandJournal.delete();
+            mCheckpointFile.delete();
+        }
+    }
+
+    @Override
+    public void gameRestart() {
+        mGameEngine.notifyChanged(mCheckpointMessage);
+    }
+
+    @Override
+    public void gameOver() {
+        mCommandJournal.delete();
+        mCheckpointFile.delete();
+    }
+
+    @Override
+    public void waveNumberChanged() {
+
+    }
+
+    @Override
+    public void nextWaveReadyChanged() {
+
+    }
+
+    @Override
+    public void remainingEnemiesCountChanged() {
+        if (mRecovering || mGameState.isGameOver()) {
+            return;
+        }
+
+        float seconds = mWaveManager.getRemainingEnemiesCount() > 0 ? MAX_CHECKPOINT_INTERVAL : MIN_CHECKPOINT_INTERVAL;
+        int interval = Math.round(seconds * mGameEngine.getTargetFrameRate());
+
+        if (mGameEngine.getTickCount() - mCheckpointTickCount >= interval) {
+            mGameEngine.notifyChanged(mCheckpointMessage);
+        }
+    }
+
+    private void writeCheckpoint() {
+        // a tower being placed is not part of the game yet
+        if (!mEnabled || mRecovering || mGameState.isGameOver() || mTowerInserter.isInsertingTower()) {
+            return;
+        }
+
+        try {
+            FileOutputStream stream = new FileOutputStream(mCheckpointTempFile);
+
+            try {
+                mGamePersister.saveGame(stream);
+                stream.getFD().sync();
+            } finally {
+                stream.close();
+            }
+
+            if (!mCheckpointTempFile.renameTo(mCheckpointFile)) {
+                throw new IOException("Could not replace checkpoint!");
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Could not write checkpoint!", e);
+            return;
+        }
+
+        mCheckpointTickCount = mGameEngine.getTickCount();
+        mCommandJournal.open();
+    }
+
+    private void recover() {
+        final long startTime = System.nanoTime();
+        mRecovering = true;
+
+        try {
+            GameDescriptorRoot gameDescriptor;
+            InputStream stream = new FileInputStream(mCheckpointFile);
+
+            try {
+                gameDescriptor = mGamePersister.readGame(stream);
+            } finally {
+                stream.close();
+            }
+
+            // the replay only matches the recorded game at the same tick rate
+            if (gameDescriptor.getTargetFrameRate() > 0) {
+                mGameEngine.clear(gameDescriptor.getTargetFrameRate());
+            } else {
+                mGameEngine.clear();
+            }
+
+            mGamePersister.loadGame(gameDescriptor);
+            mWaveManager.linkLoadedEnemies();
+
+            int checkpointTickCount = mGameEngine.getTickCount();
+            int lastTickCount = mCommandJournal.exists() ? mCommandJournal.replay() : checkpointTickCount;
+            final int ticks = lastTickCount - checkpointTickCount;
+
+            if (mWaveManager.getWaveNumber() > 0) {
+                mGameState.setGameStarted();
+            }
+
+            mGameEngine.postAfterTicks(new Message() {
+                @Override
+                public void execute() {
+                    long recoveryTime = (System.nanoTime() - startTime) / 1000000L;
+                    Log.i(TAG, String.format("Recovered game and replayed %d ticks in %d ms", ticks, recoveryTime));
+                    mRecovering = false;
+                    mGameEngine.notifyChanged(mCheckpointMessage);
+
+                    for (GameRecoveryListener listener : mListeners) {
+                        listener.gameRecovered(ticks, recoveryTime);
+                    }
+                }
+            }, ticks);
+
+            mGameEngine.catchUp(ticks);
+        } catch (Exception e) {
+            Log.e(TAG, "Could not recover game!", e);
+            mRecovering = false;
+            mCommandJournal.delete();
+            mCheckpointFile.delete();
+            mGameState.restart();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package ch.logixisland.anuto.business.game;
+
+public interface GameRecoveryListener {
+    void gameRecovered(int replayedTicks, long recoveryTime);
+}
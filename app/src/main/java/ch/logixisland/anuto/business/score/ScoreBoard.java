@@ -22,6 +22,24 @@ public class ScoreBoard implements Persister {
     private final List<LivesListener> mLivesListeners = new CopyOnWriteArrayList<>();
     private final List<BonusListener> mBonusListeners = new CopyOnWriteArrayList<>();
 
+    private final Message mCreditsNotification = new Message() {
+        @Override
+        public void execute() {
+            for (CreditsListener listener : mCreditsListeners) {
+                listener.creditsChanged(mCredits);
+            }
+        }
+    };
+
+    private final Message mBonusNotification = new Message() {
+        @Override
+        public void execute() {
+            for (BonusListener listener : mBonusListeners) {
+                listener.bonusChanged(mWaveBonus, mEarlyBonus);
+            }
+        }
+    };
+
     public ScoreBoard(GameEngine gameEngine) {
         mGameEngine = gameEngine;
     }
@@ -177,15 +195,11 @@ public class ScoreBoard implements Persister {
     }
 
     private void bonusChanged() {
-        for (BonusListener listener : mBonusListeners) {
-            listener.bonusChanged(mWaveBonus, mEarlyBonus);
-        }
+        mGameEngine.notifyChanged(mBonusNotification);
     }
 
     private void creditsChanged() {
-        for (CreditsListener listener : mCreditsListeners) {
-            listener.creditsChanged(mCredits);
-        }
+        mGameEngine.notifyChanged(mCreditsNotification);
     }
 
     private void livesChanged() {
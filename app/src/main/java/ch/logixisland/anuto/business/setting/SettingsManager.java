@@ -5,6 +5,8 @@ import android.content.SharedPreferences;
 import android.preference.PreferenceManager;
 
 import ch.logixisland.anuto.R;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.loop.GameLoop;
 import ch.logixisland.anuto.engine.sound.SoundManager;
 import ch.logixisland.anuto.engine.theme.ThemeManager;
 
@@ -14,10 +16,12 @@ public class SettingsManager implements SharedPreferences.OnSharedPreferenceChan
     public static final String PREF_SOUND_ENABLED = "sound_enabled";
     public static final String PREF_TRANSPARENT_MENUS_ENABLED = "transparent_menus_enabled";
     public static final String PREF_BACK_BUTTON_MODE = "back_button_mode";
+    public static final String PREF_TICK_RATE = "tick_rate";
 
     private final SharedPreferences mPreferences;
     private final ThemeManager mThemeManager;
     private final SoundManager mSoundManager;
+    private volatile GameEngine mGameEngine;
 
     public SettingsManager(Context context, ThemeManager themeManager, SoundManager soundManager) {
         PreferenceManager.setDefaultValues(context, R.xml.settings, false);
@@ -31,6 +35,12 @@ public class SettingsManager implements SharedPreferences.OnSharedPreferenceChan
         updateSoundEnabled();
     }
 
+    // the engine is created after the menus are up
+    public void setGameEngine(GameEngine gameEngine) {
+        mGameEngine = gameEngine;
+        updateTickRate();
+    }
+
     public boolean isTransparentMenusEnabled() {
         return mPreferences.getBoolean(PREF_TRANSPARENT_MENUS_ENABLED, false);
     }
@@ -53,6 +63,14 @@ public class SettingsManager implements SharedPreferences.OnSharedPreferenceChan
         return mPreferences.getBoolean(PREF_SOUND_ENABLED, false);
     }
 
+    private int getTickRate() {
+        try {
+            return Integer.valueOf(mPreferences.getString(PREF_TICK_RATE, null));
+        } catch (Exception e) {
+            return GameLoop.DEFAULT_TARGET_FRAME_RATE;
+        }
+    }
+
     @Override
     public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key) {
         if (PREF_THEME_INDEX.equals(key)) {
@@ -62,6 +80,10 @@ public class SettingsManager implements SharedPreferences.OnSharedPreferenceChan
         if (PREF_SOUND_ENABLED.equals(key)) {
             updateSoundEnabled();
         }
+
+        if (PREF_TICK_RATE.equals(key)) {
+            updateTickRate();
+        }
     }
 
     private void updateThemeIndex() {
@@ -71,4 +93,12 @@ public class SettingsManager implements SharedPreferences.OnSharedPreferenceChan
     private void updateSoundEnabled() {
         mSoundManager.setSoundEnabled(isSoundEnabled());
     }
+
+    private void updateTickRate() {
+        GameEngine gameEngine = mGameEngine;
+
+        if (gameEngine != null) {
+            gameEngine.setTargetFrameRate(getTickRate());
+        }
+    }
 }
@@ -7,24 +7,40 @@ import ch.logixisland.anuto.business.score.ScoreBoard;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
 import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.engine.logic.persistence.CommandJournal;
+import ch.logixisland.anuto.engine.logic.persistence.CommandReplayer;
 import ch.logixisland.anuto.entity.plateau.Plateau;
 import ch.logixisland.anuto.entity.tower.AimingTower;
 import ch.logixisland.anuto.entity.tower.Tower;
 import ch.logixisland.anuto.entity.tower.TowerStrategy;
 
-public class TowerControl {
+public class TowerControl implements CommandReplayer {
+
+    private static final String COMMAND_UPGRADE = "upgradeTower";
+    private static final String COMMAND_ENHANCE = "enhanceTower";
+    private static final String COMMAND_CYCLE_STRATEGY = "cycleTowerStrategy";
+    private static final String COMMAND_TOGGLE_LOCK_TARGET = "toggleLockTarget";
+    private static final String COMMAND_SELL = "sellTower";
 
     private final GameEngine mGameEngine;
     private final ScoreBoard mScoreBoard;
     private final TowerSelector mTowerSelector;
     private final EntityRegistry mEntityRegistry;
+    private final CommandJournal mCommandJournal;
 
     public TowerControl(GameEngine gameEngine, ScoreBoard scoreBoard, TowerSelector towerSelector,
-                        EntityRegistry entityRegistry) {
+                        EntityRegistry entityRegistry, CommandJournal commandJournal) {
         mGameEngine = gameEngine;
         mScoreBoard = scoreBoard;
         mTowerSelector = towerSelector;
         mEntityRegistry = entityRegistry;
+        mCommandJournal = commandJournal;
+
+        mCommandJournal.registerReplayer(COMMAND_UPGRADE, this);
+        mCommandJournal.registerReplayer(COMMAND_ENHANCE, this);
+        mCommandJournal.registerReplayer(COMMAND_CYCLE_STRATEGY, this);
+        mCommandJournal.registerReplayer(COMMAND_TOGGLE_LOCK_TARGET, this);
+        mCommandJournal.registerReplayer(COMMAND_SELL, this);
     }
 
     public void upgradeTower() {
@@ -38,11 +54,15 @@ public class TowerControl {
             return;
         }
 
-        Tower selectedTower = mTowerSelector.getSelectedTower();
+        upgradeTower(mTowerSelector.getSelectedTower());
+    }
+
+    private void upgradeTower(Tower selectedTower) {
         if (selectedTower == null || !selectedTower.isUpgradeable()) {
             return;
         }
 
+        record(COMMAND_UPGRADE, selectedTower);
         Plateau plateau = selectedTower.getPlateau();
         selectedTower.remove();
 
@@ -80,9 +100,13 @@ public class TowerControl {
             return;
         }
 
-        Tower selectedTower = mTowerSelector.getSelectedTower();
+        enhanceTower(mTowerSelector.getSelectedTower());
+    }
+
+    private void enhanceTower(Tower selectedTower) {
         if (selectedTower != null && selectedTower.isEnhanceable()) {
             if (selectedTower.getEnhanceCost() <= mScoreBoard.getCredits()) {
+                record(COMMAND_ENHANCE, selectedTower);
                 mScoreBoard.takeCredits(selectedTower.getEnhanceCost());
                 selectedTower.enhance();
                 mTowerSelector.updateTowerInfo();
@@ -101,9 +125,13 @@ public class TowerControl {
             return;
         }
 
-        Tower selectedTower = mTowerSelector.getSelectedTower();
+        cycleTowerStrategy(mTowerSelector.getSelectedTower());
+    }
+
+    private void cycleTowerStrategy(Tower selectedTower) {
         if (selectedTower instanceof AimingTower) {
             AimingTower tower = (AimingTower) selectedTower;
+            record(COMMAND_CYCLE_STRATEGY, selectedTower);
 
             List<TowerStrategy> values = Arrays.asList(TowerStrategy.values());
             int index = values.indexOf(tower.getStrategy()) + 1;
@@ -126,9 +154,13 @@ public class TowerControl {
             return;
         }
 
-        Tower selectedTower = mTowerSelector.getSelectedTower();
+        toggleLockTarget(mTowerSelector.getSelectedTower());
+    }
+
+    private void toggleLockTarget(Tower selectedTower) {
         if (selectedTower instanceof AimingTower) {
             AimingTower tower = (AimingTower) selectedTower;
+            record(COMMAND_TOGGLE_LOCK_TARGET, selectedTower);
             tower.setLockTarget(!tower.doesLockTarget());
             mTowerSelector.updateTowerInfo();
         }
@@ -145,11 +177,46 @@ public class TowerControl {
             return;
         }
 
-        Tower selectedTower = mTowerSelector.getSelectedTower();
+        sellTower(mTowerSelector.getSelectedTower());
+    }
+
+    private void sellTower(Tower selectedTower) {
         if (selectedTower != null) {
+            record(COMMAND_SELL, selectedTower);
             mScoreBoard.giveCredits(selectedTower.getValue(), false);
             mGameEngine.remove(selectedTower);
         }
     }
 
+    @Override
+    public void replayCommand(String command, String[] arguments) {
+        Tower tower = (Tower) mGameEngine.getEntityById(Integer.parseInt(arguments[0]));
+
+        switch (command) {
+            case COMMAND_UPGRADE:
+                upgradeTower(tower);
+                break;
+
+            case COMMAND_ENHANCE:
+                enhanceTower(tower);
+                break;
+
+            case COMMAND_CYCLE_STRATEGY:
+                cycleTowerStrategy(tower);
+                break;
+
+            case COMMAND_TOGGLE_LOCK_TARGET:
+                toggleLockTarget(tower);
+                break;
+
+            case COMMAND_SELL:
+                sellTower(tower);
+                break;
+        }
+    }
+
+    private void record(String command, Tower tower) {
+        mCommandJournal.record(command, String.valueOf(tower.getEntityId()));
+    }
+
 }
@@ -1,28 +1,18 @@
 package ch.logixisland.anuto.business.tower;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
-import ch.logixisland.anuto.entity.tower.Tower;
+import ch.logixisland.anuto.data.setting.tower.TowerSettings;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataRegistry;
 
 public class TowerDefaultValue {
 
-    private final EntityRegistry mEntityRegistry;
-    private final Map<String, Integer> mTowerDefaultValue;
+    private final EntityMetadataRegistry mEntityMetadataRegistry;
 
-    public TowerDefaultValue(EntityRegistry entityRegistry) {
-        mEntityRegistry = entityRegistry;
-        mTowerDefaultValue = new HashMap<>();
+    public TowerDefaultValue(EntityMetadataRegistry entityMetadataRegistry) {
+        mEntityMetadataRegistry = entityMetadataRegistry;
     }
 
     public int getDefaultValue(String name) {
-        if (!mTowerDefaultValue.containsKey(name)) {
-            Tower tower = (Tower) mEntityRegistry.createEntity(name);
-            mTowerDefaultValue.put(name, tower.getValue());
-        }
-
-        return mTowerDefaultValue.get(name);
+        return mEntityMetadataRegistry.getMetadata(name, TowerSettings.class).getValue();
     }
 
 }
@@ -1,20 +1,33 @@
 package ch.logixisland.anuto.business.tower;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import ch.logixisland.anuto.business.game.GameState;
 import ch.logixisland.anuto.business.score.ScoreBoard;
 import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
+import ch.logixisland.anuto.engine.logic.GameConfiguration;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataRegistry;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
 import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.engine.logic.persistence.CommandJournal;
+import ch.logixisland.anuto.engine.logic.persistence.CommandReplayer;
+import ch.logixisland.anuto.engine.theme.Theme;
+import ch.logixisland.anuto.engine.theme.ThemeListener;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.plateau.Plateau;
 import ch.logixisland.anuto.entity.tower.Tower;
 import ch.logixisland.anuto.util.math.Vector2;
 
-public class TowerInserter {
+public class TowerInserter implements CommandReplayer, ThemeListener {
+
+    private static final String COMMAND_INSERT_TOWER = "insertTower";
+    private static final String COMMAND_SET_POSITION = "setInsertPosition";
+    private static final String COMMAND_BUY_TOWER = "buyTower";
+    private static final String COMMAND_CANCEL = "cancelInsert";
 
     private final GameEngine mGameEngine;
     private final GameState mGameState;
@@ -22,22 +35,38 @@ public class TowerInserter {
     private final TowerSelector mTowerSelector;
     private final TowerAging mTowerAging;
     private final ScoreBoard mScoreBoard;
+    private final CommandJournal mCommandJournal;
 
     private final TowerDefaultValue mTowerDefaultValue;
+    private final Map<String, Tower> mPreviewTowers = new HashMap<>();
+
+    private GameConfiguration mPreviewConfiguration;
 
     private Tower mInsertedTower;
     private Plateau mCurrentPlateau;
 
     public TowerInserter(GameEngine gameEngine, GameState gameState, EntityRegistry entityRegistry,
-                         TowerSelector towerSelector, TowerAging towerAging, ScoreBoard scoreBoard) {
+                         EntityMetadataRegistry entityMetadataRegistry, TowerSelector towerSelector,
+                         TowerAging towerAging, ScoreBoard scoreBoard, CommandJournal commandJournal) {
         mGameEngine = gameEngine;
         mGameState = gameState;
         mEntityRegistry = entityRegistry;
         mTowerSelector = towerSelector;
         mTowerAging = towerAging;
         mScoreBoard = scoreBoard;
+        mCommandJournal = commandJournal;
+
+        mTowerDefaultValue = new TowerDefaultValue(entityMetadataRegistry);
 
-        mTowerDefaultValue = new TowerDefaultValue(entityRegistry);
+        mCommandJournal.registerReplayer(COMMAND_INSERT_TOWER, this);
+        mCommandJournal.registerReplayer(COMMAND_SET_POSITION, this);
+        mCommandJournal.registerReplayer(COMMAND_BUY_TOWER, this);
+        mCommandJournal.registerReplayer(COMMAND_CANCEL, this);
+        mGameEngine.getThemeManager().addListener(this);
+    }
+
+    public boolean isInsertingTower() {
+        return mInsertedTower != null;
     }
 
     public void insertTower(final String towerName) {
@@ -53,14 +82,32 @@ public class TowerInserter {
 
         if (mInsertedTower == null && !mGameState.isGameOver() &&
                 mScoreBoard.getCredits() >= mTowerDefaultValue.getDefaultValue(towerName)) {
+            mCommandJournal.record(COMMAND_INSERT_TOWER, towerName);
             showTowerLevels();
             mInsertedTower = (Tower) mEntityRegistry.createEntity(towerName);
         }
     }
 
-    public Tower createPreviewTower(int slot) {
-        TowerSettingsRoot towerSettingsRoot = mGameEngine.getGameConfiguration().getTowerSettingsRoot();
-        return (Tower) mEntityRegistry.createEntity(towerSettingsRoot.getTowerSlots().getTowerOfSlot(slot));
+    public synchronized Tower createPreviewTower(int slot) {
+        GameConfiguration gameConfiguration = mGameEngine.getGameConfiguration();
+
+        // preview towers are never added to the engine, so they can be reused until the settings or the theme change
+        if (mPreviewConfiguration != gameConfiguration) {
+            mPreviewConfiguration = gameConfiguration;
+            mPreviewTowers.clear();
+        }
+
+        TowerSettingsRoot towerSettingsRoot = gameConfiguration.getTowerSettingsRoot();
+        String towerName = towerSettingsRoot.getTowerSlots().getTowerOfSlot(slot);
+        Tower previewTower = mPreviewTowers.get(towerName);
+
+        // preview towers take no entity id, so the ids only depend on what happens in the game
+        if (previewTower == null) {
+            previewTower = (Tower) mEntityRegistry.createEntity(towerName, 0);
+            mPreviewTowers.put(towerName, previewTower);
+        }
+
+        return previewTower;
     }
 
     public void setPosition(final Vector2 position) {
@@ -81,13 +128,20 @@ public class TowerInserter {
                     .min(Entity.distanceTo(position));
 
             if (closestPlateau != null) {
-                if (mCurrentPlateau == null) {
-                    mGameEngine.add(mInsertedTower);
-                    mTowerSelector.selectTower(mInsertedTower);
+                if (mCurrentPlateau != closestPlateau) {
+                    // a drag moves the tower far less often than it moves the finger, only the plateau is journalled
+                    Vector2 plateauPosition = closestPlateau.getPosition();
+                    mCommandJournal.record(COMMAND_SET_POSITION, Float.toString(plateauPosition.x()),
+                            Float.toString(plateauPosition.y()));
+
+                    if (mCurrentPlateau == null) {
+                        mGameEngine.add(mInsertedTower);
+                        mTowerSelector.selectTower(mInsertedTower);
+                    }
+
+                    mCurrentPlateau = closestPlateau;
+                    mInsertedTower.setPosition(mCurrentPlateau.getPosition());
                 }
-
-                mCurrentPlateau = closestPlateau;
-                mInsertedTower.setPosition(mCurrentPlateau.getPosition());
             } else {
                 cancel();
             }
@@ -106,6 +160,7 @@ public class TowerInserter {
         }
 
         if (mInsertedTower != null && mCurrentPlateau != null) {
+            mCommandJournal.record(COMMAND_BUY_TOWER);
             mInsertedTower.setPlateau(mCurrentPlateau);
             mInsertedTower.setEnabled(true);
 
@@ -132,6 +187,7 @@ public class TowerInserter {
         }
 
         if (mInsertedTower != null) {
+            mCommandJournal.record(COMMAND_CANCEL);
             mGameEngine.remove(mInsertedTower);
 
             hideTowerLevels();
@@ -140,6 +196,34 @@ public class TowerInserter {
         }
     }
 
+    @Override
+    public synchronized void themeChanged(Theme theme) {
+        // the sprites of the preview towers are bound to the theme they were created with
+        mPreviewConfiguration = null;
+        mPreviewTowers.clear();
+    }
+
+    @Override
+    public void replayCommand(String command, String[] arguments) {
+        switch (command) {
+            case COMMAND_INSERT_TOWER:
+                insertTower(arguments[0]);
+                break;
+
+            case COMMAND_SET_POSITION:
+                setPosition(new Vector2(Float.parseFloat(arguments[0]), Float.parseFloat(arguments[1])));
+                break;
+
+            case COMMAND_BUY_TOWER:
+                buyTower();
+                break;
+
+            case COMMAND_CANCEL:
+                cancel();
+                break;
+        }
+    }
+
     private void showTowerLevels() {
         Iterator<Tower> towers = mGameEngine.getEntitiesByType(Types.TOWER).cast(Tower.class);
 
@@ -1,28 +1,26 @@
 package ch.logixisland.anuto.business.wave;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
-import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.data.setting.enemy.EnemySettings;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataRegistry;
 
 public class EnemyDefaultHealth {
 
-    private final EntityRegistry mEntityRegistry;
-    private final Map<String, Float> mEnemyDefaultHealth;
+    private final EntityMetadataRegistry mEntityMetadataRegistry;
 
-    public EnemyDefaultHealth(EntityRegistry entityRegistry) {
-        mEntityRegistry = entityRegistry;
-        mEnemyDefaultHealth = new HashMap<>();
+    public EnemyDefaultHealth(EntityMetadataRegistry entityMetadataRegistry) {
+        mEntityMetadataRegistry = entityMetadataRegistry;
     }
 
     public float getDefaultHealth(String name) {
-        if (!mEnemyDefaultHealth.containsKey(name)) {
-            Enemy enemy = (Enemy) mEntityRegistry.createEntity(name);
-            mEnemyDefaultHealth.put(name, enemy.getMaxHealth());
-        }
+        return getEnemySettings(name).getHealth();
+    }
+
+    public int getDefaultReward(String name) {
+        return getEnemySettings(name).getReward();
+    }
 
-        return mEnemyDefaultHealth.get(name);
+    private EnemySettings getEnemySettings(String name) {
+        return mEntityMetadataRegistry.getMetadata(name, EnemySettings.class);
     }
 
 }
@@ -1,7 +1,9 @@
 package ch.logixisland.anuto.business.wave;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import ch.logixisland.anuto.business.score.ScoreBoard;
 import ch.logixisland.anuto.data.map.PathDescriptor;
@@ -20,10 +22,26 @@ class WaveAttender implements EnemyListener {
     private final GameEngine mGameEngine;
     private final ScoreBoard mScoreBoard;
     private final EntityRegistry mEntityRegistry;
+    private final EnemyDefaultHealth mEnemyDefaultHealth;
     private final WaveManager mWaveManager;
     private final WaveDescriptor mWaveDescriptor;
 
-    private final List<Enemy> mRemainingEnemies = new ArrayList<>();
+    private final Set<Enemy> mSpawnedEnemies = new HashSet<>();
+    private int mRemainingEnemiesReward;
+
+    // spawn schedule, sorted by tick; enemies are only created once they are due
+    private int[] mSpawnTicks = new int[0];
+    private int[] mSpawnDescriptorIndices = new int[0];
+    private float[] mSpawnOffsets = new float[0];
+    private int mSpawnCount;
+    private int mNextSpawnIndex;
+
+    private final Message mSpawnMessage = new Message() {
+        @Override
+        public void execute() {
+            spawnDueEnemies();
+        }
+    };
 
     private int mWaveNumber;
     private int mWaveStartTickCount;
@@ -34,10 +52,12 @@ class WaveAttender implements EnemyListener {
     private float mEnemyRewardModifier;
 
     WaveAttender(GameEngine gameEngine, ScoreBoard scoreBoard, EntityRegistry entityRegistry,
-                 WaveManager waveManager, WaveDescriptor waveDescriptor, int waveNumber) {
+                 EnemyDefaultHealth enemyDefaultHealth, WaveManager waveManager,
+                 WaveDescriptor waveDescriptor, int waveNumber) {
         mGameEngine = gameEngine;
         mScoreBoard = scoreBoard;
         mEntityRegistry = entityRegistry;
+        mEnemyDefaultHealth = enemyDefaultHealth;
         mWaveManager = waveManager;
         mWaveDescriptor = waveDescriptor;
 
@@ -102,24 +122,25 @@ class WaveAttender implements EnemyListener {
         mWaveReward *= modifier;
     }
 
-    float getRemainingEnemiesReward() {
-        float totalReward = 0f;
-
-        for (Enemy enemy : mRemainingEnemies) {
-            totalReward += enemy.getReward();
-        }
-
-        return totalReward;
+    int getRemainingEnemiesReward() {
+        return mRemainingEnemiesReward;
     }
 
+    // the enemies due up to the current tick were spawned before the checkpoint was taken
     void start(int waveStartTickCount) {
         mWaveStartTickCount = waveStartTickCount;
-        scheduleEnemies();
+        scheduleEnemies(mGameEngine.getTickCount() + 1);
     }
 
     void start() {
         mWaveStartTickCount = mGameEngine.getTickCount();
-        scheduleEnemies();
+        scheduleEnemies(mWaveStartTickCount);
+    }
+
+    void addLoadedEnemy(Enemy enemy) {
+        mSpawnedEnemies.add(enemy);
+        mRemainingEnemiesReward += enemy.getReward();
+        enemy.addListener(this);
     }
 
     @Override
@@ -134,7 +155,10 @@ class WaveAttender implements EnemyListener {
 
     @Override
     public void enemyRemoved(Enemy enemy) {
-        mRemainingEnemies.remove(enemy);
+        if (mSpawnedEnemies.remove(enemy)) {
+            mRemainingEnemiesReward -= enemy.getReward();
+        }
+
         mWaveManager.enemyRemoved();
 
         if (getRemainingEnemiesCount() == 0) {
@@ -149,14 +173,21 @@ class WaveAttender implements EnemyListener {
     }
 
     int getRemainingEnemiesCount() {
-        return mRemainingEnemies.size();
+        return mSpawnedEnemies.size() + mSpawnCount - mNextSpawnIndex;
     }
 
-    private void scheduleEnemies() {
-        int delayTicks = mWaveStartTickCount - mGameEngine.getTickCount();
+    private void scheduleEnemies(int firstSpawnTick) {
+        int spawnTick = mWaveStartTickCount;
         float offset = 0;
 
         List<EnemyDescriptor> enemyDescriptors = mWaveDescriptor.getEnemies();
+        int capacity = enemyDescriptors.size() * (mExtend + 1);
+
+        mSpawnTicks = new int[capacity];
+        mSpawnDescriptorIndices = new int[capacity];
+        mSpawnOffsets = new float[capacity];
+        mSpawnCount = 0;
+        mNextSpawnIndex = 0;
 
         for (int extendIndex = 0; extendIndex < mExtend + 1; extendIndex++) {
             for (int enemyIndex = 0; enemyIndex < enemyDescriptors.size(); enemyIndex++) {
@@ -169,15 +200,55 @@ class WaveAttender implements EnemyListener {
                 }
 
                 if (enemyIndex > 0 || extendIndex > 0) {
-                    delayTicks += Math.round(descriptor.getDelay() * GameEngine.TARGET_FRAME_RATE);
+                    spawnTick += Math.round(descriptor.getDelay() * mGameEngine.getTargetFrameRate());
                 }
 
-                if (delayTicks >= 0) {
-                    Enemy enemy = createAndConfigureEnemy(descriptor, offset);
-                    addEnemy(enemy, delayTicks);
+                if (spawnTick >= firstSpawnTick) {
+                    mSpawnTicks[mSpawnCount] = spawnTick;
+                    mSpawnDescriptorIndices[mSpawnCount] = enemyIndex;
+                    mSpawnOffsets[mSpawnCount] = offset;
+                    mSpawnCount++;
+
+                    mRemainingEnemiesReward += getEnemyReward(descriptor);
                 }
             }
         }
+
+        if (mSpawnCount < capacity) {
+            mSpawnTicks = Arrays.copyOf(mSpawnTicks, mSpawnCount);
+            mSpawnDescriptorIndices = Arrays.copyOf(mSpawnDescriptorIndices, mSpawnCount);
+            mSpawnOffsets = Arrays.copyOf(mSpawnOffsets, mSpawnCount);
+        }
+
+        postNextSpawn();
+    }
+
+    private void spawnDueEnemies() {
+        List<EnemyDescriptor> enemyDescriptors = mWaveDescriptor.getEnemies();
+
+        while (mNextSpawnIndex < mSpawnCount && mSpawnTicks[mNextSpawnIndex] <= mGameEngine.getTickCount()) {
+            EnemyDescriptor descriptor = enemyDescriptors.get(mSpawnDescriptorIndices[mNextSpawnIndex]);
+            Enemy enemy = createAndConfigureEnemy(descriptor, mSpawnOffsets[mNextSpawnIndex]);
+            mNextSpawnIndex++;
+
+            mSpawnedEnemies.add(enemy);
+            enemy.addListener(this);
+            mGameEngine.add(enemy);
+        }
+
+        postNextSpawn();
+    }
+
+    private void postNextSpawn() {
+        if (mNextSpawnIndex < mSpawnCount) {
+            int delayTicks = mSpawnTicks[mNextSpawnIndex] - mGameEngine.getTickCount();
+            mGameEngine.postAfterTicks(mSpawnMessage, Math.max(delayTicks, 0));
+        }
+    }
+
+    private int getEnemyReward(EnemyDescriptor descriptor) {
+        // same rounding as Enemy.modifyReward() so the total matches the spawned enemies
+        return Math.round(mEnemyDefaultHealth.getDefaultReward(descriptor.getName()) * mEnemyRewardModifier);
     }
 
     private Enemy createAndConfigureEnemy(EnemyDescriptor descriptor, float offset) {
@@ -194,16 +265,4 @@ class WaveAttender implements EnemyListener {
 
         return enemy;
     }
-
-    private void addEnemy(final Enemy enemy, int delayTicks) {
-        mRemainingEnemies.add(enemy);
-        enemy.addListener(this);
-
-        mGameEngine.postAfterTicks(new Message() {
-            @Override
-            public void execute() {
-                mGameEngine.add(enemy);
-            }
-        }, delayTicks);
-    }
 }
@@ -3,6 +3,7 @@ package ch.logixisland.anuto.business.wave;
 import android.util.Log;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -15,22 +16,30 @@ import ch.logixisland.anuto.data.game.GameDescriptorRoot;
 import ch.logixisland.anuto.data.setting.GameSettingsRoot;
 import ch.logixisland.anuto.data.wave.WaveDescriptor;
 import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataRegistry;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
 import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.engine.logic.persistence.CommandJournal;
+import ch.logixisland.anuto.engine.logic.persistence.CommandReplayer;
 import ch.logixisland.anuto.engine.logic.persistence.Persister;
+import ch.logixisland.anuto.entity.Types;
+import ch.logixisland.anuto.entity.enemy.Enemy;
 
-public class WaveManager implements GameStateListener, Persister {
+public class WaveManager implements GameStateListener, Persister, CommandReplayer {
 
     private static final String TAG = WaveManager.class.getSimpleName();
 
     private static final int MAX_WAVES_IN_GAME = 3;
     private static final float MIN_WAVE_DELAY = 5;
 
+    private static final String COMMAND_START_NEXT_WAVE = "startNextWave";
+
     private final GameEngine mGameEngine;
     private final ScoreBoard mScoreBoard;
     private final GameState mGameState;
     private final TowerAging mTowerAging;
     private final EntityRegistry mEntityRegistry;
+    private final CommandJournal mCommandJournal;
 
     private final EnemyDefaultHealth mEnemyDefaultHealth;
 
@@ -42,17 +51,29 @@ public class WaveManager implements GameStateListener, Persister {
     private final List<WaveAttender> mActiveWaves = new ArrayList<>();
     private final List<WaveListener> mListeners = new CopyOnWriteArrayList<>();
 
+    private final Message mRemainingEnemiesCountNotification = new Message() {
+        @Override
+        public void execute() {
+            for (WaveListener listener : mListeners) {
+                listener.remainingEnemiesCountChanged();
+            }
+        }
+    };
+
     public WaveManager(GameEngine gameEngine, ScoreBoard scoreBoard, GameState gameState,
-                       EntityRegistry entityRegistry, TowerAging towerAging) {
+                       EntityRegistry entityRegistry, EntityMetadataRegistry entityMetadataRegistry,
+                       TowerAging towerAging, CommandJournal commandJournal) {
         mGameEngine = gameEngine;
         mScoreBoard = scoreBoard;
         mGameState = gameState;
         mTowerAging = towerAging;
         mEntityRegistry = entityRegistry;
+        mCommandJournal = commandJournal;
 
-        mEnemyDefaultHealth = new EnemyDefaultHealth(entityRegistry);
+        mEnemyDefaultHealth = new EnemyDefaultHealth(entityMetadataRegistry);
 
         gameState.addListener(this);
+        commandJournal.registerReplayer(COMMAND_START_NEXT_WAVE, this);
     }
 
     public int getWaveNumber() {
@@ -82,6 +103,7 @@ public class WaveManager implements GameStateListener, Persister {
             return;
         }
 
+        mCommandJournal.record(COMMAND_START_NEXT_WAVE);
         mGameState.setGameStarted();
 
         giveWaveRewardAndEarlyBonus();
@@ -102,6 +124,11 @@ public class WaveManager implements GameStateListener, Persister {
         mListeners.remove(listener);
     }
 
+    @Override
+    public void replayCommand(String command, String[] arguments) {
+        startNextWave();
+    }
+
     @Override
     public void gameRestart() {
         mActiveWaves.clear();
@@ -140,18 +167,18 @@ public class WaveManager implements GameStateListener, Persister {
 
         for (ActiveWaveDescriptor activeWaveDescriptor : gameDescriptor.getActiveWaveDescriptors()) {
             WaveDescriptor waveDescriptor = waveDescriptors.get(activeWaveDescriptor.getWaveNumber() % waveDescriptors.size());
-            WaveAttender waveAttender = new WaveAttender(mGameEngine, mScoreBoard, mEntityRegistry, this, waveDescriptor, activeWaveDescriptor.getWaveNumber());
+            WaveAttender waveAttender = new WaveAttender(mGameEngine, mScoreBoard, mEntityRegistry, mEnemyDefaultHealth, this, waveDescriptor, activeWaveDescriptor.getWaveNumber());
             waveAttender.setExtend(activeWaveDescriptor.getExtend());
             waveAttender.setWaveReward(activeWaveDescriptor.getWaveReward());
-            waveAttender.modifyEnemyHealth(waveAttender.getEnemyHealthModifier());
-            waveAttender.modifyEnemyReward(waveAttender.getEnemyRewardModifier());
+            waveAttender.modifyEnemyHealth(activeWaveDescriptor.getEnemyHealthModifier());
+            waveAttender.modifyEnemyReward(activeWaveDescriptor.getEnemyRewardModifier());
             waveAttender.start(activeWaveDescriptor.getWaveStartTickCount());
             mActiveWaves.add(waveAttender);
 
             lastStartedWaveTickCount = Math.max(lastStartedWaveTickCount, activeWaveDescriptor.getWaveStartTickCount());
         }
 
-        int nextWaveReadyTicks = Math.round(MIN_WAVE_DELAY * GameEngine.TARGET_FRAME_RATE) - (mGameEngine.getTickCount() - lastStartedWaveTickCount);
+        int nextWaveReadyTicks = Math.round(MIN_WAVE_DELAY * mGameEngine.getTargetFrameRate()) - (mGameEngine.getTickCount() - lastStartedWaveTickCount);
 
         if (nextWaveReadyTicks > 0) {
             setNextWaveReady(false);
@@ -164,7 +191,29 @@ public class WaveManager implements GameStateListener, Persister {
                     updateNextWaveReady();
                 }
             }, nextWaveReadyTicks);
+        } else {
+            setNextWaveReady(false);
+            mMinWaveDelayTimeout = true;
+            updateNextWaveReady();
+        }
+    }
+
+    // the enemies are loaded after the waves, call once the whole game is loaded
+    public void linkLoadedEnemies() {
+        Iterator<Enemy> enemies = mGameEngine.getEntitiesByType(Types.ENEMY).cast(Enemy.class);
+
+        while (enemies.hasNext()) {
+            Enemy enemy = enemies.next();
+
+            for (WaveAttender waveAttender : mActiveWaves) {
+                if (waveAttender.getWaveNumber() == enemy.getWaveNumber()) {
+                    waveAttender.addLoadedEnemy(enemy);
+                    break;
+                }
+            }
         }
+
+        updateRemainingEnemiesCount();
     }
 
     void enemyRemoved() {
@@ -234,17 +283,14 @@ public class WaveManager implements GameStateListener, Persister {
 
         if (mRemainingEnemiesCount != totalCount) {
             mRemainingEnemiesCount = totalCount;
-
-            for (WaveListener listener : mListeners) {
-                listener.remainingEnemiesCountChanged();
-            }
+            mGameEngine.notifyChanged(mRemainingEnemiesCountNotification);
         }
     }
 
     private void createAndStartWaveAttender() {
         List<WaveDescriptor> waveDescriptors = mGameEngine.getGameConfiguration().getWaveDescriptorRoot().getWaves();
         WaveDescriptor nextWaveDescriptor = waveDescriptors.get(mWaveNumber % waveDescriptors.size());
-        WaveAttender nextWave = new WaveAttender(mGameEngine, mScoreBoard, mEntityRegistry, this, nextWaveDescriptor, mWaveNumber);
+        WaveAttender nextWave = new WaveAttender(mGameEngine, mScoreBoard, mEntityRegistry, mEnemyDefaultHealth, this, nextWaveDescriptor, mWaveNumber);
         updateWaveExtend(nextWave, nextWaveDescriptor);
         updateWaveModifiers(nextWave);
         nextWave.start();
@@ -285,7 +331,7 @@ public class WaveManager implements GameStateListener, Persister {
     }
 
     private int getEarlyBonus() {
-        float remainingReward = 0;
+        int remainingReward = 0;
 
         for (WaveAttender wave : mActiveWaves) {
             remainingReward += wave.getRemainingEnemiesReward();
@@ -0,0 +1,410 @@
+package ch.logixisland.anuto.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import ch.logixisland.anuto.util.math.Vector2;
+
+/**
+ * Minimal streaming reader for the descriptor files. It supports elements, attributes, text,
+ * comments, CDATA sections and the predefined and numeric entities, which is all the bundled
+ * files use. Namespaces and DTDs are not supported.
+ */
+public class XmlReader {
+
+    public static final int START_TAG = 1;
+    public static final int END_TAG = 2;
+    public static final int TEXT = 3;
+    public static final int END_DOCUMENT = 4;
+
+    private final Reader mReader;
+    private final StringBuilder mBuffer = new StringBuilder();
+    private final List<String> mAttributeNames = new ArrayList<>();
+    private final List<String> mAttributeValues = new ArrayList<>();
+
+    private int mPeeked = -2;
+    private int mEvent;
+    private int mDepth;
+    private String mName;
+    private String mText;
+    private boolean mPendingEndTag;
+
+    public XmlReader(InputStream stream) {
+        this(new BufferedReader(new InputStreamReader(stream, Charset.forName("UTF-8"))));
+    }
+
+    public XmlReader(Reader reader) {
+        mReader = reader;
+    }
+
+    public int getEvent() {
+        return mEvent;
+    }
+
+    public int getDepth() {
+        return mDepth;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public String getText() {
+        return mText;
+    }
+
+    public int getAttributeCount() {
+        return mAttributeNames.size();
+    }
+
+    public String getAttributeName(int index) {
+        return mAttributeNames.get(index);
+    }
+
+    public String getAttribute(String name) {
+        int index = mAttributeNames.indexOf(name);
+        return index < 0 ? null : mAttributeValues.get(index);
+    }
+
+    public int getIntAttribute(String name, int defaultValue) {
+        String value = getAttribute(name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public float getFloatAttribute(String name, float defaultValue) {
+        String value = getAttribute(name);
+        return value == null ? defaultValue : Float.parseFloat(value.trim());
+    }
+
+    public String requireAttribute(String name) throws IOException {
+        String value = getAttribute(name);
+
+        if (value == null) {
+            throw new IOException("Missing attribute " + name + " on element " + mName + "!");
+        }
+
+        return value;
+    }
+
+    public Vector2 getVectorAttributes() throws IOException {
+        return new Vector2(Float.parseFloat(requireAttribute("x")), Float.parseFloat(requireAttribute("y")));
+    }
+
+    public static void requireElements(String element, Collection<String> found, Collection<String> required) throws IOException {
+        for (String name : required) {
+            if (!found.contains(name)) {
+                throw new IOException("Missing element " + name + " in element " + element + "!");
+            }
+        }
+    }
+
+    public IOException unexpectedElement() {
+        return new IOException("Unexpected element " + mName + "!");
+    }
+
+    public void requireRoot() throws IOException {
+        while (next() != START_TAG) {
+            if (mEvent == END_DOCUMENT) {
+                throw new IOException("Document has no root element!");
+            }
+        }
+    }
+
+    // advances to the next child element of the element at the given depth, false once it is closed
+    public boolean nextChild(int depth) throws IOException {
+        while (true) {
+            switch (next()) {
+                case START_TAG:
+                    if (mDepth == depth + 1) {
+                        return true;
+                    }
+                    break;
+
+                case END_TAG:
+                    if (mDepth < depth) {
+                        return false;
+                    }
+                    break;
+
+                case END_DOCUMENT:
+                    throw new IOException("Unexpected end of document!");
+            }
+        }
+    }
+
+    public void skip() throws IOException {
+        int depth = mDepth;
+
+        while (next() != END_TAG || mDepth >= depth) {
+            if (mEvent == END_DOCUMENT) {
+                throw new IOException("Unexpected end of document!");
+            }
+        }
+    }
+
+    public String readText() throws IOException {
+        String name = mName;
+        StringBuilder text = new StringBuilder();
+
+        while (next() != END_TAG) {
+            if (mEvent == TEXT) {
+                text.append(mText);
+            } else {
+                throw new IOException("Element " + name + " must contain text only!");
+            }
+        }
+
+        return text.toString();
+    }
+
+    public int readInt() throws IOException {
+        return Integer.parseInt(readText().trim());
+    }
+
+    public float readFloat() throws IOException {
+        return Float.parseFloat(readText().trim());
+    }
+
+    public <T extends Enum<T>> T readEnum(Class<T> type) throws IOException {
+        return Enum.valueOf(type, readText().trim());
+    }
+
+    public int next() throws IOException {
+        if (mPendingEndTag) {
+            mPendingEndTag = false;
+            mDepth--;
+            return mEvent = END_TAG;
+        }
+
+        while (true) {
+            int c = peek();
+
+            if (c < 0) {
+                return mEvent = END_DOCUMENT;
+            }
+
+            if (c != '<') {
+                mText = readCharacters();
+                return mEvent = TEXT;
+            }
+
+            read();
+            c = peek();
+
+            if (c == '/') {
+                read();
+                mName = readName();
+                skipWhitespace();
+                expect('>');
+                mDepth--;
+                return mEvent = END_TAG;
+            }
+
+            if (c == '?') {
+                skipUntil("?>");
+            } else if (c == '!') {
+                read();
+
+                if (peek() == '-') {
+                    expect('-');
+                    expect('-');
+                    skipUntil("-->");
+                } else if (peek() == '[') {
+                    expectString("[CDATA[");
+                    mText = readUntil("]]>");
+                    return mEvent = TEXT;
+                } else {
+                    skipUntil(">");
+                }
+            } else {
+                readStartTag();
+                return mEvent = START_TAG;
+            }
+        }
+    }
+
+    private void readStartTag() throws IOException {
+        mName = readName();
+        mAttributeNames.clear();
+        mAttributeValues.clear();
+        mDepth++;
+
+        while (true) {
+            skipWhitespace();
+            int c = peek();
+
+            if (c == '>') {
+                read();
+                return;
+            }
+
+            if (c == '/') {
+                read();
+                expect('>');
+                mPendingEndTag = true;
+                return;
+            }
+
+            String name = readName();
+            skipWhitespace();
+            expect('=');
+            skipWhitespace();
+
+            int quote = read();
+
+            if (quote != '"' && quote != '\'') {
+                throw new IOException("Attribute value of " + name + " is not quoted!");
+            }
+
+            mBuffer.setLength(0);
+
+            for (c = read(); c != quote; c = read()) {
+                if (c < 0) {
+                    throw new IOException("Unexpected end of document!");
+                }
+
+                appendCharacter(c);
+            }
+
+            mAttributeNames.add(name);
+            mAttributeValues.add(mBuffer.toString());
+        }
+    }
+
+    private String readCharacters() throws IOException {
+        mBuffer.setLength(0);
+
+        while (peek() >= 0 && peek() != '<') {
+            appendCharacter(read());
+        }
+
+        return mBuffer.toString();
+    }
+
+    private void appendCharacter(int c) throws IOException {
+        if (c != '&') {
+            mBuffer.append((char) c);
+            return;
+        }
+
+        StringBuilder entity = new StringBuilder();
+
+        for (c = read(); c != ';'; c = read()) {
+            if (c < 0) {
+                throw new IOException("Unterminated entity!");
+            }
+
+            entity.append((char) c);
+        }
+
+        String name = entity.toString();
+
+        if (name.startsWith("#x")) {
+            mBuffer.appendCodePoint(Integer.parseInt(name.substring(2), 16));
+        } else if (name.startsWith("#")) {
+            mBuffer.appendCodePoint(Integer.parseInt(name.substring(1)));
+        } else if (name.equals("amp")) {
+            mBuffer.append('&');
+        } else if (name.equals("lt")) {
+            mBuffer.append('<');
+        } else if (name.equals("gt")) {
+            mBuffer.append('>');
+        } else if (name.equals("quot")) {
+            mBuffer.append('"');
+        } else if (name.equals("apos")) {
+            mBuffer.append('\'');
+        } else {
+            throw new IOException("Unknown entity " + name + "!");
+        }
+    }
+
+    private String readName() throws IOException {
+        StringBuilder name = new StringBuilder();
+        int c = peek();
+
+        while (c >= 0 && !Character.isWhitespace(c) && c != '>' && c != '/' && c != '=') {
+            name.append((char) read());
+            c = peek();
+        }
+
+        if (name.length() == 0) {
+            throw new IOException("Expected a name!");
+        }
+
+        return name.toString();
+    }
+
+    private String readUntil(String terminator) throws IOException {
+        StringBuilder text = new StringBuilder();
+
+        while (text.length() < terminator.length() || !endsWith(text, terminator)) {
+            int c = read();
+
+            if (c < 0) {
+                throw new IOException("Unexpected end of document!");
+            }
+
+            text.append((char) c);
+        }
+
+        text.setLength(text.length() - terminator.length());
+        return text.toString();
+    }
+
+    private void skipUntil(String terminator) throws IOException {
+        readUntil(terminator);
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (peek() >= 0 && Character.isWhitespace(peek())) {
+            read();
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        int c = read();
+
+        if (c != expected) {
+            throw new IOException("Expected '" + expected + "' in element " + mName + "!");
+        }
+    }
+
+    private void expectString(String expected) throws IOException {
+        for (int i = 0; i < expected.length(); i++) {
+            expect(expected.charAt(i));
+        }
+    }
+
+    private int peek() throws IOException {
+        if (mPeeked == -2) {
+            mPeeked = mReader.read();
+        }
+
+        return mPeeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        mPeeked = -2;
+        return c;
+    }
+
+    private static boolean endsWith(StringBuilder text, String suffix) {
+        int offset = text.length() - suffix.length();
+
+        for (int i = 0; i < suffix.length(); i++) {
+            if (text.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
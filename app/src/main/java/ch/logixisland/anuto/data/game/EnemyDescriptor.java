@@ -3,6 +3,7 @@ package ch.logixisland.anuto.data.game;
 import org.simpleframework.xml.Element;
 import org.simpleframework.xml.ElementList;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import ch.logixisland.anuto.util.math.Vector2;
@@ -64,7 +65,7 @@ public class EnemyDescriptor extends EntityDescriptor {
     }
 
     public void setWayPoints(List<Vector2> wayPoints) {
-        mWayPoints = wayPoints;
+        mWayPoints = new ArrayList<>(wayPoints);
     }
 
     public int getWayPointIndex() {
@@ -20,6 +20,9 @@ public class GameDescriptorRoot {
     @Element(name = "tickCount")
     private int mTickCount;
 
+    @Element(name = "targetFrameRate", required = false)
+    private int mTargetFrameRate;
+
     @Element(name = "lives")
     private int mLives;
 
@@ -33,14 +36,16 @@ public class GameDescriptorRoot {
     private int mWaveNumber;
 
     @ElementList(name = "activeWaves", entry = "wave")
-    private List<ActiveWaveDescriptor> mActiveWaveDescriptors;
+    private List<ActiveWaveDescriptor> mActiveWaveDescriptors = new ArrayList<>();
 
     @Element(name = "nextEntityId")
     private int mNextEntityId;
 
     @ElementListUnion({
-            @ElementList(name = "entity", entry = "enemy", type = EnemyDescriptor.class),
-            @ElementList(name = "entity", entry = "tower", type = TowerDescriptor.class),
+            @ElementList(entry = "entity", type = EntityDescriptor.class, inline = true, required = false),
+            @ElementList(entry = "enemy", type = EnemyDescriptor.class, inline = true, required = false),
+            @ElementList(entry = "tower", type = TowerDescriptor.class, inline = true, required = false),
+            @ElementList(entry = "mineLayer", type = MineLayerDescriptor.class, inline = true, required = false)
     })
     private List<EntityDescriptor> mEntityDescriptors = new ArrayList<>();
 
@@ -70,6 +75,14 @@ public class GameDescriptorRoot {
         mTickCount = tickCount;
     }
 
+    public int getTargetFrameRate() {
+        return mTargetFrameRate;
+    }
+
+    public void setTargetFrameRate(int targetFrameRate) {
+        mTargetFrameRate = targetFrameRate;
+    }
+
     public int getLives() {
         return mLives;
     }
@@ -18,6 +18,6 @@ public class MineLayerDescriptor extends TowerDescriptor {
     }
 
     public void setMinePositions(Collection<Vector2> minePositions) {
-        mMinePositions = minePositions;
+        mMinePositions = new ArrayList<>(minePositions);
     }
 }
@@ -2,35 +2,25 @@ package ch.logixisland.anuto.data.map;
 
 import android.content.Context;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.ElementList;
-import org.simpleframework.xml.Root;
-import org.simpleframework.xml.Serializer;
-
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
-import ch.logixisland.anuto.data.SerializerFactory;
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class MapDescriptorRoot {
 
-    @Element(name = "width")
     private int mWidth;
-
-    @Element(name = "height")
     private int mHeight;
-
-    @ElementList(name = "plateaus", entry = "plateau")
     private List<PlateauDescriptor> mPlateaus = new ArrayList<>();
-
-    @ElementList(name = "paths", entry = "path")
     private List<PathDescriptor> mPaths = new ArrayList<>();
 
-    public static MapDescriptorRoot fromXml(Context context, int resId) throws Exception {
+    private PathCoverage mPathCoverage;
+
+    public static MapDescriptorRoot fromXml(Context context, int resId) throws IOException {
         InputStream stream = context.getResources().openRawResource(resId);
 
         try {
@@ -40,9 +30,56 @@ public class MapDescriptorRoot {
         }
     }
 
-    public static MapDescriptorRoot fromXml(InputStream inputStream) throws Exception {
-        Serializer serializer = new SerializerFactory().createSerializer();
-        return serializer.read(MapDescriptorRoot.class, inputStream);
+    public static MapDescriptorRoot fromXml(InputStream inputStream) throws IOException {
+        XmlReader reader = new XmlReader(inputStream);
+        reader.requireRoot();
+        return read(reader);
+    }
+
+    private static MapDescriptorRoot read(XmlReader reader) throws IOException {
+        MapDescriptorRoot map = new MapDescriptorRoot();
+        int depth = reader.getDepth();
+
+        while (reader.nextChild(depth)) {
+            switch (reader.getName()) {
+                case "width":
+                    map.mWidth = reader.readInt();
+                    break;
+
+                case "height":
+                    map.mHeight = reader.readInt();
+                    break;
+
+                case "plateaus":
+                    int plateausDepth = reader.getDepth();
+
+                    while (reader.nextChild(plateausDepth)) {
+                        if (!reader.getName().equals("plateau")) {
+                            throw reader.unexpectedElement();
+                        }
+
+                        map.mPlateaus.add(PlateauDescriptor.read(reader));
+                    }
+                    break;
+
+                case "paths":
+                    int pathsDepth = reader.getDepth();
+
+                    while (reader.nextChild(pathsDepth)) {
+                        if (!reader.getName().equals("path")) {
+                            throw reader.unexpectedElement();
+                        }
+
+                        map.mPaths.add(PathDescriptor.read(reader));
+                    }
+                    break;
+
+                default:
+                    throw reader.unexpectedElement();
+            }
+        }
+
+        return map;
     }
 
     public int getHeight() {
@@ -61,4 +98,12 @@ public class MapDescriptorRoot {
         return Collections.unmodifiableList(mPaths);
     }
 
+    public synchronized PathCoverage getPathCoverage() {
+        if (mPathCoverage == null) {
+            mPathCoverage = new PathCoverage(getPaths());
+        }
+
+        return mPathCoverage;
+    }
+
 }
@@ -0,0 +1,135 @@
+package ch.logixisland.anuto.data.map;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.logixisland.anuto.util.math.Intersections;
+import ch.logixisland.anuto.util.math.Line;
+import ch.logixisland.anuto.util.math.MathUtils;
+import ch.logixisland.anuto.util.math.Vector2;
+
+public class PathCoverage {
+
+    private static class Key {
+        private final float mX;
+        private final float mY;
+        private final float mRange;
+
+        Key(Vector2 center, float range) {
+            mX = center.x();
+            mY = center.y();
+            mRange = range;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) o;
+            return Float.compare(mX, other.mX) == 0
+                    && Float.compare(mY, other.mY) == 0
+                    && Float.compare(mRange, other.mRange) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Float.floatToIntBits(mX);
+            result = 31 * result + Float.floatToIntBits(mY);
+            result = 31 * result + Float.floatToIntBits(mRange);
+            return result;
+        }
+    }
+
+    private final Collection<PathDescriptor> mPaths;
+    private final Map<Key, PathSections> mCache = new HashMap<>();
+
+    PathCoverage(Collection<PathDescriptor> paths) {
+        mPaths = paths;
+    }
+
+    public synchronized PathSections getSectionsInRange(Vector2 center, float range) {
+        Key key = new Key(center, range);
+        PathSections sections = mCache.get(key);
+
+        if (sections == null) {
+            sections = calculateSectionsInRange(center, range);
+            mCache.put(key, sections);
+        }
+
+        return sections;
+    }
+
+    private PathSections calculateSectionsInRange(Vector2 center, float range) {
+        List<Line> sections = new ArrayList<>();
+
+        for (PathDescriptor path : mPaths) {
+            addSectionsInRange(sections, path, center, range);
+        }
+
+        return new PathSections(sections);
+    }
+
+    private static void addSectionsInRange(List<Line> sections, PathDescriptor path, Vector2 center, float range) {
+        float r2 = MathUtils.square(range);
+        List<Vector2> wayPoints = path.getWayPoints();
+
+        for (int i = 1; i < wayPoints.size(); i++) {
+            Vector2 p1 = center.to(wayPoints.get(i - 1));
+            Vector2 p2 = center.to(wayPoints.get(i));
+
+            boolean p1in = p1.len2() <= r2;
+            boolean p2in = p2.len2() <= r2;
+
+            Vector2[] is = Intersections.lineCircle(p1, p2, range);
+
+            Vector2 sectionP1;
+            Vector2 sectionP2;
+
+            if (p1in && p2in) {
+                sectionP1 = p1.add(center);
+                sectionP2 = p2.add(center);
+            } else if (!p1in && !p2in) {
+                if (is == null) {
+                    continue;
+                }
+
+                float a1 = is[0].to(p1).angle();
+                float a2 = is[0].to(p2).angle();
+
+                if (MathUtils.equals(a1, a2, 10f)) {
+                    continue;
+                }
+
+                sectionP1 = is[0].add(center);
+                sectionP2 = is[1].add(center);
+            } else {
+                float angle = p1.to(p2).angle();
+
+                if (p1in) {
+                    if (MathUtils.equals(angle, p1.to(is[0]).angle(), 10f)) {
+                        sectionP2 = is[0].add(center);
+                    } else {
+                        sectionP2 = is[1].add(center);
+                    }
+
+                    sectionP1 = p1.add(center);
+                } else {
+                    if (MathUtils.equals(angle, is[0].to(p2).angle(), 10f)) {
+                        sectionP1 = is[0].add(center);
+                    } else {
+                        sectionP1 = is[1].add(center);
+                    }
+
+                    sectionP2 = p2.add(center);
+                }
+            }
+
+            sections.add(new Line(sectionP1, sectionP2));
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package ch.logixisland.anuto.data.map;
 
-import org.simpleframework.xml.ElementList;
-import org.simpleframework.xml.Root;
-
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import ch.logixisland.anuto.data.XmlReader;
 import ch.logixisland.anuto.util.math.Vector2;
 
-@Root
 public class PathDescriptor {
 
-    @ElementList(entry = "wayPoint", inline = true)
     private List<Vector2> wayPoints = new ArrayList<>();
 
+    static PathDescriptor read(XmlReader reader) throws IOException {
+        PathDescriptor path = new PathDescriptor();
+        int depth = reader.getDepth();
+
+        while (reader.nextChild(depth)) {
+            if (!reader.getName().equals("wayPoint")) {
+                throw reader.unexpectedElement();
+            }
+
+            path.wayPoints.add(reader.getVectorAttributes());
+            reader.skip();
+        }
+
+        return path;
+    }
+
     public List<Vector2> getWayPoints() {
         return Collections.unmodifiableList(wayPoints);
     }
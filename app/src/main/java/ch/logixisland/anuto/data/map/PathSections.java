@@ -0,0 +1,69 @@
+package ch.logixisland.anuto.data.map;
+
+import java.util.Collections;
+import java.util.List;
+
+import ch.logixisland.anuto.util.math.Line;
+import ch.logixisland.anuto.util.math.Vector2;
+
+public class PathSections {
+
+    private final List<Line> mSections;
+    private final float[] mCumulativeLengths;
+
+    PathSections(List<Line> sections) {
+        mSections = Collections.unmodifiableList(sections);
+        mCumulativeLengths = new float[sections.size()];
+
+        float totalLength = 0f;
+
+        for (int i = 0; i < sections.size(); i++) {
+            totalLength += sections.get(i).length();
+            mCumulativeLengths[i] = totalLength;
+        }
+    }
+
+    public List<Line> getSections() {
+        return mSections;
+    }
+
+    public boolean isEmpty() {
+        return mSections.isEmpty();
+    }
+
+    public float getTotalLength() {
+        if (mCumulativeLengths.length == 0) {
+            return 0f;
+        }
+
+        return mCumulativeLengths[mCumulativeLengths.length - 1];
+    }
+
+    public Vector2 getPointAt(float distance) {
+        if (mSections.isEmpty()) {
+            return null;
+        }
+
+        int low = 0;
+        int high = mCumulativeLengths.length - 1;
+
+        // find the first section whose end lies at or beyond the given distance
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (mCumulativeLengths[mid] < distance) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        Line section = mSections.get(low);
+        float offset = distance - (low > 0 ? mCumulativeLengths[low - 1] : 0f);
+
+        return section.lineVector()
+                .norm()
+                .mul(offset)
+                .add(section.getPoint1());
+    }
+}
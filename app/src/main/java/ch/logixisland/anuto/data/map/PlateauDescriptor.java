@@ -1,22 +1,25 @@
 package ch.logixisland.anuto.data.map;
 
-import org.simpleframework.xml.Attribute;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
 
+import ch.logixisland.anuto.data.XmlReader;
 import ch.logixisland.anuto.util.math.Vector2;
 
-@Root
 public class PlateauDescriptor {
 
-    @Attribute(name = "name")
     private String mName;
-
-    @Attribute(name = "x")
     private float mX;
-
-    @Attribute(name = "y")
     private float mY;
 
+    static PlateauDescriptor read(XmlReader reader) throws IOException {
+        PlateauDescriptor plateau = new PlateauDescriptor();
+        plateau.mName = reader.requireAttribute("name");
+        plateau.mX = Float.parseFloat(reader.requireAttribute("x"));
+        plateau.mY = Float.parseFloat(reader.requireAttribute("y"));
+        reader.skip();
+        return plateau;
+    }
+
     public String getName() {
         return mName;
     }
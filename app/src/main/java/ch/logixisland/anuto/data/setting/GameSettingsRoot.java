@@ -2,51 +2,35 @@ package ch.logixisland.anuto.data.setting;
 
 import android.content.Context;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
-import org.simpleframework.xml.Serializer;
-
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-import ch.logixisland.anuto.data.SerializerFactory;
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class GameSettingsRoot {
 
-    @Element(name = "credits")
-    private int mCredits;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "credits", "lives", "difficultyModifier", "difficultyExponent", "difficultyLinear",
+            "minHealthModifier", "rewardModifier", "rewardExponent", "minRewardModifier",
+            "earlyModifier", "earlyExponent");
 
-    @Element(name = "lives")
+    private int mCredits;
     private int mLives;
-
-    @Element(name = "difficultyModifier")
     private float mDifficultyModifier;
-
-    @Element(name = "difficultyExponent")
     private float mDifficultyExponent;
-
-    @Element(name = "difficultyLinear")
     private float mDifficultyLinear;
-
-    @Element(name = "minHealthModifier")
     private float mMinHealthModifier;
-
-    @Element(name = "rewardModifier")
     private float mRewardModifier;
-
-    @Element(name = "rewardExponent")
     private float mRewardExponent;
-
-    @Element(name = "minRewardModifier")
     private float mMinRewardModifier;
-
-    @Element(name = "earlyModifier")
     private float mEarlyModifier;
-
-    @Element(name = "earlyExponent")
     private float mEarlyExponent;
 
-    public static GameSettingsRoot fromXml(Context context, int resId) throws Exception {
+    public static GameSettingsRoot fromXml(Context context, int resId) throws IOException {
         InputStream stream = context.getResources().openRawResource(resId);
 
         try {
@@ -56,9 +40,73 @@ public class GameSettingsRoot {
         }
     }
 
-    public static GameSettingsRoot fromXml(InputStream stream) throws Exception {
-        Serializer serializer = new SerializerFactory().createSerializer();
-        return serializer.read(GameSettingsRoot.class, stream);
+    public static GameSettingsRoot fromXml(InputStream stream) throws IOException {
+        XmlReader reader = new XmlReader(stream);
+        reader.requireRoot();
+        return read(reader);
+    }
+
+    private static GameSettingsRoot read(XmlReader reader) throws IOException {
+        GameSettingsRoot settings = new GameSettingsRoot();
+        String name = reader.getName();
+        int depth = reader.getDepth();
+        Set<String> elements = new HashSet<>();
+
+        while (reader.nextChild(depth)) {
+            elements.add(reader.getName());
+
+            switch (reader.getName()) {
+                case "credits":
+                    settings.mCredits = reader.readInt();
+                    break;
+
+                case "lives":
+                    settings.mLives = reader.readInt();
+                    break;
+
+                case "difficultyModifier":
+                    settings.mDifficultyModifier = reader.readFloat();
+                    break;
+
+                case "difficultyExponent":
+                    settings.mDifficultyExponent = reader.readFloat();
+                    break;
+
+                case "difficultyLinear":
+                    settings.mDifficultyLinear = reader.readFloat();
+                    break;
+
+                case "minHealthModifier":
+                    settings.mMinHealthModifier = reader.readFloat();
+                    break;
+
+                case "rewardModifier":
+                    settings.mRewardModifier = reader.readFloat();
+                    break;
+
+                case "rewardExponent":
+                    settings.mRewardExponent = reader.readFloat();
+                    break;
+
+                case "minRewardModifier":
+                    settings.mMinRewardModifier = reader.readFloat();
+                    break;
+
+                case "earlyModifier":
+                    settings.mEarlyModifier = reader.readFloat();
+                    break;
+
+                case "earlyExponent":
+                    settings.mEarlyExponent = reader.readFloat();
+                    break;
+
+                default:
+                    throw reader.unexpectedElement();
+            }
+        }
+
+        XmlReader.requireElements(name, elements, REQUIRED_ELEMENTS);
+        return settings;
     }
 
     public int getCredits() {
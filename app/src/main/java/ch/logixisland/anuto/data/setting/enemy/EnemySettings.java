@@ -1,31 +1,76 @@
 package ch.logixisland.anuto.data.setting.enemy;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.ElementList;
-import org.simpleframework.xml.Root;
-
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class EnemySettings {
 
-    @Element(name = "health")
-    private float mHealth;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList("health", "speed", "reward");
 
-    @Element(name = "speed")
+    private float mHealth;
     private float mSpeed;
-
-    @Element(name = "reward")
     private int mReward;
-
-    @ElementList(entry = "weakAgainst", inline = true, required = false)
     private Collection<WeaponType> mWeakAgainst = new ArrayList<>();
-
-    @ElementList(entry = "strongAgainst", inline = true, required = false)
     private Collection<WeaponType> mStrongAgainst = new ArrayList<>();
 
+    static <T extends EnemySettings> T read(XmlReader reader, T settings) throws IOException {
+        String name = reader.getName();
+        int depth = reader.getDepth();
+        Set<String> elements = new HashSet<>();
+
+        while (reader.nextChild(depth)) {
+            elements.add(reader.getName());
+
+            if (!settings.readElement(reader)) {
+                throw reader.unexpectedElement();
+            }
+        }
+
+        List<String> required = new ArrayList<>();
+        settings.addRequiredElements(required);
+        XmlReader.requireElements(name, elements, required);
+        return settings;
+    }
+
+    void addRequiredElements(Collection<String> elements) {
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "health":
+                mHealth = reader.readFloat();
+                return true;
+
+            case "speed":
+                mSpeed = reader.readFloat();
+                return true;
+
+            case "reward":
+                mReward = reader.readInt();
+                return true;
+
+            case "weakAgainst":
+                mWeakAgainst.add(reader.readEnum(WeaponType.class));
+                return true;
+
+            case "strongAgainst":
+                mStrongAgainst.add(reader.readEnum(WeaponType.class));
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
     public float getHealth() {
         return mHealth;
     }
@@ -2,36 +2,28 @@ package ch.logixisland.anuto.data.setting.enemy;
 
 import android.content.Context;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
-import org.simpleframework.xml.Serializer;
-
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-import ch.logixisland.anuto.data.SerializerFactory;
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class EnemySettingsRoot {
 
-    @Element(name = "global")
-    private GlobalSettings mGlobalSettings;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "global", "soldier", "blob", "sprinter", "healer", "flyer");
 
-    @Element(name = "soldier")
+    private GlobalSettings mGlobalSettings;
     private EnemySettings mSoldierSettings;
-
-    @Element(name = "blob")
     private EnemySettings mBlobSettings;
-
-    @Element(name = "sprinter")
     private EnemySettings mSprinterSettings;
-
-    @Element(name = "healer")
     private HealerSettings mHealerSettings;
-
-    @Element(name = "flyer")
     private EnemySettings mFlyerSettings;
 
-    public static EnemySettingsRoot fromXml(Context context, int resId) throws Exception {
+    public static EnemySettingsRoot fromXml(Context context, int resId) throws IOException {
         InputStream stream = context.getResources().openRawResource(resId);
 
         try {
@@ -41,9 +33,53 @@ public class EnemySettingsRoot {
         }
     }
 
-    public static EnemySettingsRoot fromXml(InputStream stream) throws Exception {
-        Serializer serializer = new SerializerFactory().createSerializer();
-        return serializer.read(EnemySettingsRoot.class, stream);
+    public static EnemySettingsRoot fromXml(InputStream stream) throws IOException {
+        XmlReader reader = new XmlReader(stream);
+        reader.requireRoot();
+        return read(reader);
+    }
+
+    private static EnemySettingsRoot read(XmlReader reader) throws IOException {
+        EnemySettingsRoot root = new EnemySettingsRoot();
+        String name = reader.getName();
+        int depth = reader.getDepth();
+        Set<String> elements = new HashSet<>();
+
+        while (reader.nextChild(depth)) {
+            elements.add(reader.getName());
+
+            switch (reader.getName()) {
+                case "global":
+                    root.mGlobalSettings = GlobalSettings.read(reader);
+                    break;
+
+                case "soldier":
+                    root.mSoldierSettings = EnemySettings.read(reader, new EnemySettings());
+                    break;
+
+                case "blob":
+                    root.mBlobSettings = EnemySettings.read(reader, new EnemySettings());
+                    break;
+
+                case "sprinter":
+                    root.mSprinterSettings = EnemySettings.read(reader, new EnemySettings());
+                    break;
+
+                case "healer":
+                    root.mHealerSettings = EnemySettings.read(reader, new HealerSettings());
+                    break;
+
+                case "flyer":
+                    root.mFlyerSettings = EnemySettings.read(reader, new EnemySettings());
+                    break;
+
+                default:
+                    throw reader.unexpectedElement();
+            }
+        }
+
+        XmlReader.requireElements(name, elements, REQUIRED_ELEMENTS);
+        return root;
     }
 
     public GlobalSettings getGlobalSettings() {
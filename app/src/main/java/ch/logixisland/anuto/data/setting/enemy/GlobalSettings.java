@@ -1,20 +1,53 @@
 package ch.logixisland.anuto.data.setting.enemy;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class GlobalSettings {
 
-    @Element(name = "minSpeedModifier")
-    private float mMinSpeedModifier;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "minSpeedModifier", "weakAgainstModifier", "strongAgainstModifier");
 
-    @Element(name = "weakAgainstModifier")
+    private float mMinSpeedModifier;
     private float mWeakAgainstModifier;
-
-    @Element(name = "strongAgainstModifier")
     private float mStrongAgainstModifier;
 
+    static GlobalSettings read(XmlReader reader) throws IOException {
+        GlobalSettings settings = new GlobalSettings();
+        String name = reader.getName();
+        int depth = reader.getDepth();
+        Set<String> elements = new HashSet<>();
+
+        while (reader.nextChild(depth)) {
+            elements.add(reader.getName());
+
+            switch (reader.getName()) {
+                case "minSpeedModifier":
+                    settings.mMinSpeedModifier = reader.readFloat();
+                    break;
+
+                case "weakAgainstModifier":
+                    settings.mWeakAgainstModifier = reader.readFloat();
+                    break;
+
+                case "strongAgainstModifier":
+                    settings.mStrongAgainstModifier = reader.readFloat();
+                    break;
+
+                default:
+                    throw reader.unexpectedElement();
+            }
+        }
+
+        XmlReader.requireElements(name, elements, REQUIRED_ELEMENTS);
+        return settings;
+    }
+
     public float getMinSpeedModifier() {
         return mMinSpeedModifier;
     }
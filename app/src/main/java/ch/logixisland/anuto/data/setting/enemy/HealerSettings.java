@@ -1,23 +1,52 @@
 package ch.logixisland.anuto.data.setting.enemy;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class HealerSettings extends EnemySettings {
 
-    @Element(name = "healAmount")
-    private float mHealAmount;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "healAmount", "healRadius", "healInterval", "healDuration");
 
-    @Element(name = "healRadius")
+    private float mHealAmount;
     private float mHealRadius;
-
-    @Element(name = "healInterval")
     private float mHealInterval;
-
-    @Element(name = "healDuration")
     private float mHealDuration;
 
+    @Override
+    void addRequiredElements(Collection<String> elements) {
+        super.addRequiredElements(elements);
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    @Override
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "healAmount":
+                mHealAmount = reader.readFloat();
+                return true;
+
+            case "healRadius":
+                mHealRadius = reader.readFloat();
+                return true;
+
+            case "healInterval":
+                mHealInterval = reader.readFloat();
+                return true;
+
+            case "healDuration":
+                mHealDuration = reader.readFloat();
+                return true;
+
+            default:
+                return super.readElement(reader);
+        }
+    }
+
     public float getHealAmount() {
         return mHealAmount;
     }
@@ -1,17 +1,41 @@
 package ch.logixisland.anuto.data.setting.tower;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class BouncingLaserSettings extends TowerSettings {
 
-    @Element(name = "bounceCount")
-    private int mBounceCount;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList("bounceCount", "bounceDistance");
 
-    @Element(name = "bounceDistance")
+    private int mBounceCount;
     private float mBounceDistance;
 
+    @Override
+    void addRequiredElements(Collection<String> elements) {
+        super.addRequiredElements(elements);
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    @Override
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "bounceCount":
+                mBounceCount = reader.readInt();
+                return true;
+
+            case "bounceDistance":
+                mBounceDistance = reader.readFloat();
+                return true;
+
+            default:
+                return super.readElement(reader);
+        }
+    }
+
     public int getBounceCount() {
         return mBounceCount;
     }
@@ -1,20 +1,47 @@
 package ch.logixisland.anuto.data.setting.tower;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class GlueTowerSettings extends TowerSettings {
 
-    @Element(name = "glueIntensity")
-    private float mGlueIntensity;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "glueIntensity", "enhanceGlueIntensity", "glueDuration");
 
-    @Element(name = "enhanceGlueIntensity")
+    private float mGlueIntensity;
     private float mEnhanceGlueIntensity;
-
-    @Element(name = "glueDuration")
     private float mGlueDuration;
 
+    @Override
+    void addRequiredElements(Collection<String> elements) {
+        super.addRequiredElements(elements);
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    @Override
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "glueIntensity":
+                mGlueIntensity = reader.readFloat();
+                return true;
+
+            case "enhanceGlueIntensity":
+                mEnhanceGlueIntensity = reader.readFloat();
+                return true;
+
+            case "glueDuration":
+                mGlueDuration = reader.readFloat();
+                return true;
+
+            default:
+                return super.readElement(reader);
+        }
+    }
+
     public float getGlueIntensity() {
         return mGlueIntensity;
     }
@@ -1,23 +1,52 @@
 package ch.logixisland.anuto.data.setting.tower;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class MineLayerSettings extends TowerSettings {
 
-    @Element(name = "maxMineCount")
-    private int mMaxMineCount;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "maxMineCount", "enhanceMaxMineCount", "explosionRadius", "enhanceExplosionRadius");
 
-    @Element(name = "enhanceMaxMineCount")
+    private int mMaxMineCount;
     private int mEnhanceMaxMineCount;
-
-    @Element(name = "explosionRadius")
     private float mExplosionRadius;
-
-    @Element(name = "enhanceExplosionRadius")
     private float mEnhanceExplosionRadius;
 
+    @Override
+    void addRequiredElements(Collection<String> elements) {
+        super.addRequiredElements(elements);
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    @Override
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "maxMineCount":
+                mMaxMineCount = reader.readInt();
+                return true;
+
+            case "enhanceMaxMineCount":
+                mEnhanceMaxMineCount = reader.readInt();
+                return true;
+
+            case "explosionRadius":
+                mExplosionRadius = reader.readFloat();
+                return true;
+
+            case "enhanceExplosionRadius":
+                mEnhanceExplosionRadius = reader.readFloat();
+                return true;
+
+            default:
+                return super.readElement(reader);
+        }
+    }
+
     public int getMaxMineCount() {
         return mMaxMineCount;
     }
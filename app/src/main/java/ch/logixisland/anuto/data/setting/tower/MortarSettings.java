@@ -1,20 +1,47 @@
 package ch.logixisland.anuto.data.setting.tower;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class MortarSettings extends TowerSettings {
 
-    @Element(name = "inaccuracy")
-    private float mInaccuracy;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "inaccuracy", "explosionRadius", "enhanceExplosionRadius");
 
-    @Element(name = "explosionRadius")
+    private float mInaccuracy;
     private float mExplosionRadius;
-
-    @Element(name = "enhanceExplosionRadius")
     private float mEnhanceExplosionRadius;
 
+    @Override
+    void addRequiredElements(Collection<String> elements) {
+        super.addRequiredElements(elements);
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    @Override
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "inaccuracy":
+                mInaccuracy = reader.readFloat();
+                return true;
+
+            case "explosionRadius":
+                mExplosionRadius = reader.readFloat();
+                return true;
+
+            case "enhanceExplosionRadius":
+                mEnhanceExplosionRadius = reader.readFloat();
+                return true;
+
+            default:
+                return super.readElement(reader);
+        }
+    }
+
     public float getInaccuracy() {
         return mInaccuracy;
     }
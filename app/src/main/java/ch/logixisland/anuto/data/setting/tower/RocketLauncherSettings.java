@@ -1,17 +1,42 @@
 package ch.logixisland.anuto.data.setting.tower;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class RocketLauncherSettings extends TowerSettings {
 
-    @Element(name = "explosionRadius")
-    private float mExplosionRadius;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "explosionRadius", "enhanceExplosionRadius");
 
-    @Element(name = "enhanceExplosionRadius")
+    private float mExplosionRadius;
     private float mEnhanceExplosionRadius;
 
+    @Override
+    void addRequiredElements(Collection<String> elements) {
+        super.addRequiredElements(elements);
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    @Override
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "explosionRadius":
+                mExplosionRadius = reader.readFloat();
+                return true;
+
+            case "enhanceExplosionRadius":
+                mEnhanceExplosionRadius = reader.readFloat();
+                return true;
+
+            default:
+                return super.readElement(reader);
+        }
+    }
+
     public float getExplosionRadius() {
         return mExplosionRadius;
     }
@@ -1,17 +1,42 @@
 package ch.logixisland.anuto.data.setting.tower;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class TeleporterSettings extends TowerSettings {
 
-    @Element(name = "teleportDistance")
-    private float mTeleportDistance;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "teleportDistance", "enhanceTeleportDistance");
 
-    @Element(name = "enhanceTeleportDistance")
+    private float mTeleportDistance;
     private float mEnhanceTeleportDistance;
 
+    @Override
+    void addRequiredElements(Collection<String> elements) {
+        super.addRequiredElements(elements);
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    @Override
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "teleportDistance":
+                mTeleportDistance = reader.readFloat();
+                return true;
+
+            case "enhanceTeleportDistance":
+                mEnhanceTeleportDistance = reader.readFloat();
+                return true;
+
+            default:
+                return super.readElement(reader);
+        }
+    }
+
     public float getTeleportDistance() {
         return mTeleportDistance;
     }
@@ -1,52 +1,117 @@
 package ch.logixisland.anuto.data.setting.tower;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
-
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import ch.logixisland.anuto.data.XmlReader;
 import ch.logixisland.anuto.data.setting.enemy.WeaponType;
 
-@Root
 public class TowerSettings {
 
-    @Element(name = "value")
-    private int mValue;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "value", "range", "reload", "maxLevel", "enhanceBase", "enhanceCost");
 
-    @Element(name = "damage", required = false)
+    private int mValue;
     private float mDamage;
-
-    @Element(name = "range")
     private float mRange;
-
-    @Element(name = "reload")
     private float mReload;
-
-    @Element(name = "maxLevel")
     private int mMaxLevel;
-
-    @Element(name = "weaponType", required = false)
     private WeaponType mWeaponType;
-
-    @Element(name = "enhanceBase")
     private float mEnhanceBase;
-
-    @Element(name = "enhanceCost")
     private int mEnhanceCost;
-
-    @Element(name = "enhanceDamage", required = false)
     private float mEnhanceDamage;
-
-    @Element(name = "enhanceRange", required = false)
     private float mEnhanceRange;
-
-    @Element(name = "enhanceReload", required = false)
     private float mEnhanceReload;
-
-    @Element(name = "upgrade", required = false)
     private String mUpgrade;
-
-    @Element(name = "upgradeCost", required = false)
     private int mUpgradeCost;
 
+    static <T extends TowerSettings> T read(XmlReader reader, T settings) throws IOException {
+        String name = reader.getName();
+        int depth = reader.getDepth();
+        Set<String> elements = new HashSet<>();
+
+        while (reader.nextChild(depth)) {
+            elements.add(reader.getName());
+
+            if (!settings.readElement(reader)) {
+                throw reader.unexpectedElement();
+            }
+        }
+
+        List<String> required = new ArrayList<>();
+        settings.addRequiredElements(required);
+        XmlReader.requireElements(name, elements, required);
+        return settings;
+    }
+
+    void addRequiredElements(Collection<String> elements) {
+        elements.addAll(REQUIRED_ELEMENTS);
+    }
+
+    boolean readElement(XmlReader reader) throws IOException {
+        switch (reader.getName()) {
+            case "value":
+                mValue = reader.readInt();
+                return true;
+
+            case "damage":
+                mDamage = reader.readFloat();
+                return true;
+
+            case "range":
+                mRange = reader.readFloat();
+                return true;
+
+            case "reload":
+                mReload = reader.readFloat();
+                return true;
+
+            case "maxLevel":
+                mMaxLevel = reader.readInt();
+                return true;
+
+            case "weaponType":
+                mWeaponType = reader.readEnum(WeaponType.class);
+                return true;
+
+            case "enhanceBase":
+                mEnhanceBase = reader.readFloat();
+                return true;
+
+            case "enhanceCost":
+                mEnhanceCost = reader.readInt();
+                return true;
+
+            case "enhanceDamage":
+                mEnhanceDamage = reader.readFloat();
+                return true;
+
+            case "enhanceRange":
+                mEnhanceRange = reader.readFloat();
+                return true;
+
+            case "enhanceReload":
+                mEnhanceReload = reader.readFloat();
+                return true;
+
+            case "upgrade":
+                mUpgrade = reader.readText();
+                return true;
+
+            case "upgradeCost":
+                mUpgradeCost = reader.readInt();
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
     public int getValue() {
         return mValue;
     }
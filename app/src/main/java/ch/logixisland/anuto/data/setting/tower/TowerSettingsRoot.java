@@ -2,60 +2,38 @@ package ch.logixisland.anuto.data.setting.tower;
 
 import android.content.Context;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.Root;
-import org.simpleframework.xml.Serializer;
-
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-import ch.logixisland.anuto.data.SerializerFactory;
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class TowerSettingsRoot {
 
-    @Element(name = "ageModifier")
-    private float mAgeModifier;
+    private static final List<String> REQUIRED_ELEMENTS = Arrays.asList(
+            "ageModifier", "slots", "canon", "dualCanon", "machineGun", "simpleLaser",
+            "bouncingLaser", "straightLaser", "mortar", "mineLayer", "rocketLauncher", "glueTower",
+            "glueGun", "teleporter");
 
-    @Element(name = "slots")
+    private float mAgeModifier;
     private TowerSlots mTowerSlots;
-
-    @Element(name = "canon")
     private TowerSettings mCanonSettings;
-
-    @Element(name = "dualCanon")
     private TowerSettings mDualCanonSettings;
-
-    @Element(name = "machineGun")
     private TowerSettings mMachineGunSettings;
-
-    @Element(name = "simpleLaser")
     private TowerSettings mSimpleLaserSettings;
-
-    @Element(name = "bouncingLaser")
     private BouncingLaserSettings mBouncingLaserSettings;
-
-    @Element(name = "straightLaser")
     private TowerSettings mStraightLaserSettings;
-
-    @Element(name = "mortar")
     private MortarSettings mMortarSettings;
-
-    @Element(name = "mineLayer")
     private MineLayerSettings mMineLayerSettings;
-
-    @Element(name = "rocketLauncher")
     private RocketLauncherSettings mRocketLauncherSettings;
-
-    @Element(name = "glueTower")
     private GlueTowerSettings mGlueTowerSettings;
-
-    @Element(name = "glueGun")
     private GlueGunSettings mGlueGunSettings;
-
-    @Element(name = "teleporter")
     private TeleporterSettings mTeleporterSettings;
 
-    public static TowerSettingsRoot fromXml(Context context, int resId) throws Exception {
+    public static TowerSettingsRoot fromXml(Context context, int resId) throws IOException {
         InputStream stream = context.getResources().openRawResource(resId);
 
         try {
@@ -65,9 +43,85 @@ public class TowerSettingsRoot {
         }
     }
 
-    public static TowerSettingsRoot fromXml(InputStream stream) throws Exception {
-        Serializer serializer = new SerializerFactory().createSerializer();
-        return serializer.read(TowerSettingsRoot.class, stream);
+    public static TowerSettingsRoot fromXml(InputStream stream) throws IOException {
+        XmlReader reader = new XmlReader(stream);
+        reader.requireRoot();
+        return read(reader);
+    }
+
+    private static TowerSettingsRoot read(XmlReader reader) throws IOException {
+        TowerSettingsRoot root = new TowerSettingsRoot();
+        String name = reader.getName();
+        int depth = reader.getDepth();
+        Set<String> elements = new HashSet<>();
+
+        while (reader.nextChild(depth)) {
+            elements.add(reader.getName());
+
+            switch (reader.getName()) {
+                case "ageModifier":
+                    root.mAgeModifier = reader.readFloat();
+                    break;
+
+                case "slots":
+                    root.mTowerSlots = TowerSlots.read(reader);
+                    break;
+
+                case "canon":
+                    root.mCanonSettings = TowerSettings.read(reader, new TowerSettings());
+                    break;
+
+                case "dualCanon":
+                    root.mDualCanonSettings = TowerSettings.read(reader, new TowerSettings());
+                    break;
+
+                case "machineGun":
+                    root.mMachineGunSettings = TowerSettings.read(reader, new TowerSettings());
+                    break;
+
+                case "simpleLaser":
+                    root.mSimpleLaserSettings = TowerSettings.read(reader, new TowerSettings());
+                    break;
+
+                case "bouncingLaser":
+                    root.mBouncingLaserSettings = TowerSettings.read(reader, new BouncingLaserSettings());
+                    break;
+
+                case "straightLaser":
+                    root.mStraightLaserSettings = TowerSettings.read(reader, new TowerSettings());
+                    break;
+
+                case "mortar":
+                    root.mMortarSettings = TowerSettings.read(reader, new MortarSettings());
+                    break;
+
+                case "mineLayer":
+                    root.mMineLayerSettings = TowerSettings.read(reader, new MineLayerSettings());
+                    break;
+
+                case "rocketLauncher":
+                    root.mRocketLauncherSettings = TowerSettings.read(reader, new RocketLauncherSettings());
+                    break;
+
+                case "glueTower":
+                    root.mGlueTowerSettings = TowerSettings.read(reader, new GlueTowerSettings());
+                    break;
+
+                case "glueGun":
+                    root.mGlueGunSettings = TowerSettings.read(reader, new GlueGunSettings());
+                    break;
+
+                case "teleporter":
+                    root.mTeleporterSettings = TowerSettings.read(reader, new TeleporterSettings());
+                    break;
+
+                default:
+                    throw reader.unexpectedElement();
+            }
+        }
+
+        XmlReader.requireElements(name, elements, REQUIRED_ELEMENTS);
+        return root;
     }
 
     public float getAgeModifier() {
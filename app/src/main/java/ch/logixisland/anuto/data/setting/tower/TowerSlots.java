@@ -1,17 +1,36 @@
 package ch.logixisland.anuto.data.setting.tower;
 
-import org.simpleframework.xml.ElementMap;
-import org.simpleframework.xml.Root;
-
+import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
-@Root
+import ch.logixisland.anuto.data.XmlReader;
+
 public class TowerSlots {
 
-    @ElementMap(entry = "slot", key = "index", attribute = true, inline = true)
     private Map<Integer, String> mSlotMap = new HashMap<>();
 
+    static TowerSlots read(XmlReader reader) throws IOException {
+        TowerSlots slots = new TowerSlots();
+        int depth = reader.getDepth();
+
+        while (reader.nextChild(depth)) {
+            if (!reader.getName().equals("slot")) {
+                throw reader.unexpectedElement();
+            }
+
+            int index = Integer.parseInt(reader.requireAttribute("index"));
+            slots.mSlotMap.put(index, reader.readText());
+        }
+
+        if (slots.mSlotMap.isEmpty()) {
+            throw new IOException("Missing element slot in element slots!");
+        }
+
+        return slots;
+    }
+
     public String getTowerOfSlot(int slot) {
         if (!mSlotMap.containsKey(slot)) {
             return null;
@@ -20,4 +39,8 @@ public class TowerSlots {
         return mSlotMap.get(slot);
     }
 
+    public Collection<String> getTowerNames() {
+        return mSlotMap.values();
+    }
+
 }
@@ -1,23 +1,26 @@
 package ch.logixisland.anuto.data.wave;
 
-import org.simpleframework.xml.Attribute;
-import org.simpleframework.xml.Root;
+import java.io.IOException;
+
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class EnemyDescriptor {
 
-    @Attribute(name = "name")
     private String mName;
-
-    @Attribute(name = "pathIndex", required = false)
     private int mPathIndex;
-
-    @Attribute(name = "delay", required = false)
     private float mDelay;
-
-    @Attribute(name = "offset", required = false)
     private float mOffset;
 
+    static EnemyDescriptor read(XmlReader reader) throws IOException {
+        EnemyDescriptor enemy = new EnemyDescriptor();
+        enemy.mName = reader.requireAttribute("name");
+        enemy.mPathIndex = reader.getIntAttribute("pathIndex", 0);
+        enemy.mDelay = reader.getFloatAttribute("delay", 0f);
+        enemy.mOffset = reader.getFloatAttribute("offset", 0f);
+        reader.skip();
+        return enemy;
+    }
+
     public String getName() {
         return mName;
     }
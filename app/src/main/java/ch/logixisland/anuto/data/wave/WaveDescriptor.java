@@ -1,28 +1,57 @@
 package ch.logixisland.anuto.data.wave;
 
-import org.simpleframework.xml.Element;
-import org.simpleframework.xml.ElementList;
-import org.simpleframework.xml.Root;
-
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-@Root
+import ch.logixisland.anuto.data.XmlReader;
+
 public class WaveDescriptor {
 
-    @ElementList(name = "enemies", entry = "enemy")
     private List<EnemyDescriptor> mEnemies = new ArrayList<>();
-
-    @Element(name = "waveReward", required = false)
     private int mWaveReward = 0;
-
-    @Element(name = "extend", required = false)
     private int mExtend = 0;
-
-    @Element(name = "maxExtend", required = false)
     private int mMaxExtend = 0;
 
+    static WaveDescriptor read(XmlReader reader) throws IOException {
+        WaveDescriptor wave = new WaveDescriptor();
+        int depth = reader.getDepth();
+
+        while (reader.nextChild(depth)) {
+            switch (reader.getName()) {
+                case "enemies":
+                    int enemiesDepth = reader.getDepth();
+
+                    while (reader.nextChild(enemiesDepth)) {
+                        if (!reader.getName().equals("enemy")) {
+                            throw reader.unexpectedElement();
+                        }
+
+                        wave.mEnemies.add(EnemyDescriptor.read(reader));
+                    }
+                    break;
+
+                case "waveReward":
+                    wave.mWaveReward = reader.readInt();
+                    break;
+
+                case "extend":
+                    wave.mExtend = reader.readInt();
+                    break;
+
+                case "maxExtend":
+                    wave.mMaxExtend = reader.readInt();
+                    break;
+
+                default:
+                    throw reader.unexpectedElement();
+            }
+        }
+
+        return wave;
+    }
+
     public List<EnemyDescriptor> getEnemies() {
         return Collections.unmodifiableList(mEnemies);
     }
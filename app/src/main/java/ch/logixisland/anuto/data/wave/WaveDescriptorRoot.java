@@ -2,24 +2,19 @@ package ch.logixisland.anuto.data.wave;
 
 import android.content.Context;
 
-import org.simpleframework.xml.ElementList;
-import org.simpleframework.xml.Root;
-import org.simpleframework.xml.Serializer;
-
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import ch.logixisland.anuto.data.SerializerFactory;
+import ch.logixisland.anuto.data.XmlReader;
 
-@Root
 public class WaveDescriptorRoot {
 
-    @ElementList(inline = true, entry = "wave")
     private List<WaveDescriptor> mWaves = new ArrayList<>();
 
-    public static WaveDescriptorRoot fromXml(Context context, int resId) throws Exception {
+    public static WaveDescriptorRoot fromXml(Context context, int resId) throws IOException {
         InputStream stream = context.getResources().openRawResource(resId);
 
         try {
@@ -29,9 +24,25 @@ public class WaveDescriptorRoot {
         }
     }
 
-    public static WaveDescriptorRoot fromXml(InputStream inputStream) throws Exception {
-        Serializer serializer = new SerializerFactory().createSerializer();
-        return serializer.read(WaveDescriptorRoot.class, inputStream);
+    public static WaveDescriptorRoot fromXml(InputStream inputStream) throws IOException {
+        XmlReader reader = new XmlReader(inputStream);
+        reader.requireRoot();
+        return read(reader);
+    }
+
+    private static WaveDescriptorRoot read(XmlReader reader) throws IOException {
+        WaveDescriptorRoot root = new WaveDescriptorRoot();
+        int depth = reader.getDepth();
+
+        while (reader.nextChild(depth)) {
+            if (!reader.getName().equals("wave")) {
+                throw reader.unexpectedElement();
+            }
+
+            root.mWaves.add(WaveDescriptor.read(reader));
+        }
+
+        return root;
     }
 
     public List<WaveDescriptor> getWaves() {
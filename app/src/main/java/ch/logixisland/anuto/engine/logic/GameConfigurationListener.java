@@ -0,0 +1,5 @@
+package ch.logixisland.anuto.engine.logic;
+
+public interface GameConfigurationListener {
+    void gameConfigurationChanged();
+}
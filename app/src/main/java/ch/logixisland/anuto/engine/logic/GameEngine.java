@@ -1,22 +1,35 @@
 package ch.logixisland.anuto.engine.logic;
 
+import java.util.Random;
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import ch.logixisland.anuto.data.game.GameDescriptorRoot;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityHandle;
 import ch.logixisland.anuto.engine.logic.entity.EntityStore;
+import ch.logixisland.anuto.engine.logic.entity.RankedEntities;
+import ch.logixisland.anuto.engine.logic.entity.Zone;
+import ch.logixisland.anuto.engine.logic.entity.ZoneListener;
+import ch.logixisland.anuto.engine.logic.loop.ChangeNotifier;
 import ch.logixisland.anuto.engine.logic.loop.GameLoop;
 import ch.logixisland.anuto.engine.logic.loop.Message;
 import ch.logixisland.anuto.engine.logic.loop.MessageQueue;
 import ch.logixisland.anuto.engine.logic.loop.TickListener;
+import ch.logixisland.anuto.engine.logic.loop.TickProfiler;
+import ch.logixisland.anuto.engine.logic.persistence.Persister;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Renderer;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.sound.SoundFactory;
 import ch.logixisland.anuto.engine.theme.ThemeManager;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.Vector2;
 
-public class GameEngine {
-
-    public final static int TARGET_FRAME_RATE = GameLoop.TARGET_FRAME_RATE;
+public class GameEngine implements Persister {
 
     private final SpriteFactory mSpriteFactory;
     private final ThemeManager mThemeManager;
@@ -24,24 +37,32 @@ public class GameEngine {
 
     private final EntityStore mEntityStore;
     private final MessageQueue mMessageQueue;
+    private final ChangeNotifier mChangeNotifier;
     private final Renderer mRenderer;
     private final GameLoop mGameLoop;
+    private final Random mRandom = new Random();
 
-    private GameConfiguration mGameConfiguration;
+    private volatile Future<GameConfiguration> mGameConfigurationLoad;
+    private volatile GameConfiguration mGameConfiguration;
+    private final Collection<GameConfigurationListener> mGameConfigurationListeners = new CopyOnWriteArrayList<>();
+    private volatile int mPendingTargetFrameRate = GameLoop.DEFAULT_TARGET_FRAME_RATE;
 
     public GameEngine(SpriteFactory spriteFactory, ThemeManager themeManager,
                       SoundFactory soundFactory, EntityStore entityStore, MessageQueue messageQueue,
-                      Renderer renderer, GameLoop gameLoop) {
+                      ChangeNotifier changeNotifier, Renderer renderer, GameLoop gameLoop) {
         mSpriteFactory = spriteFactory;
         mThemeManager = themeManager;
         mSoundFactory = soundFactory;
         mEntityStore = entityStore;
         mMessageQueue = messageQueue;
+        mChangeNotifier = changeNotifier;
         mRenderer = renderer;
         mGameLoop = gameLoop;
 
         mGameLoop.add(mMessageQueue);
         mGameLoop.add(mEntityStore);
+        mGameLoop.add(mSpriteFactory.getAnimationClock());
+        mGameLoop.add(mSoundFactory.getSoundMixer());
     }
 
     public SpriteFactory getSpriteFactory() {
@@ -56,6 +77,15 @@ public class GameEngine {
         return mSoundFactory;
     }
 
+    // used for everything random that affects the game, the command journal seeds it for replays
+    public Random getRandom() {
+        return mRandom;
+    }
+
+    public StyleRegistry getStyleRegistry() {
+        return mRenderer.getStyleRegistry();
+    }
+
     public Object getStaticData(Entity entity) {
         return mEntityStore.getStaticData(entity);
     }
@@ -68,10 +98,22 @@ public class GameEngine {
         return mEntityStore.getByType(typeId);
     }
 
+    public RankedEntities getRankedEntities(int typeId) {
+        return mEntityStore.getRanked(typeId);
+    }
+
+    public Zone createZone(int typeId, Vector2 center, float range, ZoneListener listener) {
+        return mEntityStore.createZone(typeId, center, range, listener);
+    }
+
     public Entity getEntityById(int entityId) {
         return mEntityStore.getById(entityId);
     }
 
+    public <T extends Entity> EntityHandle<T> createHandle(T entity) {
+        return mEntityStore.createHandle(entity);
+    }
+
     public void add(Entity entity) {
         mEntityStore.add(entity);
     }
@@ -97,13 +139,24 @@ public class GameEngine {
     }
 
     public void clear() {
+        clear(mPendingTargetFrameRate);
+    }
+
+    // a recovered game has to continue at the tick rate it was recorded with
+    public void clear(int targetFrameRate) {
         mMessageQueue.clear();
         mEntityStore.clear();
         mRenderer.clear();
         mGameLoop.clear();
 
+        // per-tick values are derived when entities and their static data are created
+        mGameLoop.setTargetFrameRate(targetFrameRate);
+        mSpriteFactory.getAnimationClock().setTargetFrameRate(targetFrameRate);
+
         mGameLoop.add(mMessageQueue);
         mGameLoop.add(mEntityStore);
+        mGameLoop.add(mSpriteFactory.getAnimationClock());
+        mGameLoop.add(mSoundFactory.getSoundMixer());
     }
 
     public void start() {
@@ -123,17 +176,50 @@ public class GameEngine {
     }
 
     public void postDelayed(Message message, float delay) {
-        mMessageQueue.postAfterTicks(message, Math.round(delay * TARGET_FRAME_RATE));
+        mMessageQueue.postAfterTicks(message, Math.round(delay * getTargetFrameRate()));
     }
 
     public void postAfterTicks(Message message, int ticks) {
         mMessageQueue.postAfterTicks(message, ticks);
     }
 
+    public void notifyChanged(Message notification) {
+        mChangeNotifier.notifyChanged(notification);
+    }
+
+    public void markDirty() {
+        mRenderer.markDirty();
+    }
+
+    public float getInterpolation() {
+        return mRenderer.getInterpolation();
+    }
+
+    public int getTargetFrameRate() {
+        return mGameLoop.getTargetFrameRate();
+    }
+
+    public int getPendingTargetFrameRate() {
+        return mPendingTargetFrameRate;
+    }
+
+    // takes effect when the engine is cleared for the next game
+    public void setTargetFrameRate(int targetFrameRate) {
+        mPendingTargetFrameRate = targetFrameRate;
+    }
+
     public void setTicksPerLoop(int ticksPerLoop) {
         mGameLoop.setTicksPerLoop(ticksPerLoop);
     }
 
+    public void setTickProfiler(TickProfiler tickProfiler) {
+        mGameLoop.setTickProfiler(tickProfiler);
+    }
+
+    public void catchUp(int ticks) {
+        mGameLoop.catchUp(ticks);
+    }
+
     public boolean isThreadChangeNeeded() {
         return mGameLoop.isThreadChangeNeeded();
     }
@@ -142,12 +228,81 @@ public class GameEngine {
         return mRenderer.isPositionVisible(position);
     }
 
+    // the first configuration is loaded in the background, the UI thread checks this instead of blocking
+    public boolean isGameConfigurationReady() {
+        return mGameConfiguration != null;
+    }
+
+    public void setGameConfigurationLoad(Future<GameConfiguration> gameConfigurationLoad) {
+        mGameConfigurationLoad = gameConfigurationLoad;
+    }
+
+    // the first configuration is loaded in the background, callers block until it is there or has failed
     public GameConfiguration getGameConfiguration() {
-        return mGameConfiguration;
+        GameConfiguration gameConfiguration = mGameConfiguration;
+
+        if (gameConfiguration != null) {
+            return gameConfiguration;
+        }
+
+        Future<GameConfiguration> gameConfigurationLoad = mGameConfigurationLoad;
+
+        if (gameConfigurationLoad == null) {
+            throw new RuntimeException("No game configuration is loaded!");
+        }
+
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    gameConfiguration = gameConfigurationLoad.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Could not load game configuration!", e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // another map may have been loaded in the meantime
+        return mGameConfiguration != null ? mGameConfiguration : gameConfiguration;
     }
 
     public void setGameConfiguration(GameConfiguration gameConfiguration) {
         mGameConfiguration = gameConfiguration;
+
+        for (GameConfigurationListener listener : mGameConfigurationListeners) {
+            listener.gameConfigurationChanged();
+        }
+    }
+
+    @Override
+    public void writeDescriptor(GameDescriptorRoot gameDescriptor) {
+        gameDescriptor.setTargetFrameRate(getTargetFrameRate());
+    }
+
+    // the tick rate has to be applied by clear() before the game is loaded
+    @Override
+    public void readDescriptor(GameDescriptorRoot gameDescriptor) {
+        int targetFrameRate = gameDescriptor.getTargetFrameRate();
+
+        if (targetFrameRate > 0 && targetFrameRate != getTargetFrameRate()) {
+            throw new RuntimeException("Game was saved at " + targetFrameRate + " ticks per second!");
+        }
+    }
+
+    public void addGameConfigurationListener(GameConfigurationListener listener) {
+        mGameConfigurationListeners.add(listener);
+    }
+
+    public void removeGameConfigurationListener(GameConfigurationListener listener) {
+        mGameConfigurationListeners.remove(listener);
     }
 
 }
@@ -0,0 +1,51 @@
+package ch.logixisland.anuto.engine.logic;
+
+import android.util.Log;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class StartupTimer {
+
+    private static final String TAG = StartupTimer.class.getSimpleName();
+
+    private final long mStartTime = System.nanoTime();
+    private final Map<String, Long> mStageDurations = new LinkedHashMap<>();
+
+    private boolean mFinished = false;
+
+    public long getTime() {
+        return System.nanoTime();
+    }
+
+    public synchronized void stageFinished(String stage, long stageStartTime) {
+        if (mFinished) {
+            return;
+        }
+
+        long time = System.nanoTime();
+        mStageDurations.put(stage, time - stageStartTime);
+        Log.i(TAG, String.format("%s: %d ms, finished after %d ms", stage,
+                toMillis(time - stageStartTime), toMillis(time - mStartTime)));
+    }
+
+    // only the first call logs, later restarts are not part of the cold start
+    public synchronized void finish() {
+        if (mFinished) {
+            return;
+        }
+
+        mFinished = true;
+        StringBuilder breakdown = new StringBuilder();
+
+        for (Map.Entry<String, Long> stage : mStageDurations.entrySet()) {
+            breakdown.append(String.format(" %s=%dms", stage.getKey(), toMillis(stage.getValue())));
+        }
+
+        Log.i(TAG, String.format("cold start: %d ms;%s", toMillis(System.nanoTime() - mStartTime), breakdown));
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1000000L;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.sound.SoundFactory;
 import ch.logixisland.anuto.engine.theme.Theme;
@@ -14,6 +15,8 @@ import ch.logixisland.anuto.util.math.Vector2;
 
 public abstract class Entity {
 
+    private static final float MAX_INTERPOLATION_DISTANCE = 1f;
+
     public static Predicate<Entity> inRange(final Vector2 center, final float range) {
         return new Predicate<Entity>() {
             @Override
@@ -56,6 +59,15 @@ public abstract class Entity {
         };
     }
 
+    public static Predicate<Entity> notContainedIn(final EntityBitSet set) {
+        return new Predicate<Entity>() {
+            @Override
+            public boolean apply(Entity value) {
+                return !set.contains(value);
+            }
+        };
+    }
+
     public static Function<Entity, Float> distanceTo(final Vector2 toPoint) {
         return new Function<Entity, Float>() {
             @Override
@@ -69,7 +81,10 @@ public abstract class Entity {
     private final List<EntityListener> mListeners = new CopyOnWriteArrayList<>();
 
     private int mEntityId;
+    private int mStoreSlot = -1;
+    private int mStoreGeneration;
     private Vector2 mPosition = new Vector2();
+    private Vector2 mPreviousPosition;
 
     protected Entity(GameEngine gameEngine) {
         mGameEngine = gameEngine;
@@ -83,6 +98,19 @@ public abstract class Entity {
         return mEntityId;
     }
 
+    void setStoreSlot(int storeSlot, int storeGeneration) {
+        mStoreSlot = storeSlot;
+        mStoreGeneration = storeGeneration;
+    }
+
+    int getStoreSlot() {
+        return mStoreSlot;
+    }
+
+    int getStoreGeneration() {
+        return mStoreGeneration;
+    }
+
     public abstract int getEntityType();
 
     public String getEntityName() {
@@ -131,16 +159,53 @@ public abstract class Entity {
         return getGameEngine().getSoundFactory();
     }
 
+    protected StyleRegistry getStyleRegistry() {
+        return getGameEngine().getStyleRegistry();
+    }
+
     public Vector2 getPosition() {
         return mPosition;
     }
 
+    // position between the last two ticks, for drawing only
+    public float getDrawX() {
+        if (!isPositionInterpolated()) {
+            return mPosition.x();
+        }
+
+        return mPreviousPosition.x() + (mPosition.x() - mPreviousPosition.x()) * getGameEngine().getInterpolation();
+    }
+
+    public float getDrawY() {
+        if (!isPositionInterpolated()) {
+            return mPosition.y();
+        }
+
+        return mPreviousPosition.y() + (mPosition.y() - mPreviousPosition.y()) * getGameEngine().getInterpolation();
+    }
+
+    // angle between the last two ticks along the shorter arc, for drawing only
+    protected float getDrawAngle(float previousAngle, float angle) {
+        if (mPreviousPosition == null) {
+            return angle;
+        }
+
+        return previousAngle + MathUtils.normalizeAngle(angle - previousAngle) * getGameEngine().getInterpolation();
+    }
+
+    // called before every tick, subclasses also keep the previous values of what they interpolate
+    protected void storePreviousState() {
+        mPreviousPosition = mPosition;
+    }
+
     public void setPosition(Vector2 position) {
         mPosition = position;
+        mGameEngine.markDirty();
     }
 
     public void move(Vector2 offset) {
         mPosition = mPosition.add(offset);
+        mGameEngine.markDirty();
     }
 
     public float getDistanceTo(Entity target) {
@@ -179,4 +244,14 @@ public abstract class Entity {
         mListeners.remove(listener);
     }
 
+    private boolean isPositionInterpolated() {
+        if (mPreviousPosition == null) {
+            return false;
+        }
+
+        float dx = mPosition.x() - mPreviousPosition.x();
+        float dy = mPosition.y() - mPreviousPosition.y();
+        return dx * dx + dy * dy <= MAX_INTERPOLATION_DISTANCE * MAX_INTERPOLATION_DISTANCE;
+    }
+
 }
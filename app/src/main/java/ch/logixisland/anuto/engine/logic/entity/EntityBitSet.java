@@ -0,0 +1,57 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.Arrays;
+
+public class EntityBitSet {
+
+    private long[] mWords = new long[1];
+    private int[] mGenerations = new int[64];
+
+    public void add(Entity entity) {
+        int slot = entity.getStoreSlot();
+
+        if (slot < 0) {
+            return;
+        }
+
+        ensureCapacity(slot);
+        mWords[slot >> 6] |= 1L << slot;
+        mGenerations[slot] = entity.getStoreGeneration();
+    }
+
+    public void remove(Entity entity) {
+        if (contains(entity)) {
+            int slot = entity.getStoreSlot();
+            mWords[slot >> 6] &= ~(1L << slot);
+        }
+    }
+
+    public boolean contains(Entity entity) {
+        int slot = entity.getStoreSlot();
+
+        if (slot < 0 || slot >= mGenerations.length) {
+            return false;
+        }
+
+        return (mWords[slot >> 6] & (1L << slot)) != 0 && mGenerations[slot] == entity.getStoreGeneration();
+    }
+
+    public void clear() {
+        Arrays.fill(mWords, 0L);
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot < mGenerations.length) {
+            return;
+        }
+
+        int capacity = mGenerations.length;
+
+        while (capacity <= slot) {
+            capacity *= 2;
+        }
+
+        mWords = Arrays.copyOf(mWords, capacity >> 6);
+        mGenerations = Arrays.copyOf(mGenerations, capacity);
+    }
+}
@@ -0,0 +1,25 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+public class EntityHandle<T extends Entity> {
+
+    private final EntityStore mEntityStore;
+    private final T mEntity;
+    private final int mSlot;
+    private final int mGeneration;
+
+    EntityHandle(EntityStore entityStore, T entity) {
+        mEntityStore = entityStore;
+        mEntity = entity;
+        mSlot = entity.getStoreSlot();
+        mGeneration = entity.getStoreGeneration();
+    }
+
+    public boolean isAlive() {
+        return mEntityStore.isAlive(mSlot, mGeneration);
+    }
+
+    public T get() {
+        return isAlive() ? mEntity : null;
+    }
+
+}
@@ -0,0 +1,8 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+
+public interface EntityMetadataFactory {
+    String getEntityName();
+    Object createMetadata(GameEngine gameEngine);
+}
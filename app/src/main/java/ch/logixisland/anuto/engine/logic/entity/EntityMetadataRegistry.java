@@ -0,0 +1,48 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import ch.logixisland.anuto.engine.logic.GameConfiguration;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+
+public class EntityMetadataRegistry {
+
+    private final GameEngine mGameEngine;
+    private final Map<String, EntityMetadataFactory> mMetadataFactories = new HashMap<>();
+    private final Map<String, Object> mMetadata = new HashMap<>();
+
+    private GameConfiguration mGameConfiguration;
+
+    public EntityMetadataRegistry(GameEngine gameEngine) {
+        mGameEngine = gameEngine;
+    }
+
+    public void registerMetadata(EntityMetadataFactory factory) {
+        mMetadataFactories.put(factory.getEntityName(), factory);
+    }
+
+    public synchronized <T> T getMetadata(String name, Class<T> type) {
+        GameConfiguration gameConfiguration = mGameEngine.getGameConfiguration();
+
+        if (mGameConfiguration != gameConfiguration) {
+            mGameConfiguration = gameConfiguration;
+            mMetadata.clear();
+        }
+
+        Object metadata = mMetadata.get(name);
+
+        if (metadata == null) {
+            EntityMetadataFactory factory = mMetadataFactories.get(name);
+
+            if (factory == null) {
+                throw new RuntimeException("No metadata registered for " + name + "!");
+            }
+
+            metadata = factory.createMetadata(mGameEngine);
+            mMetadata.put(name, metadata);
+        }
+
+        return type.cast(metadata);
+    }
+}
@@ -0,0 +1,5 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+public interface EntityRanking {
+    float getRank(Entity entity);
+}
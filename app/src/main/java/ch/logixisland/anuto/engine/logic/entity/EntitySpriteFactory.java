@@ -0,0 +1,8 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
+
+public interface EntitySpriteFactory {
+    String getEntityName();
+    void preloadSprites(SpriteFactory spriteFactory);
+}
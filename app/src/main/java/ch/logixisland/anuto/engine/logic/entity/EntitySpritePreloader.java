@@ -0,0 +1,32 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
+
+public class EntitySpritePreloader {
+
+    private final SpriteFactory mSpriteFactory;
+    private final Map<String, EntitySpriteFactory> mSpriteFactories = new HashMap<>();
+
+    public EntitySpritePreloader(SpriteFactory spriteFactory) {
+        mSpriteFactory = spriteFactory;
+    }
+
+    public void registerSprites(EntitySpriteFactory factory) {
+        mSpriteFactories.put(factory.getEntityName(), factory);
+    }
+
+    public void preload(String name) {
+        EntitySpriteFactory factory = mSpriteFactories.get(name);
+
+        if (factory != null) {
+            factory.preloadSprites(mSpriteFactory);
+        }
+    }
+
+    public void awaitPreload() {
+        mSpriteFactory.awaitPreload();
+    }
+}
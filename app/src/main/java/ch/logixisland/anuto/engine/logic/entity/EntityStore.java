@@ -2,18 +2,27 @@ package ch.logixisland.anuto.engine.logic.entity;
 
 import android.util.SparseArray;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import ch.logixisland.anuto.engine.logic.loop.TickListener;
 import ch.logixisland.anuto.util.container.SafeMultiMap;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
+import ch.logixisland.anuto.util.math.Vector2;
 
 public class EntityStore implements TickListener {
 
     private final SafeMultiMap<Entity> mEntities = new SafeMultiMap<>();
     private final SparseArray<Entity> mEntityIdMap = new SparseArray<>();
     private final Map<Class<? extends Entity>, Object> mStaticData = new HashMap<>();
+    private final SparseArray<RankedEntities> mRankedEntities = new SparseArray<>();
+    private final SparseArray<ZoneTracker> mZoneTrackers = new SparseArray<>();
+
+    private int[] mSlotGenerations = new int[64];
+    private int[] mFreeSlots = new int[64];
+    private int mFreeSlotCount = 0;
+    private int mSlotCount = 0;
 
     public Object getStaticData(Entity entity) {
         if (!mStaticData.containsKey(entity.getClass())) {
@@ -35,14 +44,62 @@ public class EntityStore implements TickListener {
         return mEntityIdMap.get(entityId);
     }
 
+    public void setRanking(int typeId, EntityRanking ranking) {
+        mRankedEntities.put(typeId, new RankedEntities(ranking));
+    }
+
+    public RankedEntities getRanked(int typeId) {
+        return mRankedEntities.get(typeId);
+    }
+
+    public Zone createZone(int typeId, Vector2 center, float range, ZoneListener listener) {
+        ZoneTracker tracker = mZoneTrackers.get(typeId);
+
+        if (tracker == null) {
+            tracker = new ZoneTracker();
+            mZoneTrackers.put(typeId, tracker);
+        }
+
+        return tracker.createZone(center, range, listener);
+    }
+
+    public <T extends Entity> EntityHandle<T> createHandle(T entity) {
+        return new EntityHandle<>(this, entity);
+    }
+
+    boolean isAlive(int slot, int generation) {
+        return slot >= 0 && slot < mSlotCount && mSlotGenerations[slot] == generation;
+    }
+
     public void add(Entity entity) {
+        int slot = allocateSlot();
+        entity.setStoreSlot(slot, mSlotGenerations[slot]);
+
         mEntities.add(entity.getEntityType(), entity);
         mEntityIdMap.put(entity.getEntityId(), entity);
         entity.init();
+
+        RankedEntities ranked = mRankedEntities.get(entity.getEntityType());
+        if (ranked != null) {
+            ranked.add(entity);
+        }
     }
 
     public void remove(Entity entity) {
-        mEntities.remove(entity.getEntityType(), entity);
+        if (mEntities.remove(entity.getEntityType(), entity)) {
+            ZoneTracker tracker = mZoneTrackers.get(entity.getEntityType());
+            if (tracker != null) {
+                tracker.entityRemoved(entity);
+            }
+
+            releaseSlot(entity);
+
+            RankedEntities ranked = mRankedEntities.get(entity.getEntityType());
+            if (ranked != null) {
+                ranked.remove(entity);
+            }
+        }
+
         mEntityIdMap.remove(entity.getEntityId());
         entity.clean();
     }
@@ -50,16 +107,67 @@ public class EntityStore implements TickListener {
     public void clear() {
         for (Entity entity : mEntities) {
             mEntities.remove(entity.getEntityType(), entity);
+            releaseSlot(entity);
             entity.clean();
         }
 
+        for (int i = 0; i < mRankedEntities.size(); i++) {
+            mRankedEntities.valueAt(i).clear();
+        }
+
+        for (int i = 0; i < mZoneTrackers.size(); i++) {
+            mZoneTrackers.valueAt(i).clear();
+        }
+
         mStaticData.clear();
     }
 
     @Override
     public void tick() {
+        for (Entity entity : mEntities) {
+            entity.storePreviousState();
+        }
+
         for (Entity entity : mEntities) {
             entity.tick();
         }
+
+        for (int i = 0; i < mRankedEntities.size(); i++) {
+            mRankedEntities.valueAt(i).update();
+        }
+
+        for (int i = 0; i < mZoneTrackers.size(); i++) {
+            mZoneTrackers.valueAt(i).update(getByType(mZoneTrackers.keyAt(i)));
+        }
+    }
+
+    private int allocateSlot() {
+        if (mFreeSlotCount > 0) {
+            return mFreeSlots[--mFreeSlotCount];
+        }
+
+        if (mSlotCount == mSlotGenerations.length) {
+            mSlotGenerations = Arrays.copyOf(mSlotGenerations, mSlotCount * 2);
+        }
+
+        return mSlotCount++;
+    }
+
+    private void releaseSlot(Entity entity) {
+        int slot = entity.getStoreSlot();
+
+        if (slot < 0) {
+            return;
+        }
+
+        // bump the generation so stale references to the slot can be told apart from its next owner
+        mSlotGenerations[slot]++;
+        entity.setStoreSlot(-1, 0);
+
+        if (mFreeSlotCount == mFreeSlots.length) {
+            mFreeSlots = Arrays.copyOf(mFreeSlots, mFreeSlotCount * 2);
+        }
+
+        mFreeSlots[mFreeSlotCount++] = slot;
     }
 }
@@ -0,0 +1,112 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import ch.logixisland.anuto.util.iterator.StreamIterator;
+
+public class RankedEntities {
+
+    private class RankIterator extends StreamIterator<Entity> {
+        private final int mStep;
+        private int mIndex;
+
+        private RankIterator(int startIndex, int step) {
+            mIndex = startIndex;
+            mStep = step;
+        }
+
+        @Override
+        public void close() {
+
+        }
+
+        @Override
+        public boolean hasNext() {
+            return mIndex >= 0 && mIndex < mSize;
+        }
+
+        @Override
+        public Entity next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Entity entity = mEntities[mIndex];
+            mIndex += mStep;
+            return entity;
+        }
+    }
+
+    private final EntityRanking mRanking;
+
+    private Entity[] mEntities = new Entity[16];
+    private float[] mRanks = new float[16];
+    private int mSize = 0;
+
+    RankedEntities(EntityRanking ranking) {
+        mRanking = ranking;
+    }
+
+    public StreamIterator<Entity> ascending() {
+        return new RankIterator(0, 1);
+    }
+
+    public StreamIterator<Entity> descending() {
+        return new RankIterator(mSize - 1, -1);
+    }
+
+    void add(Entity entity) {
+        if (mSize == mEntities.length) {
+            mEntities = Arrays.copyOf(mEntities, mSize * 2);
+            mRanks = Arrays.copyOf(mRanks, mSize * 2);
+        }
+
+        float rank = mRanking.getRank(entity);
+        int index = mSize;
+
+        while (index > 0 && mRanks[index - 1] > rank) {
+            mEntities[index] = mEntities[index - 1];
+            mRanks[index] = mRanks[index - 1];
+            index--;
+        }
+
+        mEntities[index] = entity;
+        mRanks[index] = rank;
+        mSize++;
+    }
+
+    void remove(Entity entity) {
+        for (int i = 0; i < mSize; i++) {
+            if (mEntities[i] == entity) {
+                System.arraycopy(mEntities, i + 1, mEntities, i, mSize - i - 1);
+                System.arraycopy(mRanks, i + 1, mRanks, i, mSize - i - 1);
+                mEntities[--mSize] = null;
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(mEntities, 0, mSize, null);
+        mSize = 0;
+    }
+
+    void update() {
+        // ranks change only slightly from tick to tick, so an insertion sort runs in almost linear time
+        for (int i = 0; i < mSize; i++) {
+            Entity entity = mEntities[i];
+            float rank = mRanking.getRank(entity);
+            int index = i;
+
+            while (index > 0 && mRanks[index - 1] > rank) {
+                mEntities[index] = mEntities[index - 1];
+                mRanks[index] = mRanks[index - 1];
+                index--;
+            }
+
+            mEntities[index] = entity;
+            mRanks[index] = rank;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.Iterator;
+
+import ch.logixisland.anuto.util.container.SafeCollection;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
+import ch.logixisland.anuto.util.math.Vector2;
+
+public class Zone {
+
+    private final ZoneTracker mTracker;
+    private final ZoneListener mListener;
+
+    private final SafeCollection<Entity> mEntities = new SafeCollection<>();
+    private final EntityBitSet mEntitySet = new EntityBitSet();
+
+    private Vector2 mCenter;
+    private float mRange;
+
+    Zone(ZoneTracker tracker, Vector2 center, float range, ZoneListener listener) {
+        mTracker = tracker;
+        mCenter = center;
+        mRange = range;
+        mListener = listener;
+    }
+
+    public Vector2 getCenter() {
+        return mCenter;
+    }
+
+    public float getRange() {
+        return mRange;
+    }
+
+    public void setShape(Vector2 center, float range) {
+        mTracker.unregisterZone(this);
+        mCenter = center;
+        mRange = range;
+        mTracker.registerZone(this);
+    }
+
+    public boolean contains(Entity entity) {
+        return mEntitySet.contains(entity);
+    }
+
+    public StreamIterator<Entity> getEntities() {
+        return mEntities.iterator();
+    }
+
+    public void remove() {
+        mTracker.removeZone(this);
+    }
+
+    boolean covers(Entity entity) {
+        return entity.getDistanceTo(mCenter) <= mRange;
+    }
+
+    void enter(Entity entity) {
+        mEntities.add(entity);
+        mEntitySet.add(entity);
+
+        if (mListener != null) {
+            mListener.entityEntered(entity);
+        }
+    }
+
+    void drop(Entity entity) {
+        if (mEntitySet.contains(entity)) {
+            mEntitySet.remove(entity);
+            mEntities.remove(entity);
+        }
+    }
+
+    void updateExits() {
+        Iterator<Entity> iterator = mEntities.iterator();
+
+        while (iterator.hasNext()) {
+            Entity entity = iterator.next();
+
+            if (!covers(entity)) {
+                iterator.remove();
+                mEntitySet.remove(entity);
+
+                if (mListener != null) {
+                    mListener.entityExited(entity);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        mEntities.clear();
+        mEntitySet.clear();
+    }
+}
@@ -0,0 +1,7 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+public interface ZoneListener {
+    void entityEntered(Entity entity);
+
+    void entityExited(Entity entity);
+}
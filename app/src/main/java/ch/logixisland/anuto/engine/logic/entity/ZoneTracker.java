@@ -0,0 +1,114 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import android.util.SparseArray;
+
+import java.util.Iterator;
+
+import ch.logixisland.anuto.util.container.SafeCollection;
+import ch.logixisland.anuto.util.math.Vector2;
+
+class ZoneTracker {
+
+    private static final float CELL_SIZE = 1f;
+
+    private final SafeCollection<Zone> mZones = new SafeCollection<>();
+    private final SparseArray<SafeCollection<Zone>> mCells = new SparseArray<>();
+
+    Zone createZone(Vector2 center, float range, ZoneListener listener) {
+        Zone zone = new Zone(this, center, range, listener);
+        mZones.add(zone);
+        registerZone(zone);
+        return zone;
+    }
+
+    void removeZone(Zone zone) {
+        if (mZones.remove(zone)) {
+            unregisterZone(zone);
+            zone.clear();
+        }
+    }
+
+    void registerZone(Zone zone) {
+        if (!mZones.contains(zone)) {
+            return;
+        }
+
+        Vector2 center = zone.getCenter();
+        float range = zone.getRange();
+
+        for (int x = getCell(center.x() - range); x <= getCell(center.x() + range); x++) {
+            for (int y = getCell(center.y() - range); y <= getCell(center.y() + range); y++) {
+                int key = getCellKey(x, y);
+                SafeCollection<Zone> cell = mCells.get(key);
+
+                if (cell == null) {
+                    cell = new SafeCollection<>();
+                    mCells.put(key, cell);
+                }
+
+                cell.add(zone);
+            }
+        }
+    }
+
+    void unregisterZone(Zone zone) {
+        Vector2 center = zone.getCenter();
+        float range = zone.getRange();
+
+        for (int x = getCell(center.x() - range); x <= getCell(center.x() + range); x++) {
+            for (int y = getCell(center.y() - range); y <= getCell(center.y() + range); y++) {
+                SafeCollection<Zone> cell = mCells.get(getCellKey(x, y));
+
+                if (cell != null) {
+                    cell.remove(zone);
+                }
+            }
+        }
+    }
+
+    void entityRemoved(Entity entity) {
+        for (Zone zone : mZones) {
+            zone.drop(entity);
+        }
+    }
+
+    void update(Iterator<Entity> entities) {
+        for (Zone zone : mZones) {
+            zone.updateExits();
+        }
+
+        // only the zones overlapping an entity's cell need to be checked for entries
+        while (entities.hasNext()) {
+            Entity entity = entities.next();
+            Vector2 position = entity.getPosition();
+            SafeCollection<Zone> cell = mCells.get(getCellKey(getCell(position.x()), getCell(position.y())));
+
+            if (cell == null) {
+                continue;
+            }
+
+            for (Zone zone : cell) {
+                if (!zone.contains(entity) && zone.covers(entity)) {
+                    zone.enter(entity);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        for (Zone zone : mZones) {
+            zone.clear();
+        }
+
+        mZones.clear();
+        mCells.clear();
+    }
+
+    private static int getCell(float coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static int getCellKey(int x, int y) {
+        return (x & 0xFFFF) << 16 | (y & 0xFFFF);
+    }
+}
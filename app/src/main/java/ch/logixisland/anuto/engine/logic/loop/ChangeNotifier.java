@@ -0,0 +1,42 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChangeNotifier {
+
+    private final FrameRateLogger mFrameRateLogger;
+
+    private List<Message> mPending = new ArrayList<>();
+    private List<Message> mPublishing = new ArrayList<>();
+
+    public ChangeNotifier(FrameRateLogger frameRateLogger) {
+        mFrameRateLogger = frameRateLogger;
+    }
+
+    public synchronized void notifyChanged(Message notification) {
+        mFrameRateLogger.incrementChangeCount();
+
+        // only a handful of notifications exist, a linear search is cheaper than hashing
+        if (!mPending.contains(notification)) {
+            mPending.add(notification);
+        }
+    }
+
+    void publish() {
+        List<Message> publishing;
+
+        synchronized (this) {
+            publishing = mPending;
+            mPending = mPublishing;
+            mPublishing = publishing;
+        }
+
+        for (Message notification : publishing) {
+            notification.execute();
+            mFrameRateLogger.incrementNotificationCount();
+        }
+
+        publishing.clear();
+    }
+}
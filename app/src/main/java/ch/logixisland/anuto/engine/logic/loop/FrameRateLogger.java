@@ -4,6 +4,7 @@ import android.os.Handler;
 import android.util.Log;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import ch.logixisland.anuto.engine.render.Renderer;
 
@@ -12,19 +13,39 @@ public class FrameRateLogger {
     private static final String TAG = Renderer.class.getSimpleName();
 
     private static final int LOG_INTERVAL = 5000;
+    private static final int[] FRAME_INTERVAL_BUCKETS = {8, 12, 18, 25, 34, 50};
 
     private final Handler mDebugHandler = new Handler();
     private final AtomicInteger mLoopCount = new AtomicInteger();
     private final AtomicInteger mRenderCount = new AtomicInteger();
+    private final AtomicInteger mSkippedFrameCount = new AtomicInteger();
+    private final AtomicInteger mChangeCount = new AtomicInteger();
+    private final AtomicInteger mNotificationCount = new AtomicInteger();
+    private final AtomicInteger mDrawCount = new AtomicInteger();
+    private final AtomicInteger mCachedDrawCount = new AtomicInteger();
+    private final AtomicIntegerArray mFrameIntervals = new AtomicIntegerArray(FRAME_INTERVAL_BUCKETS.length + 1);
 
     public FrameRateLogger() {
         mDebugHandler.post(new Runnable() {
             @Override
             public void run() {
+                int renderedFrames = Math.max(1, mRenderCount.get());
+                int drawCount = mDrawCount.getAndSet(0) / renderedFrames;
+                int cachedDrawCount = mCachedDrawCount.getAndSet(0) / renderedFrames;
+
+                int loopCount = mLoopCount.get();
+                int skippedFramePercentage = mSkippedFrameCount.getAndSet(0) * 100 / Math.max(1, loopCount);
+
                 int updateCount = mLoopCount.getAndSet(0) * 1000 / LOG_INTERVAL;
                 int renderCount = mRenderCount.getAndSet(0) * 1000 / LOG_INTERVAL;
+                int changeCount = mChangeCount.getAndSet(0) * 1000 / LOG_INTERVAL;
+                int notificationCount = mNotificationCount.getAndSet(0) * 1000 / LOG_INTERVAL;
 
-                Log.d(TAG, String.format("loop: %1$sHz; render: %2$sHz", updateCount, renderCount));
+                Log.d(TAG, String.format("loop: %1$sHz; render: %2$sHz; changes: %3$sHz; notifications: %4$sHz",
+                        updateCount, renderCount, changeCount, notificationCount));
+                Log.d(TAG, String.format("draw calls: %1$s/frame; cached: %2$s/frame; skipped frames: %3$s%%",
+                        drawCount, cachedDrawCount, skippedFramePercentage));
+                Log.d(TAG, "frame intervals: " + getFrameIntervalHistogram());
                 mDebugHandler.postDelayed(this, LOG_INTERVAL);
             }
         });
@@ -34,7 +55,55 @@ public class FrameRateLogger {
         mLoopCount.incrementAndGet();
     }
 
+    public void incrementSkippedFrameCount() {
+        mSkippedFrameCount.incrementAndGet();
+    }
+
     public void incrementRenderCount() {
         mRenderCount.incrementAndGet();
     }
+
+    public void addDrawCount(int drawCount, int cachedDrawCount) {
+        mDrawCount.addAndGet(drawCount);
+        mCachedDrawCount.addAndGet(cachedDrawCount);
+    }
+
+    public void recordFrameInterval(long intervalNanos) {
+        long intervalMillis = intervalNanos / 1000000L;
+        int bucket = 0;
+
+        while (bucket < FRAME_INTERVAL_BUCKETS.length && intervalMillis >= FRAME_INTERVAL_BUCKETS[bucket]) {
+            bucket++;
+        }
+
+        mFrameIntervals.incrementAndGet(bucket);
+    }
+
+    public void incrementChangeCount() {
+        mChangeCount.incrementAndGet();
+    }
+
+    public void incrementNotificationCount() {
+        mNotificationCount.incrementAndGet();
+    }
+
+    private String getFrameIntervalHistogram() {
+        StringBuilder histogram = new StringBuilder();
+
+        for (int i = 0; i <= FRAME_INTERVAL_BUCKETS.length; i++) {
+            if (i > 0) {
+                histogram.append("; ");
+            }
+
+            if (i < FRAME_INTERVAL_BUCKETS.length) {
+                histogram.append("<").append(FRAME_INTERVAL_BUCKETS[i]).append("ms: ");
+            } else {
+                histogram.append(">=").append(FRAME_INTERVAL_BUCKETS[i - 1]).append("ms: ");
+            }
+
+            histogram.append(mFrameIntervals.getAndSet(i, 0));
+        }
+
+        return histogram.toString();
+    }
 }
@@ -11,22 +11,29 @@ public class GameLoop implements Runnable {
 
     private final static String TAG = GameLoop.class.getSimpleName();
 
-    public final static int TARGET_FRAME_RATE = 30;
-    private final static int TICK_TIME = 1000 / TARGET_FRAME_RATE;
-    private final static int MAX_FRAME_SKIPS = 1;
+    public final static int DEFAULT_TARGET_FRAME_RATE = 30;
+    private final static long NANOS_PER_SECOND = 1000000000L;
+    private final static long MAX_CATCH_UP_TIME = NANOS_PER_SECOND / 4;
+    private final static int CATCH_UP_BATCH_SIZE = 100;
 
     private final Renderer mRenderer;
+    private final ChangeNotifier mChangeNotifier;
     private final FrameRateLogger mFrameRateLogger;
 
     private final Collection<TickListener> mTickListeners = new SafeCollection<>();
+    private final Collection<PresentationListener> mPresentationListeners = new SafeCollection<>();
 
-    private int mGameTicksPerLoop = 1;
+    private volatile int mTargetFrameRate = DEFAULT_TARGET_FRAME_RATE;
+    private volatile int mGameTicksPerLoop = 1;
 
     private Thread mGameThread;
     private volatile boolean mRunning = false;
+    private int mCatchUpTicks;
+    private volatile TickProfiler mTickProfiler;
 
-    public GameLoop(Renderer renderer, FrameRateLogger frameRateLogger) {
+    public GameLoop(Renderer renderer, ChangeNotifier changeNotifier, FrameRateLogger frameRateLogger) {
         mRenderer = renderer;
+        mChangeNotifier = changeNotifier;
         mFrameRateLogger = frameRateLogger;
     }
 
@@ -38,14 +45,25 @@ public class GameLoop implements Runnable {
         mTickListeners.remove(listener);
     }
 
+    // presentation listeners are not ticked while catching up, they are told about the skipped ticks instead
+    public void add(PresentationListener listener) {
+        mPresentationListeners.add(listener);
+    }
+
+    public void remove(PresentationListener listener) {
+        mPresentationListeners.remove(listener);
+    }
+
     public void clear() {
         mTickListeners.clear();
+        mPresentationListeners.clear();
     }
 
     public void start() {
         if (!mRunning) {
             Log.i(TAG, "Starting game loop");
             mRunning = true;
+            mRenderer.setAnimating(true);
             mGameThread = new Thread(this);
             mGameThread.start();
         }
@@ -55,6 +73,7 @@ public class GameLoop implements Runnable {
         if (mRunning) {
             Log.i(TAG, "Stopping game loop");
             mRunning = false;
+            mRenderer.setAnimating(false);
 
             try {
                 mGameThread.join();
@@ -65,47 +84,76 @@ public class GameLoop implements Runnable {
         }
     }
 
+    public int getTargetFrameRate() {
+        return mTargetFrameRate;
+    }
+
+    public void setTargetFrameRate(int targetFrameRate) {
+        mTargetFrameRate = targetFrameRate;
+    }
+
     public void setTicksPerLoop(int ticksPerLoop) {
         mGameTicksPerLoop = ticksPerLoop;
     }
 
+    public void setTickProfiler(TickProfiler tickProfiler) {
+        mTickProfiler = tickProfiler;
+    }
+
+    // the ticks are executed as fast as possible without drawing, only call from the game thread
+    public void catchUp(int ticks) {
+        mCatchUpTicks += ticks;
+    }
+
     public boolean isThreadChangeNeeded() {
         return Thread.currentThread() != mGameThread;
     }
 
     @Override
     public void run() {
-        long timeNextTick = System.currentTimeMillis();
-        long timeCurrent;
-        int skipFrameCount = 0;
+        long timePrevious = System.nanoTime();
+        long accumulatedTime = 0;
 
         try {
             while (mRunning) {
-                timeNextTick += TICK_TIME;
-
-                mRenderer.lock();
-                for (int repeat = 0; repeat < mGameTicksPerLoop; repeat++) {
-                    executeTick();
+                if (mCatchUpTicks > 0) {
+                    executeCatchUp();
+                    timePrevious = System.nanoTime();
+                    accumulatedTime = 0;
                 }
-                mRenderer.unlock();
 
-                timeCurrent = System.currentTimeMillis();
-                int sleepTime = (int) (timeNextTick - timeCurrent);
+                // fast forward shortens the tick time so the simulation stays evenly spaced
+                long tickTime = NANOS_PER_SECOND / (mTargetFrameRate * mGameTicksPerLoop);
+                long timeCurrent = System.nanoTime();
+                accumulatedTime += timeCurrent - timePrevious;
+                timePrevious = timeCurrent;
 
-                if (sleepTime > 0 || skipFrameCount >= MAX_FRAME_SKIPS) {
-                    mRenderer.invalidate();
-                    skipFrameCount = 0;
-                } else {
-                    skipFrameCount++;
+                if (accumulatedTime > MAX_CATCH_UP_TIME) {
+                    accumulatedTime = MAX_CATCH_UP_TIME; // resync
                 }
 
-                mFrameRateLogger.incrementLoopCount();
+                if (accumulatedTime >= tickTime) {
+                    mRenderer.lock();
+                    while (accumulatedTime >= tickTime) {
+                        executeTick(true);
+                        accumulatedTime -= tickTime;
+                    }
+                    boolean frameChanged = mRenderer.commitTicks(timeCurrent - accumulatedTime, tickTime);
+                    mRenderer.unlock();
+
+                    mChangeNotifier.publish();
 
-                if (sleepTime > 0) {
-                    Thread.sleep(sleepTime);
-                } else {
-                    timeNextTick = timeCurrent; // resync
+                    if (frameChanged) {
+                        mRenderer.invalidate();
+                    } else {
+                        mFrameRateLogger.incrementSkippedFrameCount();
+                    }
+
+                    mFrameRateLogger.incrementLoopCount();
                 }
+
+                long sleepTime = tickTime - accumulatedTime;
+                Thread.sleep(sleepTime / 1000000L, (int) (sleepTime % 1000000L));
             }
         } catch (Exception e) {
             mRunning = false;
@@ -114,10 +162,46 @@ public class GameLoop implements Runnable {
         }
     }
 
-    private void executeTick() {
+    private void executeCatchUp() {
+        Log.i(TAG, "Catching up " + mCatchUpTicks + " ticks");
+
+        // the renderer is released between batches so the UI thread never waits long
+        while (mRunning && mCatchUpTicks > 0) {
+            int ticks = Math.min(mCatchUpTicks, CATCH_UP_BATCH_SIZE);
+            mCatchUpTicks -= ticks;
+
+            mRenderer.lock();
+            for (int i = 0; i < ticks; i++) {
+                executeTick(false);
+            }
+            mRenderer.unlock();
+        }
+
+        for (PresentationListener listener : mPresentationListeners) {
+            listener.ticksSkipped();
+        }
+
+        mRenderer.markDirty();
+        mChangeNotifier.publish();
+    }
+
+    private void executeTick(boolean presenting) {
+        TickProfiler tickProfiler = mTickProfiler;
+        long startTime = tickProfiler != null ? System.nanoTime() : 0;
+
         for (TickListener listener : mTickListeners) {
             listener.tick();
         }
+
+        if (presenting) {
+            for (PresentationListener listener : mPresentationListeners) {
+                listener.tick();
+            }
+        }
+
+        if (tickProfiler != null) {
+            tickProfiler.tickExecuted(System.nanoTime() - startTime);
+        }
     }
 
 }
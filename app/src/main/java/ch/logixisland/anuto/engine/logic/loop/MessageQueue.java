@@ -18,7 +18,8 @@ public class MessageQueue implements TickListener, Persister {
     }
 
     private final ArrayList<MessageEntry> mQueue = new ArrayList<>();
-    private int mTickCount = 0;
+    // read by the command journal from its own thread
+    private volatile int mTickCount = 0;
 
     public int getTickCount() {
         return mTickCount;
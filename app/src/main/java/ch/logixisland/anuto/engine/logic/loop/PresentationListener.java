@@ -0,0 +1,5 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+public interface PresentationListener extends TickListener {
+    void ticksSkipped();
+}
@@ -1,20 +1,24 @@
 package ch.logixisland.anuto.engine.logic.loop;
 
-import ch.logixisland.anuto.engine.logic.GameEngine;
-
 public class TickTimer {
 
-    public static TickTimer createInterval(float interval) {
-        TickTimer ret = new TickTimer();
+    public static TickTimer createInterval(int targetFrameRate, float interval) {
+        TickTimer ret = new TickTimer(targetFrameRate);
         ret.setInterval(interval);
         return ret;
     }
 
+    private final int mTargetFrameRate;
+
     private float mReloadValue = 0f;
     private float mValue = 0f;
 
+    public TickTimer(int targetFrameRate) {
+        mTargetFrameRate = targetFrameRate;
+    }
+
     public void setInterval(float interval) {
-        mValue = mReloadValue = GameEngine.TARGET_FRAME_RATE * interval;
+        mValue = mReloadValue = mTargetFrameRate * interval;
     }
 
     public void reset() {
@@ -0,0 +1,366 @@
+package ch.logixisland.anuto.engine.logic.persistence;
+
+import android.util.Log;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.loop.Message;
+
+/**
+ * Append-only log of the player commands since the last checkpoint. The entries are buffered and
+ * written and forced to storage once per second, so a killed process loses at most the last
+ * second of the game. Replaying the journal on top of the checkpoint restores the game.
+ */
+public class CommandJournal {
+
+    private static final String TAG = CommandJournal.class.getSimpleName();
+
+    private static final byte ENTRY_SEED = 1;
+    private static final byte ENTRY_COMMAND = 2;
+    private static final byte ENTRY_TICK = 3;
+
+    private static final long FORCE_INTERVAL = 1000L;
+
+    private final GameEngine mGameEngine;
+    private final File mFile;
+    private final Map<String, CommandReplayer> mReplayers = new HashMap<>();
+    private final Random mSeedGenerator = new Random();
+
+    private final ScheduledExecutorService mExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "CommandJournal");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private volatile boolean mOpen;
+    private boolean mReplaying;
+
+    // only accessed by the executor
+    private final ByteArrayOutputStream mBuffer = new ByteArrayOutputStream();
+    private FileChannel mChannel;
+    private boolean mUnforced;
+    private int mLastTick;
+
+    public CommandJournal(GameEngine gameEngine, File file) {
+        mGameEngine = gameEngine;
+        mFile = file;
+
+        mExecutor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                force();
+            }
+        }, FORCE_INTERVAL, FORCE_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    public void registerReplayer(String command, CommandReplayer replayer) {
+        mReplayers.put(command, replayer);
+    }
+
+    public boolean exists() {
+        return mFile.exists();
+    }
+
+    // starts an empty journal for the checkpoint that was just written, call from the game thread
+    public void open() {
+        long seed = mSeedGenerator.nextLong();
+        mGameEngine.getRandom().setSeed(seed);
+
+        final int tick = mGameEngine.getTickCount();
+        final byte[] header = encodeHeader(tick, mGameEngine.getTargetFrameRate(), seed);
+        mOpen = true;
+
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    closeChannel();
+                    mChannel = new RandomAccessFile(mFile, "rw").getChannel();
+                    mChannel.truncate(0);
+                    mLastTick = tick;
+                    writeEntry(header);
+                } catch (IOException e) {
+                    Log.e(TAG, "Could not open journal!", e);
+                    mChannel = null;
+                }
+            }
+        });
+    }
+
+    public void close() {
+        mOpen = false;
+
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                closeChannel();
+            }
+        });
+    }
+
+    public void delete() {
+        mOpen = false;
+
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                closeChannel();
+                mFile.delete();
+            }
+        });
+    }
+
+    // call from the game thread right before the command is executed
+    public void record(String command, String... arguments) {
+        // replayed commands are already in the journal
+        if (mOpen && !mReplaying) {
+            final byte[] entry = encode(ENTRY_COMMAND, mGameEngine.getTickCount(), command, arguments);
+
+            mExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    writeEntry(entry);
+                }
+            });
+        }
+    }
+
+    /**
+     * Schedules the recorded commands on top of the checkpoint that was just loaded and returns
+     * the last tick the journal knows of. The game has to be caught up to this tick. New commands
+     * are appended to the replayed ones.
+     */
+    public int replay() throws IOException {
+        int checkpointTick = mGameEngine.getTickCount();
+        int lastTick = checkpointTick;
+        byte[] bytes = readFile();
+        DataInputStream stream = new DataInputStream(new ByteArrayInputStream(bytes));
+        int length = 0;
+
+        try {
+            // a journal of an older checkpoint is left over if the app died while opening a new one
+            if (stream.readByte() != ENTRY_SEED || stream.readInt() != checkpointTick ||
+                    stream.readInt() != mGameEngine.getTargetFrameRate()) {
+                return checkpointTick;
+            }
+
+            mGameEngine.getRandom().setSeed(stream.readLong());
+            length = bytes.length - stream.available();
+
+            while (true) {
+                byte type = stream.readByte();
+                int tick = stream.readInt();
+
+                if (type == ENTRY_COMMAND) {
+                    String command = stream.readUTF();
+                    String[] arguments = new String[stream.readUnsignedByte()];
+
+                    for (int i = 0; i < arguments.length; i++) {
+                        arguments[i] = stream.readUTF();
+                    }
+
+                    scheduleCommand(command, arguments, tick - checkpointTick);
+                } else if (type != ENTRY_TICK) {
+                    throw new IOException("Invalid journal entry!");
+                }
+
+                lastTick = Math.max(lastTick, tick);
+                length = bytes.length - stream.available();
+            }
+        } catch (EOFException e) {
+            // the end of the file, the last entry may have been cut off
+            if (length > 0) {
+                append(length, lastTick);
+            }
+
+            return lastTick;
+        }
+    }
+
+    private byte[] readFile() throws IOException {
+        byte[] bytes = new byte[(int) mFile.length()];
+        DataInputStream stream = new DataInputStream(new FileInputStream(mFile));
+
+        try {
+            stream.readFully(bytes);
+        } finally {
+            stream.close();
+        }
+
+        return bytes;
+    }
+
+    private void append(final int length, final int tick) {
+        mOpen = true;
+
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    closeChannel();
+                    mChannel = new RandomAccessFile(mFile, "rw").getChannel();
+                    mChannel.truncate(length);
+                    mChannel.position(length);
+                    mLastTick = tick;
+                } catch (IOException e) {
+                    Log.e(TAG, "Could not open journal!", e);
+                    mChannel = null;
+                }
+            }
+        });
+    }
+
+    private void scheduleCommand(final String command, final String[] arguments, int ticks) throws IOException {
+        final CommandReplayer replayer = mReplayers.get(command);
+
+        if (replayer == null) {
+            throw new IOException("Unknown command " + command + "!");
+        }
+
+        // runs during the same tick as the recorded command
+        mGameEngine.postAfterTicks(new Message() {
+            @Override
+            public void execute() {
+                mReplaying = true;
+
+                try {
+                    replayer.replayCommand(command, arguments);
+                } finally {
+                    mReplaying = false;
+                }
+            }
+        }, ticks);
+    }
+
+    private void force() {
+        if (mChannel == null) {
+            return;
+        }
+
+        // tells the replay how far the game got after the last command
+        int tick = mGameEngine.getTickCount();
+
+        if (tick != mLastTick) {
+            mLastTick = tick;
+            writeEntry(encode(ENTRY_TICK, tick, null, null));
+        }
+
+        flush();
+
+        if (mUnforced) {
+            try {
+                mChannel.force(false);
+                mUnforced = false;
+            } catch (IOException e) {
+                Log.e(TAG, "Could not force journal!", e);
+            }
+        }
+    }
+
+    private void writeEntry(byte[] entry) {
+        if (mChannel == null) {
+            return;
+        }
+
+        mBuffer.write(entry, 0, entry.length);
+    }
+
+    private void flush() {
+        if (mBuffer.size() == 0) {
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(mBuffer.toByteArray());
+
+            while (buffer.hasRemaining()) {
+                mChannel.write(buffer);
+            }
+
+            mUnforced = true;
+        } catch (IOException e) {
+            Log.e(TAG, "Could not write journal!", e);
+        }
+
+        mBuffer.reset();
+    }
+
+    private void closeChannel() {
+        if (mChannel == null) {
+            return;
+        }
+
+        flush();
+
+        try {
+            mChannel.force(false);
+            mChannel.close();
+        } catch (IOException e) {
+            Log.e(TAG, "Could not close journal!", e);
+        }
+
+        mChannel = null;
+        mUnforced = false;
+    }
+
+    // the tick rate is part of the header, the ticks of the entries are only valid at this rate
+    private static byte[] encodeHeader(int tick, int targetFrameRate, long seed) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+
+        try {
+            data.writeByte(ENTRY_SEED);
+            data.writeInt(tick);
+            data.writeInt(targetFrameRate);
+            data.writeLong(seed);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not encode journal header!", e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encode(byte type, int tick, String command, String[] arguments) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+
+        try {
+            data.writeByte(type);
+            data.writeInt(tick);
+
+            if (type == ENTRY_COMMAND) {
+                data.writeUTF(command);
+                data.writeByte(arguments.length);
+
+                for (String argument : arguments) {
+                    data.writeUTF(argument);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not encode journal entry!", e);
+        }
+
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,5 @@
+package ch.logixisland.anuto.engine.logic.persistence;
+
+public interface CommandReplayer {
+    void replayCommand(String command, String[] arguments);
+}
@@ -16,18 +16,21 @@ public class GamePersister {
     }
 
     public void loadGame(InputStream inputStream) {
-        GameDescriptorRoot gameDescriptor;
+        loadGame(readGame(inputStream));
+    }
 
+    public GameDescriptorRoot readGame(InputStream inputStream) {
         try {
-            gameDescriptor = GameDescriptorRoot.fromXml(inputStream);
+            return GameDescriptorRoot.fromXml(inputStream);
         } catch (Exception e) {
-            throw new RuntimeException("loadGame() failed!", e);
+            throw new RuntimeException("readGame() failed!", e);
         }
+    }
 
+    public void loadGame(GameDescriptorRoot gameDescriptor) {
         for (Persister persister : mPersisterList) {
             persister.readDescriptor(gameDescriptor);
         }
-
     }
 
     public void saveGame(OutputStream outputStream) {
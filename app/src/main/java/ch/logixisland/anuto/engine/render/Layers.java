@@ -16,4 +16,9 @@ public final class Layers {
     public static final int ENEMY_HEALTHBAR = 60;
     public static final int TOWER_RANGE = 60;
     public static final int TOWER_LEVEL = 60;
+
+    // drawables on static layers never change between frames, the renderer draws them from a cache
+    public static boolean isStatic(int layer) {
+        return layer == PLATEAU;
+    }
 }
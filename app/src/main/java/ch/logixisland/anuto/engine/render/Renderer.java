@@ -1,9 +1,13 @@
 package ch.logixisland.anuto.engine.render;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Matrix;
 import android.view.View;
 
 import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -21,10 +25,23 @@ public class Renderer implements ThemeListener {
     private final FrameRateLogger mFrameRateLogger;
     private final SafeMultiMap<Drawable> mDrawables = new SafeMultiMap<>();
     private final Lock mLock = new ReentrantLock(true);
+    private final StyleRegistry mStyleRegistry = new StyleRegistry();
 
     private int mBackgroundColor;
     private WeakReference<View> mViewRef;
 
+    private volatile boolean mAnimating;
+    private final AtomicBoolean mDirty = new AtomicBoolean(true);
+    private boolean mFrameChanging;
+    private long mLastTickTime;
+    private long mTickTime;
+    private long mLastDrawTime;
+    private float mInterpolation = 1f;
+
+    private Bitmap mStaticCache;
+    private Matrix mStaticCacheMatrix;
+    private volatile boolean mStaticCacheDirty = true;
+
     public Renderer(Viewport viewport, ThemeManager themeManager, FrameRateLogger frameRateLogger) {
         mViewport = viewport;
         mFrameRateLogger = frameRateLogger;
@@ -32,20 +49,38 @@ public class Renderer implements ThemeListener {
         themeChanged(themeManager.getTheme());
     }
 
+    public StyleRegistry getStyleRegistry() {
+        return mStyleRegistry;
+    }
+
     public void setView(final View view) {
         mViewRef = new WeakReference<>(view);
     }
 
     public void add(Drawable obj) {
-        mDrawables.add(obj.getLayer(), obj);
+        if (mDrawables.add(obj.getLayer(), obj) && Layers.isStatic(obj.getLayer())) {
+            mStaticCacheDirty = true;
+        }
+
+        mDirty.set(true);
     }
 
     public void remove(Drawable obj) {
-        mDrawables.remove(obj.getLayer(), obj);
+        if (mDrawables.remove(obj.getLayer(), obj) && Layers.isStatic(obj.getLayer())) {
+            mStaticCacheDirty = true;
+        }
+
+        mDirty.set(true);
     }
 
     public void clear() {
         mDrawables.clear();
+        mStaticCacheDirty = true;
+        mDirty.set(true);
+    }
+
+    public void markDirty() {
+        mDirty.set(true);
     }
 
     public void lock() {
@@ -56,6 +91,25 @@ public class Renderer implements ThemeListener {
         mLock.unlock();
     }
 
+    public void setAnimating(boolean animating) {
+        mAnimating = animating;
+    }
+
+    // called by the game loop after each batch of ticks, returns whether the frame needs to be drawn
+    public boolean commitTicks(long lastTickTime, long tickTime) {
+        mLastTickTime = lastTickTime;
+        mTickTime = tickTime;
+
+        // one more frame after the last change so interpolation settles on the final positions
+        boolean wasChanging = mFrameChanging;
+        mFrameChanging = mDirty.getAndSet(false);
+        return mFrameChanging || wasChanging;
+    }
+
+    public float getInterpolation() {
+        return mInterpolation;
+    }
+
     public void invalidate() {
         View view = mViewRef.get();
 
@@ -67,24 +121,109 @@ public class Renderer implements ThemeListener {
     public void draw(Canvas canvas) {
         mLock.lock();
 
-        canvas.drawColor(mBackgroundColor);
-        canvas.concat(mViewport.getScreenMatrix());
+        long drawTime = System.nanoTime();
+        mInterpolation = mTickTime > 0 ? Math.max(0f, Math.min(1f, (drawTime - mLastTickTime) / (float) mTickTime)) : 1f;
+
+        Matrix screenMatrix = mViewport.getScreenMatrix();
+        boolean staticCacheValid = updateStaticCache(canvas.getWidth(), canvas.getHeight(), screenMatrix);
+        boolean staticCacheDrawn = false;
+        int drawCount = 0;
+        int cachedDrawCount = 0;
 
-        for (Drawable obj : mDrawables) {
-            obj.draw(canvas);
+        canvas.drawColor(mBackgroundColor);
+        canvas.save();
+        canvas.concat(screenMatrix);
+
+        for (int i = 0; i < mDrawables.size(); i++) {
+            boolean staticLayer = staticCacheValid && Layers.isStatic(mDrawables.keyAt(i));
+
+            if (staticLayer && !staticCacheDrawn) {
+                canvas.restore();
+                canvas.drawBitmap(mStaticCache, 0, 0, null);
+                canvas.save();
+                canvas.concat(screenMatrix);
+                staticCacheDrawn = true;
+                drawCount++;
+            }
+
+            for (Drawable obj : mDrawables.valueAt(i)) {
+                if (staticLayer) {
+                    cachedDrawCount++;
+                } else {
+                    obj.draw(canvas);
+                    drawCount++;
+                }
+            }
         }
 
+        canvas.restore();
         mLock.unlock();
 
         mFrameRateLogger.incrementRenderCount();
+        mFrameRateLogger.addDrawCount(drawCount, cachedDrawCount);
+
+        if (mAnimating) {
+            if (mLastDrawTime > 0) {
+                mFrameRateLogger.recordFrameInterval(drawTime - mLastDrawTime);
+            }
+
+            mLastDrawTime = drawTime;
+
+            // keep drawing interpolated frames at display rate until the last tick is reached
+            View view = mViewRef.get();
+
+            if (view != null && mFrameChanging && mInterpolation < 1f) {
+                view.postInvalidateOnAnimation();
+            }
+        } else {
+            mLastDrawTime = 0;
+        }
     }
 
     @Override
     public void themeChanged(Theme theme) {
         mBackgroundColor = theme.getColor(R.attr.backgroundColor);
+        mStyleRegistry.themeChanged(theme);
+        mStaticCacheDirty = true;
+        mDirty.set(true);
     }
 
     public boolean isPositionVisible(Vector2 position) {
         return mViewport.getScreenClipRect().contains(position.x(), position.y());
     }
+
+    private boolean updateStaticCache(int width, int height, Matrix screenMatrix) {
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+
+        if (mStaticCache == null || mStaticCache.getWidth() != width || mStaticCache.getHeight() != height) {
+            if (mStaticCache != null) {
+                mStaticCache.recycle();
+            }
+
+            mStaticCache = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            mStaticCacheDirty = true;
+        }
+
+        // the viewport creates a new matrix whenever the screen or game size changes
+        if (mStaticCacheDirty || mStaticCacheMatrix != screenMatrix) {
+            mStaticCacheDirty = false;
+            mStaticCacheMatrix = screenMatrix;
+            mStaticCache.eraseColor(Color.TRANSPARENT);
+
+            Canvas cacheCanvas = new Canvas(mStaticCache);
+            cacheCanvas.concat(screenMatrix);
+
+            for (int i = 0; i < mDrawables.size(); i++) {
+                if (Layers.isStatic(mDrawables.keyAt(i))) {
+                    for (Drawable obj : mDrawables.valueAt(i)) {
+                        obj.draw(cacheCanvas);
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
 }
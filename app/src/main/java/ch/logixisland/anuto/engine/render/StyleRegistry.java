@@ -0,0 +1,110 @@
+package ch.logixisland.anuto.engine.render;
+
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import ch.logixisland.anuto.R;
+import ch.logixisland.anuto.engine.theme.Theme;
+import ch.logixisland.anuto.engine.theme.ThemeListener;
+
+public class StyleRegistry implements ThemeListener {
+
+    public static final int HEALTH_BAR_BACKGROUND = 0;
+    public static final int HEALTH_BAR = 1;
+    public static final int RANGE_INDICATOR = 2;
+    public static final int LEVEL_INDICATOR = 3;
+    public static final int EXPLOSION = 4;
+    public static final int LASER = 5;
+    public static final int HEAL = 6;
+    public static final int TELEPORT = 7;
+    public static final int TELEPORTED_MARKER = 8;
+    public static final int FADING_SPRITE = 9;
+
+    private static final int STYLE_COUNT = 10;
+
+    // fading styles are prebuilt at these alpha levels so shared paints never change while drawing
+    private static final int ALPHA_LEVELS = 32;
+
+    private volatile Paint[][] mPaints;
+
+    StyleRegistry() {
+
+    }
+
+    public Paint getPaint(int style) {
+        Paint[] paints = mPaints[style];
+        return paints[paints.length - 1];
+    }
+
+    public Paint getPaint(int style, int alpha) {
+        Paint[] paints = mPaints[style];
+
+        if (alpha <= 0) {
+            return paints[0];
+        }
+
+        if (alpha >= 255) {
+            return paints[paints.length - 1];
+        }
+
+        return paints[Math.round(alpha * (paints.length - 1) / 255f)];
+    }
+
+    @Override
+    public void themeChanged(Theme theme) {
+        Paint[][] paints = new Paint[STYLE_COUNT][];
+
+        paints[HEALTH_BAR_BACKGROUND] = single(createFill(theme.getColor(R.attr.healthBarBackgroundColor)));
+        paints[HEALTH_BAR] = single(createFill(theme.getColor(R.attr.healthBarColor)));
+        paints[RANGE_INDICATOR] = single(createStroke(theme.getColor(R.attr.rangeIndicatorColor), 0.05f));
+        paints[LEVEL_INDICATOR] = single(createText(theme.getColor(R.attr.levelIndicatorColor), 100));
+        paints[EXPLOSION] = fading(createFill(Color.YELLOW));
+        paints[LASER] = fading(createStroke(Color.RED, 0.1f));
+        paints[HEAL] = single(withAlpha(createStroke(Color.BLUE, 0.05f), 70));
+        paints[TELEPORT] = single(withAlpha(createStroke(Color.MAGENTA, 0.1f), 70));
+        paints[TELEPORTED_MARKER] = single(withAlpha(createFill(Color.MAGENTA), 30));
+        paints[FADING_SPRITE] = fading(new Paint());
+
+        mPaints = paints;
+    }
+
+    private static Paint createFill(int color) {
+        Paint paint = new Paint();
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(color);
+        return paint;
+    }
+
+    private static Paint createStroke(int color, float width) {
+        Paint paint = new Paint();
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(width);
+        paint.setColor(color);
+        return paint;
+    }
+
+    private static Paint createText(int color, float size) {
+        Paint paint = createFill(color);
+        paint.setTextSize(size);
+        return paint;
+    }
+
+    private static Paint withAlpha(Paint paint, int alpha) {
+        paint.setAlpha(alpha);
+        return paint;
+    }
+
+    private static Paint[] single(Paint paint) {
+        return new Paint[]{paint};
+    }
+
+    private static Paint[] fading(Paint base) {
+        Paint[] paints = new Paint[ALPHA_LEVELS];
+
+        for (int i = 0; i < ALPHA_LEVELS; i++) {
+            paints[i] = withAlpha(new Paint(base), Math.round(i * 255f / (ALPHA_LEVELS - 1)));
+        }
+
+        return paints;
+    }
+}
@@ -13,6 +13,7 @@ public class Viewport {
     private float mGameHeight;
     private float mScreenWidth;
     private float mScreenHeight;
+    private float mTileSize;
     private RectF mScreenClipRect;
 
     public void setGameSize(int width, int height) {
@@ -32,6 +33,10 @@ public class Viewport {
         return mScreenMatrix;
     }
 
+    public float getTileSize() {
+        return mTileSize;
+    }
+
     public RectF getScreenClipRect() {
         return mScreenClipRect;
     }
@@ -48,6 +53,7 @@ public class Viewport {
         float tileSize = Math.min(mScreenWidth / mGameWidth, mScreenHeight / mGameHeight);
         mScreenMatrix.postTranslate(0.5f, 0.5f);
         mScreenMatrix.postScale(tileSize, tileSize);
+        mTileSize = tileSize;
 
         float paddingLeft = (mScreenWidth - (tileSize * mGameWidth)) / 2f;
         float paddingTop = (mScreenHeight - (tileSize * mGameHeight)) / 2f;
@@ -1,16 +1,20 @@
 package ch.logixisland.anuto.engine.render.sprite;
 
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
+import ch.logixisland.anuto.engine.render.Renderer;
 
 public class AnimatedSprite extends SpriteInstance {
 
-    private final TickTimer mTimer = new TickTimer();
+    private final TickTimer mTimer;
+    private final Renderer mRenderer;
 
     private int mSequenceIndex;
     private int[] mSequence;
 
-    AnimatedSprite(int layer, SpriteTemplate template) {
+    AnimatedSprite(int layer, SpriteTemplate template, AnimationClock clock, Renderer renderer) {
         super(layer, template);
+        mTimer = new TickTimer(clock.getTargetFrameRate());
+        mRenderer = renderer;
     }
 
     @Override
@@ -36,45 +40,21 @@ public class AnimatedSprite extends SpriteInstance {
     }
 
     public void setSequenceForward() {
-        int bitmapCount = getTemplate().getBitmapCount();
-        int seq[] = new int[bitmapCount];
-
-        for (int i = 0; i < seq.length; i++) {
-            seq[i] = i;
-        }
-
-        setSequence(seq);
+        setSequence(SpriteSequences.forward(getTemplate().getBitmapCount()));
     }
 
     public void setSequenceForwardBackward() {
-        int bitmapCount = getTemplate().getBitmapCount();
-        int seq[] = new int[bitmapCount * 2 - 2];
-
-        for (int i = 0; i < seq.length; i++) {
-            if (i < bitmapCount) {
-                seq[i] = i;
-            } else {
-                seq[i] = bitmapCount * 2 - 2 - i;
-            }
-        }
-
-        setSequence(seq);
+        setSequence(SpriteSequences.forwardBackward(getTemplate().getBitmapCount()));
     }
 
     public void setSequenceBackward() {
-        int bitmapCount = getTemplate().getBitmapCount();
-        int seq[] = new int[bitmapCount];
-
-        for (int i = 0; i < seq.length; i++) {
-            seq[i] = bitmapCount - 1 - i;
-        }
-
-        setSequence(seq);
+        setSequence(SpriteSequences.backward(getTemplate().getBitmapCount()));
     }
 
     public void reset() {
         mTimer.reset();
         mSequenceIndex = 0;
+        mRenderer.markDirty();
     }
 
     public boolean tick() {
@@ -87,6 +67,8 @@ public class AnimatedSprite extends SpriteInstance {
             } else {
                 mSequenceIndex++;
             }
+
+            mRenderer.markDirty();
         }
 
         return ret;
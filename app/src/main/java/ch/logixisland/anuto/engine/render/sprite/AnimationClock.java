@@ -0,0 +1,30 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+import ch.logixisland.anuto.engine.logic.loop.TickListener;
+
+public class AnimationClock implements TickListener {
+
+    private int mTick;
+    private int mTargetFrameRate;
+
+    public AnimationClock(int targetFrameRate) {
+        mTargetFrameRate = targetFrameRate;
+    }
+
+    int getTick() {
+        return mTick;
+    }
+
+    int getTargetFrameRate() {
+        return mTargetFrameRate;
+    }
+
+    public void setTargetFrameRate(int targetFrameRate) {
+        mTargetFrameRate = targetFrameRate;
+    }
+
+    @Override
+    public void tick() {
+        mTick++;
+    }
+}
@@ -0,0 +1,52 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+public class LoopedSprite extends SpriteInstance {
+
+    private final AnimationClock mClock;
+
+    private int[] mSequence;
+    private float mTicksPerFrame = 1f;
+    private int mPhase;
+
+    LoopedSprite(int layer, SpriteTemplate template, AnimationClock clock) {
+        super(layer, template);
+        mClock = clock;
+        mPhase = clock.getTick();
+    }
+
+    @Override
+    int getIndex() {
+        int frame = (int) ((mClock.getTick() - mPhase) / mTicksPerFrame);
+        return mSequence[frame % mSequence.length];
+    }
+
+    public void setFrequency(float frequency) {
+        setInterval(1f / frequency);
+    }
+
+    public void setInterval(float interval) {
+        mTicksPerFrame = mClock.getTargetFrameRate() * interval / mSequence.length;
+    }
+
+    public void setSequence(int[] sequence) {
+        mSequence = sequence;
+        reset();
+    }
+
+    public void setSequenceForward() {
+        setSequence(SpriteSequences.forward(getTemplate().getBitmapCount()));
+    }
+
+    public void setSequenceForwardBackward() {
+        setSequence(SpriteSequences.forwardBackward(getTemplate().getBitmapCount()));
+    }
+
+    public void setSequenceBackward() {
+        setSequence(SpriteSequences.backward(getTemplate().getBitmapCount()));
+    }
+
+    public void reset() {
+        mPhase = mClock.getTick();
+    }
+
+}
@@ -0,0 +1,64 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+public class ResourceSpriteDecoder implements SpriteDecoder {
+
+    private final Resources mResources;
+    private final Paint mFilterPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    public ResourceSpriteDecoder(Resources resources) {
+        mResources = resources;
+    }
+
+    @Override
+    public void readSheetSize(SpriteSheetLayout layout) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        options.inScaled = false;
+        BitmapFactory.decodeResource(mResources, layout.getResourceId(), options);
+
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            throw new RuntimeException("Could not read sprite sheet size!");
+        }
+
+        layout.setSheetSize(options.outWidth, options.outHeight);
+    }
+
+    @Override
+    public SpriteSheet decode(SpriteSheetLayout layout) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = layout.getSampleSize();
+        options.inScaled = false;
+        options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+        Bitmap sheet = BitmapFactory.decodeResource(mResources, layout.getResourceId(), options);
+
+        if (sheet == null) {
+            throw new RuntimeException("Could not decode sprite sheet!");
+        }
+
+        // frames are drawn into their final size and format, the sampled sheet is dropped right after
+        Bitmap.Config config = sheet.hasAlpha() ? Bitmap.Config.ARGB_8888 : Bitmap.Config.RGB_565;
+        int spriteCount = layout.getSpriteCount();
+        int sampledWidth = sheet.getWidth() / spriteCount;
+        Rect target = new Rect(0, 0, layout.getFrameWidth(), layout.getFrameHeight());
+
+        Bitmap[] frames = new Bitmap[spriteCount];
+        long byteCount = 0;
+
+        for (int i = 0; i < spriteCount; i++) {
+            Rect source = new Rect(sampledWidth * i, 0, sampledWidth * (i + 1), sheet.getHeight());
+            frames[i] = Bitmap.createBitmap(layout.getFrameWidth(), layout.getFrameHeight(), config);
+            new Canvas(frames[i]).drawBitmap(sheet, source, target, mFilterPaint);
+            byteCount += frames[i].getByteCount();
+        }
+
+        sheet.recycle();
+        return new SpriteSheet(frames, byteCount);
+    }
+}
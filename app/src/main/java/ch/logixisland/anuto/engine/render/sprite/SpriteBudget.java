@@ -0,0 +1,66 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+public class SpriteBudget {
+
+    private static final int MIN_FRAME_SIZE = 16;
+    private static final int MAX_BYTES_PER_PIXEL = 4;
+
+    private final long mLimit;
+    private long mUsed;
+
+    public SpriteBudget(long limit) {
+        mLimit = limit;
+    }
+
+    public long getLimit() {
+        return mLimit;
+    }
+
+    public synchronized long getUsed() {
+        return mUsed;
+    }
+
+    // reserves the estimated size right away, so concurrent decoders cannot overrun the budget together
+    public synchronized long plan(SpriteSheetLayout layout, int targetFrameSize) {
+        int sourceWidth = layout.getSourceFrameWidth();
+        int sourceHeight = layout.getSourceFrameHeight();
+        int sourceSize = Math.max(sourceWidth, sourceHeight);
+        int frameSize = targetFrameSize > 0 ? Math.min(targetFrameSize, sourceSize) : sourceSize;
+
+        // a sheet that does not fit anymore is decoded smaller instead of failing
+        while (frameSize > MIN_FRAME_SIZE && estimateByteCount(layout, frameSize, sourceSize) > mLimit - mUsed) {
+            frameSize = Math.max(frameSize / 2, MIN_FRAME_SIZE);
+        }
+
+        int sampleSize = 1;
+
+        while (sourceSize / (sampleSize * 2) >= frameSize) {
+            sampleSize *= 2;
+        }
+
+        float scale = (float) frameSize / sourceSize;
+        layout.setDecodeSize(sampleSize,
+                Math.max(Math.round(sourceWidth * scale), 1),
+                Math.max(Math.round(sourceHeight * scale), 1));
+
+        long reservedByteCount = estimateByteCount(layout, frameSize, sourceSize);
+        mUsed += reservedByteCount;
+        return reservedByteCount;
+    }
+
+    // replaces the reservation of plan() with the size of the decoded sheet
+    public synchronized void settle(long reservedByteCount, long byteCount) {
+        mUsed = Math.max(mUsed - reservedByteCount + byteCount, 0);
+    }
+
+    public synchronized void release(long byteCount) {
+        mUsed = Math.max(mUsed - byteCount, 0);
+    }
+
+    private static long estimateByteCount(SpriteSheetLayout layout, int frameSize, int sourceSize) {
+        float scale = (float) frameSize / sourceSize;
+        long frameWidth = Math.max(Math.round(layout.getSourceFrameWidth() * scale), 1);
+        long frameHeight = Math.max(Math.round(layout.getSourceFrameHeight() * scale), 1);
+        return frameWidth * frameHeight * layout.getSpriteCount() * MAX_BYTES_PER_PIXEL;
+    }
+}
@@ -0,0 +1,6 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+public interface SpriteDecoder {
+    void readSheetSize(SpriteSheetLayout layout);
+    SpriteSheet decode(SpriteSheetLayout layout);
+}
@@ -2,45 +2,275 @@ package ch.logixisland.anuto.engine.render.sprite;
 
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
+import android.util.Log;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import ch.logixisland.anuto.engine.logic.loop.GameLoop;
+import ch.logixisland.anuto.engine.render.Renderer;
+import ch.logixisland.anuto.engine.render.Viewport;
+import ch.logixisland.anuto.engine.theme.Theme;
+import ch.logixisland.anuto.engine.theme.ThemeListener;
 import ch.logixisland.anuto.engine.theme.ThemeManager;
 
-public class SpriteFactory {
+public class SpriteFactory implements ThemeListener {
+
+    private static final String TAG = SpriteFactory.class.getSimpleName();
+
+    // largest sprite size in tiles, see the setMatrix calls of the entities
+    private static final float MAX_SPRITE_SIZE = 1.2f;
+    private static final int FRAME_SIZE_STEP = 16;
+    private static final int MEMORY_FRACTION = 4;
+    private static final int PRELOAD_THREADS = Math.max(Runtime.getRuntime().availableProcessors() - 1, 1);
+
+    // templates share the frame array of their sheet, so it is collected once the last template is gone
+    private static class ReleasedSheet extends WeakReference<Bitmap[]> {
+        final long mByteCount;
+
+        ReleasedSheet(SpriteSheet sheet, ReferenceQueue<Bitmap[]> queue) {
+            super(sheet.getFrames(), queue);
+            mByteCount = sheet.getByteCount();
+        }
+    }
 
-    private final Context mContext;
     private final ThemeManager mThemeManager;
+    private final Viewport mViewport;
+    private final Renderer mRenderer;
+    private final SpriteDecoder mDecoder;
+    private final SpriteBudget mBudget;
+    private final AnimationClock mAnimationClock = new AnimationClock(GameLoop.DEFAULT_TARGET_FRAME_RATE);
+
+    private final SparseArray<SpriteSheet> mSheets = new SparseArray<>();
+    private final SparseIntArray mSheetFrameSizes = new SparseIntArray();
+    private final SparseArray<Future<SpriteSheet>> mPreloads = new SparseArray<>();
+    private final SparseIntArray mPreloadFrameSizes = new SparseIntArray();
+    private final Set<ReleasedSheet> mReleasedSheets = new HashSet<>();
+    private final ReferenceQueue<Bitmap[]> mReleasedSheetQueue = new ReferenceQueue<>();
+    private final ExecutorService mPreloadExecutor = Executors.newFixedThreadPool(PRELOAD_THREADS, new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "SpritePreloader");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
 
-    public SpriteFactory(Context context, ThemeManager themeManager) {
-        mContext = context;
+    public SpriteFactory(Context context, ThemeManager themeManager, Viewport viewport, Renderer renderer) {
+        this(themeManager, viewport, renderer, new ResourceSpriteDecoder(context.getResources()),
+                new SpriteBudget(Runtime.getRuntime().maxMemory() / MEMORY_FRACTION));
+    }
+
+    SpriteFactory(ThemeManager themeManager, Viewport viewport, Renderer renderer,
+                  SpriteDecoder decoder, SpriteBudget budget) {
         mThemeManager = themeManager;
+        mViewport = viewport;
+        mRenderer = renderer;
+        mDecoder = decoder;
+        mBudget = budget;
+
+        mThemeManager.addListener(this);
+    }
+
+    public AnimationClock getAnimationClock() {
+        return mAnimationClock;
+    }
+
+    public SpriteBudget getBudget() {
+        return mBudget;
     }
 
-    public SpriteTemplate createTemplate(int attrId, int spriteCount) {
+    public synchronized SpriteTemplate createTemplate(int attrId, int spriteCount) {
+        collectReleasedSheets();
         int resourceId = mThemeManager.getTheme().getResourceId(attrId);
+        int frameSize = getTargetFrameSize();
+
+        if (mPreloads.get(resourceId) != null) {
+            collectPreload(resourceId);
+        }
+
+        if (!isCached(resourceId, spriteCount, frameSize)) {
+            storeSheet(resourceId, decodeSheet(resourceId, spriteCount, frameSize), frameSize);
+        }
+
+        return new SpriteTemplate(mSheets.get(resourceId).getFrames());
+    }
 
-        Bitmap sheet = BitmapFactory.decodeResource(mContext.getResources(), resourceId);
-        Bitmap[] sprites = new Bitmap[spriteCount];
-        int spriteWidth = sheet.getWidth() / spriteCount;
-        int spriteHeight = sheet.getHeight();
+    public synchronized void preload(int attrId, final int spriteCount) {
+        collectReleasedSheets();
+        final int resourceId = mThemeManager.getTheme().getResourceId(attrId);
+        final int frameSize = getTargetFrameSize();
 
-        for (int i = 0; i < spriteCount; i++) {
-            sprites[i] = Bitmap.createBitmap(sheet, spriteWidth * i, 0, spriteWidth, spriteHeight);
+        if (isCached(resourceId, spriteCount, frameSize) || mPreloads.get(resourceId) != null) {
+            return;
         }
 
-        return new SpriteTemplate(sprites);
+        mPreloadFrameSizes.put(resourceId, frameSize);
+        mPreloads.put(resourceId, mPreloadExecutor.submit(new Callable<SpriteSheet>() {
+            @Override
+            public SpriteSheet call() {
+                return decodeSheet(resourceId, spriteCount, frameSize);
+            }
+        }));
+    }
+
+    // blocks until all preloaded sheets are decoded and moves them into the cache
+    public synchronized void awaitPreload() {
+        while (mPreloads.size() > 0) {
+            if (!collectPreload(mPreloads.keyAt(0))) {
+                return;
+            }
+        }
     }
 
     public StaticSprite createStatic(int layer, SpriteTemplate template) {
-        return new StaticSprite(layer, template);
+        return new StaticSprite(layer, template, mRenderer);
     }
 
     public AnimatedSprite createAnimated(int layer, SpriteTemplate template) {
-        return new AnimatedSprite(layer, template);
+        return new AnimatedSprite(layer, template, mAnimationClock, mRenderer);
+    }
+
+    public LoopedSprite createLooped(int layer, SpriteTemplate template) {
+        return new LoopedSprite(layer, template, mAnimationClock);
     }
 
     public ReplicatedSprite createReplication(SpriteInstance original) {
         return new ReplicatedSprite(original);
     }
 
+    @Override
+    public synchronized void themeChanged(Theme theme) {
+        // templates still in use keep their frames, only the cache lets go of them
+        for (int i = 0; i < mSheets.size(); i++) {
+            releaseSheet(mSheets.valueAt(i));
+        }
+
+        mSheets.clear();
+        mSheetFrameSizes.clear();
+
+        for (int i = 0; i < mPreloads.size(); i++) {
+            discardPreload(mPreloads.valueAt(i));
+        }
+
+        mPreloads.clear();
+        mPreloadFrameSizes.clear();
+    }
+
+    private boolean collectPreload(int resourceId) {
+        Future<SpriteSheet> preload = mPreloads.get(resourceId);
+        SpriteSheet sheet;
+
+        try {
+            sheet = preload.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Could not preload sprite sheet!", e.getCause());
+        }
+
+        mPreloads.remove(resourceId);
+        storeSheet(resourceId, sheet, mPreloadFrameSizes.get(resourceId));
+        mPreloadFrameSizes.delete(resourceId);
+        return true;
+    }
+
+    // a sheet that is already being decoded gives its bytes back as soon as it is done
+    private void discardPreload(final Future<SpriteSheet> preload) {
+        if (preload.cancel(false)) {
+            return;
+        }
+
+        mPreloadExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    mBudget.release(preload.get().getByteCount());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    Log.e(TAG, "Could not preload sprite sheet!", e.getCause());
+                }
+            }
+        });
+    }
+
+    private boolean isCached(int resourceId, int spriteCount, int frameSize) {
+        SpriteSheet sheet = mSheets.get(resourceId);
+        return sheet != null && sheet.getSpriteCount() == spriteCount && mSheetFrameSizes.get(resourceId) == frameSize;
+    }
+
+    private void storeSheet(int resourceId, SpriteSheet sheet, int frameSize) {
+        SpriteSheet previous = mSheets.get(resourceId);
+
+        if (previous != null) {
+            releaseSheet(previous);
+        }
+
+        mSheets.put(resourceId, sheet);
+        mSheetFrameSizes.put(resourceId, frameSize);
+    }
+
+    // the budget is only given back once no template draws the frames anymore
+    private void releaseSheet(SpriteSheet sheet) {
+        mReleasedSheets.add(new ReleasedSheet(sheet, mReleasedSheetQueue));
+    }
+
+    private void collectReleasedSheets() {
+        Reference<? extends Bitmap[]> reference;
+
+        while ((reference = mReleasedSheetQueue.poll()) != null) {
+            ReleasedSheet releasedSheet = (ReleasedSheet) reference;
+            mReleasedSheets.remove(releasedSheet);
+            mBudget.release(releasedSheet.mByteCount);
+        }
+    }
+
+    private SpriteSheet decodeSheet(int resourceId, int spriteCount, int frameSize) {
+        SpriteSheetLayout layout = new SpriteSheetLayout(resourceId, spriteCount);
+        mDecoder.readSheetSize(layout);
+        long reservedByteCount = mBudget.plan(layout, frameSize);
+        SpriteSheet sheet;
+
+        try {
+            sheet = mDecoder.decode(layout);
+        } catch (RuntimeException e) {
+            mBudget.release(reservedByteCount);
+            throw e;
+        }
+
+        mBudget.settle(reservedByteCount, sheet.getByteCount());
+
+        Log.d(TAG, String.format("Decoded sprite sheet %dx%d to %d frames of %dx%d (sample %d), budget %d/%d kB",
+                layout.getSheetWidth(), layout.getSheetHeight(), spriteCount,
+                layout.getFrameWidth(), layout.getFrameHeight(), layout.getSampleSize(),
+                mBudget.getUsed() / 1024, mBudget.getLimit() / 1024));
+
+        return sheet;
+    }
+
+    // rounded up to steps so small viewport changes do not cause decoding the sheets again
+    private int getTargetFrameSize() {
+        float tileSize = mViewport.getTileSize();
+
+        if (!(tileSize > 0f) || Float.isInfinite(tileSize)) {
+            return 0;
+        }
+
+        int frameSize = (int) Math.ceil(tileSize * MAX_SPRITE_SIZE);
+        return (frameSize + FRAME_SIZE_STEP - 1) / FRAME_SIZE_STEP * FRAME_SIZE_STEP;
+    }
+
 }
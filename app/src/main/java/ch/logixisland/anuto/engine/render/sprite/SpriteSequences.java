@@ -0,0 +1,40 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+final class SpriteSequences {
+    private SpriteSequences() {
+    }
+
+    static int[] forward(int bitmapCount) {
+        int seq[] = new int[bitmapCount];
+
+        for (int i = 0; i < seq.length; i++) {
+            seq[i] = i;
+        }
+
+        return seq;
+    }
+
+    static int[] forwardBackward(int bitmapCount) {
+        int seq[] = new int[bitmapCount * 2 - 2];
+
+        for (int i = 0; i < seq.length; i++) {
+            if (i < bitmapCount) {
+                seq[i] = i;
+            } else {
+                seq[i] = bitmapCount * 2 - 2 - i;
+            }
+        }
+
+        return seq;
+    }
+
+    static int[] backward(int bitmapCount) {
+        int seq[] = new int[bitmapCount];
+
+        for (int i = 0; i < seq.length; i++) {
+            seq[i] = bitmapCount - 1 - i;
+        }
+
+        return seq;
+    }
+}
@@ -0,0 +1,26 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+import android.graphics.Bitmap;
+
+public class SpriteSheet {
+
+    private final Bitmap[] mFrames;
+    private final long mByteCount;
+
+    public SpriteSheet(Bitmap[] frames, long byteCount) {
+        mFrames = frames;
+        mByteCount = byteCount;
+    }
+
+    public Bitmap[] getFrames() {
+        return mFrames;
+    }
+
+    public int getSpriteCount() {
+        return mFrames.length;
+    }
+
+    public long getByteCount() {
+        return mByteCount;
+    }
+}
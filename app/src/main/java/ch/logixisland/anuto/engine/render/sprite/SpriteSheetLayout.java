@@ -0,0 +1,71 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+public class SpriteSheetLayout {
+
+    private final int mResourceId;
+    private final int mSpriteCount;
+
+    private int mSheetWidth;
+    private int mSheetHeight;
+    private int mSampleSize = 1;
+    private int mFrameWidth;
+    private int mFrameHeight;
+
+    public SpriteSheetLayout(int resourceId, int spriteCount) {
+        if (spriteCount < 1) {
+            throw new IllegalArgumentException("Sprite count must be positive!");
+        }
+
+        mResourceId = resourceId;
+        mSpriteCount = spriteCount;
+    }
+
+    public int getResourceId() {
+        return mResourceId;
+    }
+
+    public int getSpriteCount() {
+        return mSpriteCount;
+    }
+
+    public int getSheetWidth() {
+        return mSheetWidth;
+    }
+
+    public int getSheetHeight() {
+        return mSheetHeight;
+    }
+
+    public void setSheetSize(int width, int height) {
+        mSheetWidth = width;
+        mSheetHeight = height;
+        mFrameWidth = width / mSpriteCount;
+        mFrameHeight = height;
+    }
+
+    public int getSourceFrameWidth() {
+        return mSheetWidth / mSpriteCount;
+    }
+
+    public int getSourceFrameHeight() {
+        return mSheetHeight;
+    }
+
+    public int getSampleSize() {
+        return mSampleSize;
+    }
+
+    public int getFrameWidth() {
+        return mFrameWidth;
+    }
+
+    public int getFrameHeight() {
+        return mFrameHeight;
+    }
+
+    void setDecodeSize(int sampleSize, int frameWidth, int frameHeight) {
+        mSampleSize = sampleSize;
+        mFrameWidth = frameWidth;
+        mFrameHeight = frameHeight;
+    }
+}
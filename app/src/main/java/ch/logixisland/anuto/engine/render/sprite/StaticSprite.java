@@ -1,15 +1,23 @@
 package ch.logixisland.anuto.engine.render.sprite;
 
+import ch.logixisland.anuto.engine.render.Renderer;
+
 public class StaticSprite extends SpriteInstance {
 
+    private final Renderer mRenderer;
+
     private int mIndex;
 
-    StaticSprite(int layer, SpriteTemplate template) {
+    StaticSprite(int layer, SpriteTemplate template, Renderer renderer) {
         super(layer, template);
+        mRenderer = renderer;
     }
 
     public void setIndex(int index) {
-        mIndex = index;
+        if (mIndex != index) {
+            mIndex = index;
+            mRenderer.markDirty();
+        }
     }
 
     @Override
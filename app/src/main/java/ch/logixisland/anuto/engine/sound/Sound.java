@@ -1,18 +1,17 @@
 package ch.logixisland.anuto.engine.sound;
 
-import android.media.SoundPool;
-
 public class Sound {
 
     private final SoundManager mSoundManager;
-    private final SoundPool mSoundPool;
+    private final SoundMixer mSoundMixer;
     private final int mSoundId;
 
     private float mVolume = 1f;
+    private int mPriority = 0;
 
-    public Sound(SoundManager soundManager, SoundPool soundPool, int soundId) {
+    public Sound(SoundManager soundManager, SoundMixer soundMixer, int soundId) {
         mSoundManager = soundManager;
-        mSoundPool = soundPool;
+        mSoundMixer = soundMixer;
         mSoundId = soundId;
     }
 
@@ -20,9 +19,13 @@ public class Sound {
         mVolume = volume;
     }
 
+    public void setPriority(int priority) {
+        mPriority = priority;
+    }
+
     public void play() {
         if (mSoundManager.isSoundEnabled()) {
-            mSoundPool.play(mSoundId, mVolume, mVolume, 0, 0, 1);
+            mSoundMixer.requestPlay(mSoundId, mVolume, mPriority);
         }
     }
 
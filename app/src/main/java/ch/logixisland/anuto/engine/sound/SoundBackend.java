@@ -0,0 +1,6 @@
+package ch.logixisland.anuto.engine.sound;
+
+public interface SoundBackend {
+    int play(int soundId, float volume, int priority);
+    void stop(int streamId);
+}
@@ -17,6 +17,7 @@ public class SoundFactory {
     private final Context mContext;
 
     private final SoundPool mSoundPool;
+    private final SoundMixer mSoundMixer;
     private final Map<Integer, Integer> mSoundMap;
 
     public SoundFactory(Context context, SoundManager soundManager) {
@@ -24,19 +25,24 @@ public class SoundFactory {
         mSoundManager = soundManager;
 
         mSoundPool = new SoundPool(MAX_STREAMS, AudioManager.STREAM_MUSIC, 0);
+        mSoundMixer = new SoundMixer(new SoundPoolBackend(mSoundPool), MAX_STREAMS);
         mSoundMap = new HashMap<>();
 
         // FIXME: This is a workaround because the first explosion effect has no sound otherwise
         createSound(R.raw.explosive3_bghgh);
     }
 
+    public SoundMixer getSoundMixer() {
+        return mSoundMixer;
+    }
+
     public Sound createSound(int resId) {
         if (!mSoundMap.containsKey(resId)) {
             int soundId = mSoundPool.load(mContext, resId, 0);
             mSoundMap.put(resId, soundId);
         }
 
-        return new Sound(mSoundManager, mSoundPool, mSoundMap.get(resId));
+        return new Sound(mSoundManager, mSoundMixer, mSoundMap.get(resId));
     }
 
 }
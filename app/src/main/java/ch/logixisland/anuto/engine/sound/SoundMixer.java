@@ -0,0 +1,161 @@
+package ch.logixisland.anuto.engine.sound;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.logixisland.anuto.engine.logic.loop.PresentationListener;
+
+public class SoundMixer implements PresentationListener {
+
+    static final long MERGE_WINDOW_MILLIS = 50;
+    static final int MAX_PLAYS_PER_SECOND = 8;
+    static final long VOICE_DURATION_MILLIS = 500;
+
+    private static class Sample {
+        final int mSoundId;
+        final long[] mPlayTimes = new long[MAX_PLAYS_PER_SECOND];
+        int mNextPlayTime;
+
+        boolean mPending;
+        float mPendingVolume;
+        int mPendingPriority;
+
+        Sample(int soundId) {
+            mSoundId = soundId;
+
+            for (int i = 0; i < mPlayTimes.length; i++) {
+                mPlayTimes[i] = Long.MIN_VALUE / 2;
+            }
+        }
+
+        long getLastPlayTime() {
+            return mPlayTimes[(mNextPlayTime + mPlayTimes.length - 1) % mPlayTimes.length];
+        }
+
+        long getOldestPlayTime() {
+            return mPlayTimes[mNextPlayTime];
+        }
+
+        void addPlayTime(long time) {
+            mPlayTimes[mNextPlayTime] = time;
+            mNextPlayTime = (mNextPlayTime + 1) % mPlayTimes.length;
+        }
+    }
+
+    private final SoundBackend mBackend;
+
+    private final Map<Integer, Sample> mSamples = new HashMap<>();
+    private final List<Sample> mPendingSamples = new ArrayList<>();
+
+    private final int[] mVoiceStreamIds;
+    private final int[] mVoicePriorities;
+    private final long[] mVoiceEndTimes;
+
+    private int mPlayCount;
+    private int mDropCount;
+
+    public SoundMixer(SoundBackend backend, int maxVoices) {
+        mBackend = backend;
+        mVoiceStreamIds = new int[maxVoices];
+        mVoicePriorities = new int[maxVoices];
+        mVoiceEndTimes = new long[maxVoices];
+    }
+
+    public void requestPlay(int soundId, float volume, int priority) {
+        Sample sample = mSamples.get(soundId);
+
+        if (sample == null) {
+            sample = new Sample(soundId);
+            mSamples.put(soundId, sample);
+        }
+
+        // requests of the same sample within one tick are merged into a single play
+        if (!sample.mPending) {
+            sample.mPending = true;
+            sample.mPendingVolume = volume;
+            sample.mPendingPriority = priority;
+            mPendingSamples.add(sample);
+        } else {
+            sample.mPendingVolume = Math.max(sample.mPendingVolume, volume);
+            sample.mPendingPriority = Math.max(sample.mPendingPriority, priority);
+        }
+    }
+
+    public int getPlayCount() {
+        return mPlayCount;
+    }
+
+    public int getDropCount() {
+        return mDropCount;
+    }
+
+    @Override
+    public void tick() {
+        flush(System.nanoTime() / 1000000L);
+    }
+
+    // the sounds requested while the game was caught up would all play at once afterwards
+    @Override
+    public void ticksSkipped() {
+        for (Sample sample : mPendingSamples) {
+            sample.mPending = false;
+        }
+
+        mPendingSamples.clear();
+    }
+
+    void flush(long timeMillis) {
+        for (Sample sample : mPendingSamples) {
+            sample.mPending = false;
+
+            if (timeMillis - sample.getLastPlayTime() < MERGE_WINDOW_MILLIS ||
+                    timeMillis - sample.getOldestPlayTime() < 1000L) {
+                mDropCount++;
+                continue;
+            }
+
+            int voice = acquireVoice(sample.mPendingPriority, timeMillis);
+
+            if (voice < 0) {
+                mDropCount++;
+                continue;
+            }
+
+            mVoiceStreamIds[voice] = mBackend.play(sample.mSoundId, sample.mPendingVolume, sample.mPendingPriority);
+            mVoicePriorities[voice] = sample.mPendingPriority;
+            mVoiceEndTimes[voice] = timeMillis + VOICE_DURATION_MILLIS;
+
+            sample.addPlayTime(timeMillis);
+            mPlayCount++;
+        }
+
+        mPendingSamples.clear();
+    }
+
+    private int acquireVoice(int priority, long timeMillis) {
+        int stealVoice = -1;
+
+        for (int i = 0; i < mVoiceStreamIds.length; i++) {
+            if (mVoiceStreamIds[i] == 0 || mVoiceEndTimes[i] <= timeMillis) {
+                return i;
+            }
+
+            // steal the lowest priority voice, the oldest one if there are several
+            if (stealVoice < 0 || mVoicePriorities[i] < mVoicePriorities[stealVoice] ||
+                    (mVoicePriorities[i] == mVoicePriorities[stealVoice] && mVoiceEndTimes[i] < mVoiceEndTimes[stealVoice])) {
+                stealVoice = i;
+            }
+        }
+
+        if (stealVoice < 0 || mVoicePriorities[stealVoice] > priority) {
+            return -1;
+        }
+
+        mBackend.stop(mVoiceStreamIds[stealVoice]);
+        mVoiceStreamIds[stealVoice] = 0;
+        return stealVoice;
+    }
+
+}
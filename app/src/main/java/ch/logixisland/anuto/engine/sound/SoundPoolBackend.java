@@ -0,0 +1,22 @@
+package ch.logixisland.anuto.engine.sound;
+
+import android.media.SoundPool;
+
+class SoundPoolBackend implements SoundBackend {
+
+    private final SoundPool mSoundPool;
+
+    SoundPoolBackend(SoundPool soundPool) {
+        mSoundPool = soundPool;
+    }
+
+    @Override
+    public int play(int soundId, float volume, int priority) {
+        return mSoundPool.play(soundId, volume, volume, priority, 0, 1);
+    }
+
+    @Override
+    public void stop(int streamId) {
+        mSoundPool.stop(streamId);
+    }
+}
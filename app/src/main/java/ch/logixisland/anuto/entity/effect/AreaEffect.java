@@ -1,30 +1,17 @@
 package ch.logixisland.anuto.entity.effect;
 
 import java.util.Iterator;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import ch.logixisland.anuto.engine.logic.entity.Entity;
-import ch.logixisland.anuto.engine.logic.entity.EntityListener;
-import ch.logixisland.anuto.engine.logic.loop.TickTimer;
+import ch.logixisland.anuto.engine.logic.entity.Zone;
+import ch.logixisland.anuto.engine.logic.entity.ZoneListener;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 
-public abstract class AreaEffect extends Effect {
+public abstract class AreaEffect extends Effect implements ZoneListener {
 
     private float mRange;
-
-    private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
-    private final List<Enemy> mAffectedEnemies = new CopyOnWriteArrayList<>();
-
-    private final EntityListener mEntityListener = new EntityListener() {
-        @Override
-        public void entityRemoved(Entity entity) {
-            entity.removeListener(this);
-            mAffectedEnemies.remove(entity);
-            enemyExit((Enemy) entity);
-        }
-    };
+    private Zone mZone;
 
     AreaEffect(Entity origin, float duration, float range) {
         super(origin, duration);
@@ -32,46 +19,44 @@ public abstract class AreaEffect extends Effect {
     }
 
     @Override
-    public void tick() {
-        super.tick();
-
-        if (getState() == State.Active && mUpdateTimer.tick()) {
-            for (Enemy enemy : mAffectedEnemies) {
-                if (getDistanceTo(enemy) > mRange) {
-                    mAffectedEnemies.remove(enemy);
-                    enemy.removeListener(mEntityListener);
-                    enemyExit(enemy);
-                }
-            }
-
-            Iterator<Enemy> enemies = getGameEngine().getEntitiesByType(Types.ENEMY)
-                    .filter(inRange(getPosition(), mRange))
-                    .cast(Enemy.class);
-
-            while (enemies.hasNext()) {
-                Enemy enemy = enemies.next();
-
-                if (!mAffectedEnemies.contains(enemy)) {
-                    mAffectedEnemies.add(enemy);
-                    enemy.addListener(mEntityListener);
-                    enemyEnter(enemy);
-                }
-            }
+    public void clean() {
+        super.clean();
+
+        if (mZone != null) {
+            mZone.remove();
+            mZone = null;
         }
     }
 
+    @Override
+    protected void effectBegin() {
+        super.effectBegin();
+        mZone = getGameEngine().createZone(Types.ENEMY, getPosition(), mRange, this);
+    }
+
     @Override
     protected void effectEnd() {
         super.effectEnd();
 
-        for (Enemy enemy : mAffectedEnemies) {
-            enemy.removeListener(mEntityListener);
-            enemyExit(enemy);
+        Iterator<Enemy> enemies = mZone.getEntities().cast(Enemy.class);
+
+        while (enemies.hasNext()) {
+            enemyExit(enemies.next());
         }
 
-        mAffectedEnemies.clear();
+        mZone.remove();
+        mZone = null;
+    }
+
+    @Override
+    public void entityEntered(Entity entity) {
+        enemyEnter((Enemy) entity);
     }
 
+    @Override
+    public void entityExited(Entity entity) {
+        enemyExit((Enemy) entity);
+    }
 
     protected void enemyEnter(Enemy e) {
 
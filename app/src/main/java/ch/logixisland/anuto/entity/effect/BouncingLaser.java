@@ -1,16 +1,13 @@
 package ch.logixisland.anuto.entity.effect;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-
-import java.util.ArrayList;
-import java.util.Collection;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityBitSet;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.util.math.Vector2;
@@ -19,27 +16,16 @@ public class BouncingLaser extends Effect {
 
     private final static float EFFECT_DURATION = 0.5f;
     private final static int ALPHA_START = 180;
-    private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * EFFECT_DURATION));
 
     private class LaserDrawable implements Drawable {
-        private Paint mPaint;
         private int mAlpha = ALPHA_START;
 
-        private LaserDrawable() {
-            mPaint = new Paint();
-            mPaint.setStyle(Paint.Style.STROKE);
-            mPaint.setStrokeWidth(0.1f);
-            mPaint.setColor(Color.RED);
-        }
-
         private void decreaseVisibility() {
-            mAlpha -= ALPHA_STEP;
+            mAlpha -= mAlphaStep;
 
             if (mAlpha < 0) {
                 mAlpha = 0;
             }
-
-            mPaint.setAlpha(mAlpha);
         }
 
         @Override
@@ -49,7 +35,7 @@ public class BouncingLaser extends Effect {
 
         @Override
         public void draw(Canvas canvas) {
-            canvas.drawLine(getPosition().x(), getPosition().y(), mTargetPos.x(), mTargetPos.y(), mPaint);
+            canvas.drawLine(getPosition().x(), getPosition().y(), mTargetPos.x(), mTargetPos.y(), getStyleRegistry().getPaint(StyleRegistry.LASER, mAlpha));
         }
     }
 
@@ -59,8 +45,9 @@ public class BouncingLaser extends Effect {
     private Enemy mOrigin;
     private Enemy mTarget;
     private Vector2 mTargetPos;
-    private Collection<Enemy> mPrevTargets;
+    private EntityBitSet mPrevTargets;
 
+    private final int mAlphaStep;
     private LaserDrawable mDrawObject;
 
     public BouncingLaser(Entity origin, Vector2 position, Enemy target, float damage) {
@@ -70,6 +57,7 @@ public class BouncingLaser extends Effect {
     public BouncingLaser(Entity origin, Vector2 position, Enemy target,
                          float damage, int bounceCount, float maxBounceDist) {
         super(origin, EFFECT_DURATION);
+        mAlphaStep = (int) (ALPHA_START / (getGameEngine().getTargetFrameRate() * EFFECT_DURATION));
         setPosition(position);
 
         mTarget = target;
@@ -124,12 +112,12 @@ public class BouncingLaser extends Effect {
 
         if (mBounceCount > 0) {
             if (mPrevTargets == null) {
-                mPrevTargets = new ArrayList<>();
+                mPrevTargets = new EntityBitSet();
                 mPrevTargets.add(mTarget);
             }
 
             Enemy enemy = (Enemy) getGameEngine().getEntitiesByType(Types.ENEMY)
-                    .filter(mPrevTargets)
+                    .filter(notContainedIn(mPrevTargets))
                     .min(distanceTo(mTarget.getPosition()));
 
             if (enemy != null && mTarget.getDistanceTo(enemy) <= mMaxBounceDist) {
@@ -24,7 +24,7 @@ public abstract class Effect extends Entity {
 
     Effect(Entity origin, float duration) {
         this(origin);
-        mTimer = TickTimer.createInterval(duration);
+        mTimer = TickTimer.createInterval(getGameEngine().getTargetFrameRate(), duration);
     }
 
     public Entity getOrigin() {
@@ -44,6 +44,9 @@ public abstract class Effect extends Entity {
     public void tick() {
         super.tick();
 
+        // effects animate their appearance on every tick
+        getGameEngine().markDirty();
+
         if (mState == State.NotStarted) {
             mState = State.Active;
             effectBegin();
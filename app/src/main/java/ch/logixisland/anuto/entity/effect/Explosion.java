@@ -1,14 +1,13 @@
 package ch.logixisland.anuto.entity.effect;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
 
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Enemy;
@@ -19,26 +18,16 @@ public class Explosion extends Effect {
 
     private final static float EFFECT_DURATION = 0.2f;
     private final static int ALPHA_START = 180;
-    private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * EFFECT_DURATION));
 
     private class ExplosionDrawable implements Drawable {
-        private Paint mPaint;
         private int mAlpha = ALPHA_START;
 
-        private ExplosionDrawable() {
-            mPaint = new Paint();
-            mPaint.setColor(Color.YELLOW);
-            mPaint.setAlpha(mAlpha);
-        }
-
         private void decreaseVisibility() {
-            mAlpha -= ALPHA_STEP;
+            mAlpha -= mAlphaStep;
 
             if (mAlpha < 0) {
                 mAlpha = 0;
             }
-
-            mPaint.setAlpha(mAlpha);
         }
 
         @Override
@@ -48,18 +37,20 @@ public class Explosion extends Effect {
 
         @Override
         public void draw(Canvas canvas) {
-            canvas.drawCircle(getPosition().x(), getPosition().y(), mRadius, mPaint);
+            canvas.drawCircle(getPosition().x(), getPosition().y(), mRadius, getStyleRegistry().getPaint(StyleRegistry.EXPLOSION, mAlpha));
         }
     }
 
     private float mDamage;
     private float mRadius;
 
+    private final int mAlphaStep;
     private ExplosionDrawable mDrawObject;
     private Sound mSound;
 
     public Explosion(Entity origin, Vector2 position, float damage, float radius) {
         super(origin, EFFECT_DURATION);
+        mAlphaStep = (int) (ALPHA_START / (getGameEngine().getTargetFrameRate() * EFFECT_DURATION));
         setPosition(position);
 
         mDamage = damage;
@@ -67,6 +58,7 @@ public class Explosion extends Effect {
 
         mDrawObject = new ExplosionDrawable();
         mSound = getSoundFactory().createSound(R.raw.explosive3_bghgh);
+        mSound.setPriority(1);
     }
 
     @Override
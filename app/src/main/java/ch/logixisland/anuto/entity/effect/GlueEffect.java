@@ -1,11 +1,11 @@
 package ch.logixisland.anuto.entity.effect;
 
-import android.graphics.Paint;
-
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -26,9 +26,9 @@ public class GlueEffect extends AreaEffect implements SpriteTransformation {
 
     private float mAngle;
     private float mIntensity;
+    private int mAlpha = ALPHA_START;
     private int mAlphaStep;
 
-    private Paint mPaint;
     private StaticSprite mSprite;
 
     public GlueEffect(Entity origin, Vector2 position, float intensity, float duration) {
@@ -37,17 +37,17 @@ public class GlueEffect extends AreaEffect implements SpriteTransformation {
 
         mIntensity = intensity;
         mAngle = RandomUtils.next(360f);
-        mAlphaStep = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * duration));
+        mAlphaStep = (int) (ALPHA_START / (getGameEngine().getTargetFrameRate() * duration));
 
         StaticData s = (StaticData) getStaticData();
 
         mSprite = getSpriteFactory().createStatic(Layers.BOTTOM, s.mSpriteTemplate);
         mSprite.setListener(this);
         mSprite.setIndex(RandomUtils.next(4));
+    }
 
-        mPaint = new Paint();
-        mPaint.setAlpha(ALPHA_START);
-        mSprite.setPaint(mPaint);
+    public static void preloadSprites(SpriteFactory spriteFactory) {
+        spriteFactory.preload(R.attr.glueEffect, 4);
     }
 
     @Override
@@ -76,15 +76,16 @@ public class GlueEffect extends AreaEffect implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
         transformer.rotate(mAngle);
+        sprite.setPaint(getStyleRegistry().getPaint(StyleRegistry.FADING_SPRITE, mAlpha));
     }
 
     @Override
     public void tick() {
         super.tick();
 
-        mPaint.setAlpha(mPaint.getAlpha() - mAlphaStep);
+        mAlpha -= mAlphaStep;
     }
 
     @Override
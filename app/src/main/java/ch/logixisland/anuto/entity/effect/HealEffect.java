@@ -1,15 +1,13 @@
 package ch.logixisland.anuto.entity.effect;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-
-import java.util.Collection;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityBitSet;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
@@ -20,16 +18,6 @@ public class HealEffect extends Effect {
     private static final float EFFECT_DURATION = 0.7f;
 
     private class HealDrawable implements Drawable {
-        private Paint mPaint;
-
-        public HealDrawable() {
-            mPaint = new Paint();
-            mPaint.setStyle(Paint.Style.STROKE);
-            mPaint.setStrokeWidth(0.05f);
-            mPaint.setColor(Color.BLUE);
-            mPaint.setAlpha(70);
-        }
-
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -37,7 +25,7 @@ public class HealEffect extends Effect {
 
         @Override
         public void draw(Canvas canvas) {
-            canvas.drawCircle(getPosition().x(), getPosition().y(), mDrawRadius, mPaint);
+            canvas.drawCircle(getPosition().x(), getPosition().y(), mDrawRadius, getStyleRegistry().getPaint(StyleRegistry.HEAL));
         }
     }
 
@@ -46,9 +34,9 @@ public class HealEffect extends Effect {
     private float mHealAmount;
 
     private Drawable mDrawable;
-    private Collection<Enemy> mHealedEnemies;
+    private EntityBitSet mHealedEnemies;
 
-    public HealEffect(Entity origin, Vector2 position, float amount, float radius, Collection<Enemy> healedEnemies) {
+    public HealEffect(Entity origin, Vector2 position, float amount, float radius, EntityBitSet healedEnemies) {
         super(origin, EFFECT_DURATION);
         setPosition(position);
 
@@ -78,14 +66,14 @@ public class HealEffect extends Effect {
     public void tick() {
         super.tick();
 
-        mDrawRadius += mRange / (GameEngine.TARGET_FRAME_RATE * EFFECT_DURATION);
+        mDrawRadius += mRange / (getGameEngine().getTargetFrameRate() * EFFECT_DURATION);
     }
 
     @Override
     protected void effectBegin() {
         StreamIterator<Enemy> enemies = getGameEngine().getEntitiesByType(Types.ENEMY)
                 .filter(inRange(getPosition(), mRange))
-                .filter(mHealedEnemies)
+                .filter(notContainedIn(mHealedEnemies))
                 .cast(Enemy.class);
 
         while (enemies.hasNext()) {
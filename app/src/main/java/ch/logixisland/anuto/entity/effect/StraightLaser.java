@@ -1,13 +1,12 @@
 package ch.logixisland.anuto.entity.effect;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
@@ -19,27 +18,16 @@ public class StraightLaser extends Effect {
 
     private final static float EFFECT_DURATION = 0.5f;
     private final static int ALPHA_START = 180;
-    private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * EFFECT_DURATION));
 
     private class LaserDrawable implements Drawable {
-        private Paint mPaint;
         private int mAlpha = ALPHA_START;
 
-        public LaserDrawable() {
-            mPaint = new Paint();
-            mPaint.setStyle(Paint.Style.STROKE);
-            mPaint.setStrokeWidth(0.1f);
-            mPaint.setColor(Color.RED);
-        }
-
         public void decreaseVisibility() {
-            mAlpha -= ALPHA_STEP;
+            mAlpha -= mAlphaStep;
 
             if (mAlpha < 0) {
                 mAlpha = 0;
             }
-
-            mPaint.setAlpha(mAlpha);
         }
 
         @Override
@@ -49,17 +37,19 @@ public class StraightLaser extends Effect {
 
         @Override
         public void draw(Canvas canvas) {
-            canvas.drawLine(getPosition().x(), getPosition().y(), mLaserTo.x(), mLaserTo.y(), mPaint);
+            canvas.drawLine(getPosition().x(), getPosition().y(), mLaserTo.x(), mLaserTo.y(), getStyleRegistry().getPaint(StyleRegistry.LASER, mAlpha));
         }
     }
 
     private float mDamage;
     private Vector2 mLaserTo;
 
+    private final int mAlphaStep;
     private LaserDrawable mDrawObject;
 
     public StraightLaser(Entity origin, Vector2 position, Vector2 laserTo, float damage) {
         super(origin, EFFECT_DURATION);
+        mAlphaStep = (int) (ALPHA_START / (getGameEngine().getTargetFrameRate() * EFFECT_DURATION));
         setPosition(position);
 
         mLaserTo = laserTo;
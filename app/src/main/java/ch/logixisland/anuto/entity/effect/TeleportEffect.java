@@ -1,13 +1,12 @@
 package ch.logixisland.anuto.entity.effect;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.util.math.Vector2;
 
@@ -16,16 +15,6 @@ public class TeleportEffect extends Effect {
     private static final float EFFECT_DURATION = 1f;
 
     private class TeleportDrawable implements Drawable {
-        private Paint mPaint;
-
-        public TeleportDrawable() {
-            mPaint = new Paint();
-            mPaint.setStyle(Paint.Style.STROKE);
-            mPaint.setStrokeWidth(0.1f);
-            mPaint.setColor(Color.MAGENTA);
-            mPaint.setAlpha(70);
-        }
-
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -34,7 +23,7 @@ public class TeleportEffect extends Effect {
         @Override
         public void draw(Canvas canvas) {
             Vector2 target = mTarget.getPosition();
-            canvas.drawLine(getPosition().x(), getPosition().y(), target.x(), target.y(), mPaint);
+            canvas.drawLine(getPosition().x(), getPosition().y(), target.x(), target.y(), getStyleRegistry().getPaint(StyleRegistry.TELEPORT));
         }
     }
 
@@ -55,7 +44,7 @@ public class TeleportEffect extends Effect {
         mDistance = distance;
 
         mMoveDirection = target.getDirectionTo(this);
-        mMoveStep = target.getDistanceTo(this) / EFFECT_DURATION / GameEngine.TARGET_FRAME_RATE;
+        mMoveStep = target.getDistanceTo(this) / EFFECT_DURATION / getGameEngine().getTargetFrameRate();
 
         mDrawObject = new TeleportDrawable();
     }
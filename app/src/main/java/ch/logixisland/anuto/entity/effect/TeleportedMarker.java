@@ -1,8 +1,6 @@
 package ch.logixisland.anuto.entity.effect;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
@@ -10,6 +8,7 @@ import ch.logixisland.anuto.engine.logic.entity.EntityListener;
 import ch.logixisland.anuto.engine.logic.loop.TickListener;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.util.math.Function;
 import ch.logixisland.anuto.util.math.SampledFunction;
 
@@ -29,15 +28,6 @@ public class TeleportedMarker extends Effect implements EntityListener {
     }
 
     private class MarkerDrawable implements Drawable {
-        private Paint mPaint;
-
-        private MarkerDrawable() {
-            mPaint = new Paint();
-            mPaint.setStyle(Paint.Style.FILL);
-            mPaint.setColor(Color.MAGENTA);
-            mPaint.setAlpha(30);
-        }
-
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -46,10 +36,10 @@ public class TeleportedMarker extends Effect implements EntityListener {
         @Override
         public void draw(Canvas canvas) {
             canvas.drawCircle(
-                    getPosition().x(),
-                    getPosition().y(),
+                    getDrawX(),
+                    getDrawY(),
                     mStaticData.mScaleFunction.getValue(),
-                    mPaint);
+                    getStyleRegistry().getPaint(StyleRegistry.TELEPORTED_MARKER));
         }
     }
 
@@ -72,7 +62,7 @@ public class TeleportedMarker extends Effect implements EntityListener {
         s.mScaleFunction = Function.sine()
                 .multiply((MARKER_MAX_RADIUS - MARKER_MIN_RADIUS) / 2)
                 .offset((MARKER_MAX_RADIUS + MARKER_MIN_RADIUS) / 2)
-                .stretch(GameEngine.TARGET_FRAME_RATE / MARKER_SPEED / (float) Math.PI)
+                .stretch(getGameEngine().getTargetFrameRate() / MARKER_SPEED / (float) Math.PI)
                 .sample();
 
         getGameEngine().add(s);
@@ -7,6 +7,7 @@ import ch.logixisland.anuto.data.setting.enemy.EnemySettings;
 import ch.logixisland.anuto.data.setting.enemy.GlobalSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityRanking;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.tower.Tower;
 import ch.logixisland.anuto.util.iterator.Function;
@@ -45,6 +46,15 @@ public abstract class Enemy extends Entity {
         };
     }
 
+    public static EntityRanking distanceRemainingRanking() {
+        return new EntityRanking() {
+            @Override
+            public float getRank(Entity entity) {
+                return ((Enemy) entity).getDistanceRemaining();
+            }
+        };
+    }
+
     private final GlobalSettings mGlobalSettings;
     private final EnemySettings mEnemySettings;
 
@@ -55,6 +65,7 @@ public abstract class Enemy extends Entity {
     private float mSpeedModifier;
     private List<Vector2> mWayPoints;
     private int mWayPointIndex;
+    private float mRemainingPathLength;
 
     private HealthBar mHealthBar;
 
@@ -72,7 +83,7 @@ public abstract class Enemy extends Entity {
         mReward = enemySettings.getReward();
         mHealth = enemySettings.getHealth();
         mMaxHealth = enemySettings.getHealth();
-        mHealthBar = new HealthBar(getTheme(), this);
+        mHealthBar = new HealthBar(getStyleRegistry(), this);
     }
 
     @Override
@@ -114,12 +125,12 @@ public abstract class Enemy extends Entity {
             return;
         }
 
-        float stepSize = getSpeed() / GameEngine.TARGET_FRAME_RATE;
+        float stepSize = getSpeed() / getGameEngine().getTargetFrameRate();
         if (getDistanceTo(getCurrentWayPoint()) >= stepSize) {
             move(getDirection().mul(stepSize));
         } else {
             setPosition(getCurrentWayPoint());
-            mWayPointIndex++;
+            setWayPointIndex(mWayPointIndex + 1);
         }
     }
 
@@ -145,7 +156,19 @@ public abstract class Enemy extends Entity {
 
     void setupPath(List<Vector2> wayPoints, int wayPointIndex) {
         mWayPoints = wayPoints;
+        setWayPointIndex(wayPointIndex);
+    }
+
+    private void setWayPointIndex(int wayPointIndex) {
         mWayPointIndex = wayPointIndex;
+        mRemainingPathLength = 0f;
+
+        for (int i = mWayPointIndex + 1; i < mWayPoints.size(); i++) {
+            Vector2 wThis = mWayPoints.get(i);
+            Vector2 wLast = mWayPoints.get(i - 1);
+
+            mRemainingPathLength += wLast.to(wThis).len();
+        }
     }
 
     private Vector2 getCurrentWayPoint() {
@@ -185,16 +208,7 @@ public abstract class Enemy extends Entity {
             return 0;
         }
 
-        float dist = getDistanceTo(getCurrentWayPoint());
-
-        for (int i = mWayPointIndex + 1; i < mWayPoints.size(); i++) {
-            Vector2 wThis = mWayPoints.get(i);
-            Vector2 wLast = mWayPoints.get(i - 1);
-
-            dist += wLast.to(wThis).len();
-        }
-
-        return dist;
+        return getDistanceTo(getCurrentWayPoint()) + mRemainingPathLength;
     }
 
     public Vector2 getPositionAfter(float sec) {
@@ -238,13 +252,13 @@ public abstract class Enemy extends Entity {
             } else {
                 pos = toWp.norm().mul(dist).add(pos);
                 setPosition(pos);
-                mWayPointIndex = index + 1;
+                setWayPointIndex(index + 1);
                 return;
             }
         }
 
         setPosition(mWayPoints.get(0));
-        mWayPointIndex = 1;
+        setWayPointIndex(1);
     }
 
     float getHealth() {
@@ -271,6 +285,7 @@ public abstract class Enemy extends Entity {
         }
 
         mHealth -= amount;
+        getGameEngine().markDirty();
 
         if (mHealth <= 0) {
             for (EnemyListener listener : mListeners) {
@@ -284,11 +299,13 @@ public abstract class Enemy extends Entity {
     public void modifyHealth(float f) {
         mHealth *= f;
         mMaxHealth *= f;
+        getGameEngine().markDirty();
     }
 
     void setHealth(float health, float maxHealth) {
         mHealth = health;
         mMaxHealth = maxHealth;
+        getGameEngine().markDirty();
     }
 
     public void heal(float amount) {
@@ -297,6 +314,8 @@ public abstract class Enemy extends Entity {
         if (mHealth > mMaxHealth) {
             mHealth = mMaxHealth;
         }
+
+        getGameEngine().markDirty();
     }
 
     public int getReward() {
@@ -7,11 +7,13 @@ import ch.logixisland.anuto.data.setting.enemy.GlobalSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
-import ch.logixisland.anuto.engine.logic.loop.TickListener;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.render.Layers;
-import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.LoopedSprite;
 import ch.logixisland.anuto.engine.render.sprite.ReplicatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -22,7 +24,7 @@ public class Flyer extends Enemy implements SpriteTransformation {
     private final static String ENTITY_NAME = "flyer";
     private final static float ANIMATION_SPEED = 1.0f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -33,6 +35,16 @@ public class Flyer extends Enemy implements SpriteTransformation {
             EnemySettingsRoot enemySettingsRoot = gameEngine.getGameConfiguration().getEnemySettingsRoot();
             return new Flyer(gameEngine, enemySettingsRoot.getGlobalSettings(), enemySettingsRoot.getFlyerSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getEnemySettingsRoot().getFlyerSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.flyer, 6);
+        }
     }
 
     public static class Persister extends EnemyPersister {
@@ -41,17 +53,13 @@ public class Flyer extends Enemy implements SpriteTransformation {
         }
     }
 
-    private static class StaticData implements TickListener {
+    private static class StaticData {
         SpriteTemplate mSpriteTemplate;
-        AnimatedSprite mReferenceSprite;
-
-        @Override
-        public void tick() {
-            mReferenceSprite.tick();
-        }
+        LoopedSprite mReferenceSprite;
     }
 
     private float mAngle;
+    private float mPreviousAngle;
 
     private ReplicatedSprite mSprite;
 
@@ -75,12 +83,10 @@ public class Flyer extends Enemy implements SpriteTransformation {
         s.mSpriteTemplate = getSpriteFactory().createTemplate(R.attr.flyer, 6);
         s.mSpriteTemplate.setMatrix(0.9f, 0.9f, null, -90f);
 
-        s.mReferenceSprite = getSpriteFactory().createAnimated(Layers.ENEMY, s.mSpriteTemplate);
+        s.mReferenceSprite = getSpriteFactory().createLooped(Layers.ENEMY, s.mSpriteTemplate);
         s.mReferenceSprite.setSequenceForwardBackward();
         s.mReferenceSprite.setFrequency(ANIMATION_SPEED);
 
-        getGameEngine().add(s);
-
         return s;
     }
 
@@ -107,9 +113,15 @@ public class Flyer extends Enemy implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
     }
 }
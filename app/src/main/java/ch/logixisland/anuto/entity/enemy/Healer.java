@@ -1,21 +1,22 @@
 package ch.logixisland.anuto.entity.enemy;
 
-import java.util.ArrayList;
-import java.util.Collection;
-
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.data.setting.enemy.EnemySettingsRoot;
 import ch.logixisland.anuto.data.setting.enemy.GlobalSettings;
 import ch.logixisland.anuto.data.setting.enemy.HealerSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityBitSet;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.logic.loop.TickListener;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.engine.render.Layers;
-import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.LoopedSprite;
 import ch.logixisland.anuto.engine.render.sprite.ReplicatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -31,7 +32,7 @@ public class Healer extends Enemy implements SpriteTransformation {
     private final static float HEAL_SCALE_FACTOR = 2f;
     private final static float HEAL_ROTATION = 2.5f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -42,6 +43,16 @@ public class Healer extends Enemy implements SpriteTransformation {
             EnemySettingsRoot enemySettingsRoot = gameEngine.getGameConfiguration().getEnemySettingsRoot();
             return new Healer(gameEngine, enemySettingsRoot.getGlobalSettings(), enemySettingsRoot.getHealerSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getEnemySettingsRoot().getHealerSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.healer, 4);
+        }
     }
 
     public static class Persister extends EnemyPersister {
@@ -53,22 +64,24 @@ public class Healer extends Enemy implements SpriteTransformation {
     private static class StaticData implements TickListener {
         float mHealDuration;
         float mHealInterval;
+        float mHealTicks;
 
         boolean mHealing;
         boolean mDropEffect;
         float mAngle;
+        float mPreviousAngle;
         float mScale = 1f;
         TickTimer mHealTimer;
-        Collection<Enemy> mHealedEnemies;
+        EntityBitSet mHealedEnemies;
         SampledFunction mScaleFunction;
         SampledFunction mRotateFunction;
 
         SpriteTemplate mSpriteTemplate;
-        AnimatedSprite mReferenceSprite;
+        LoopedSprite mReferenceSprite;
 
         @Override
         public void tick() {
-            mReferenceSprite.tick();
+            mPreviousAngle = mAngle;
 
             if (mHealTimer.tick()) {
                 mHealing = true;
@@ -81,7 +94,7 @@ public class Healer extends Enemy implements SpriteTransformation {
                 mAngle += mRotateFunction.getValue();
                 mScale = mScaleFunction.getValue();
 
-                if (mScaleFunction.getPosition() >= GameEngine.TARGET_FRAME_RATE * mHealDuration) {
+                if (mScaleFunction.getPosition() >= mHealTicks) {
                     mHealedEnemies.clear();
                     mDropEffect = true;
                     mHealing = false;
@@ -123,28 +136,31 @@ public class Healer extends Enemy implements SpriteTransformation {
 
         s.mHealInterval = mHealerSettings.getHealInterval();
         s.mHealDuration = mHealerSettings.getHealDuration();
+        s.mHealTicks = getGameEngine().getTargetFrameRate() * s.mHealDuration;
 
-        s.mHealTimer = TickTimer.createInterval(s.mHealInterval);
-        s.mHealedEnemies = new ArrayList<>();
+        s.mHealTimer = TickTimer.createInterval(getGameEngine().getTargetFrameRate(), s.mHealInterval);
+        s.mHealedEnemies = new EntityBitSet();
 
         s.mScaleFunction = Function.sine()
                 .join(Function.constant(0), (float) Math.PI)
                 .multiply(HEAL_SCALE_FACTOR - 1f)
                 .offset(1f)
-                .stretch(GameEngine.TARGET_FRAME_RATE * s.mHealDuration * 0.66f / (float) Math.PI)
+                .stretch(getGameEngine().getTargetFrameRate() * s.mHealDuration * 0.66f / (float) Math.PI)
                 .invert()
+                .bake(0, (int) (getGameEngine().getTargetFrameRate() * s.mHealDuration))
                 .sample();
 
         s.mRotateFunction = Function.constant(0)
                 .join(Function.sine(), (float) Math.PI / 2f)
-                .multiply(HEAL_ROTATION / GameEngine.TARGET_FRAME_RATE * 360f)
-                .stretch(GameEngine.TARGET_FRAME_RATE * s.mHealDuration * 0.66f / (float) Math.PI)
+                .multiply(HEAL_ROTATION / getGameEngine().getTargetFrameRate() * 360f)
+                .stretch(getGameEngine().getTargetFrameRate() * s.mHealDuration * 0.66f / (float) Math.PI)
+                .bake(0, (int) (getGameEngine().getTargetFrameRate() * s.mHealDuration))
                 .sample();
 
         s.mSpriteTemplate = getSpriteFactory().createTemplate(R.attr.healer, 4);
         s.mSpriteTemplate.setMatrix(0.9f, 0.9f, null, null);
 
-        s.mReferenceSprite = getSpriteFactory().createAnimated(Layers.ENEMY, s.mSpriteTemplate);
+        s.mReferenceSprite = getSpriteFactory().createLooped(Layers.ENEMY, s.mSpriteTemplate);
         s.mReferenceSprite.setSequenceForward();
         s.mReferenceSprite.setFrequency(ANIMATION_SPEED);
 
@@ -190,8 +206,8 @@ public class Healer extends Enemy implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mStaticData.mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mStaticData.mPreviousAngle, mStaticData.mAngle));
         transformer.scale(mStaticData.mScale);
     }
 }
@@ -1,12 +1,10 @@
 package ch.logixisland.anuto.entity.enemy;
 
 import android.graphics.Canvas;
-import android.graphics.Paint;
 
-import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
-import ch.logixisland.anuto.engine.theme.Theme;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.util.math.MathUtils;
 
 public class HealthBar implements Drawable {
@@ -15,16 +13,11 @@ public class HealthBar implements Drawable {
     private static final float HEALTHBAR_OFFSET = 0.6f;
 
     private final Enemy mEntity;
-    private final Paint mHealthBarBg;
-    private final Paint mHealthBarFg;
+    private final StyleRegistry mStyleRegistry;
 
-    public HealthBar(Theme theme, Enemy entity) {
+    public HealthBar(StyleRegistry styleRegistry, Enemy entity) {
         mEntity = entity;
-
-        mHealthBarBg = new Paint();
-        mHealthBarBg.setColor(theme.getColor(R.attr.healthBarBackgroundColor));
-        mHealthBarFg = new Paint();
-        mHealthBarFg.setColor(theme.getColor(R.attr.healthBarColor));
+        mStyleRegistry = styleRegistry;
     }
 
     @Override
@@ -36,10 +29,10 @@ public class HealthBar implements Drawable {
     public void draw(Canvas canvas) {
         if (!MathUtils.equals(mEntity.getHealth(), mEntity.getMaxHealth(), 1f)) {
             canvas.save();
-            canvas.translate(mEntity.getPosition().x() - HEALTHBAR_WIDTH / 2f, mEntity.getPosition().y() + HEALTHBAR_OFFSET);
+            canvas.translate(mEntity.getDrawX() - HEALTHBAR_WIDTH / 2f, mEntity.getDrawY() + HEALTHBAR_OFFSET);
 
-            canvas.drawRect(0, 0, HEALTHBAR_WIDTH, HEALTHBAR_HEIGHT, mHealthBarBg);
-            canvas.drawRect(0, 0, mEntity.getHealth() / mEntity.getMaxHealth() * HEALTHBAR_WIDTH, HEALTHBAR_HEIGHT, mHealthBarFg);
+            canvas.drawRect(0, 0, HEALTHBAR_WIDTH, HEALTHBAR_HEIGHT, mStyleRegistry.getPaint(StyleRegistry.HEALTH_BAR_BACKGROUND));
+            canvas.drawRect(0, 0, mEntity.getHealth() / mEntity.getMaxHealth() * HEALTHBAR_WIDTH, HEALTHBAR_HEIGHT, mStyleRegistry.getPaint(StyleRegistry.HEALTH_BAR));
             canvas.restore();
         }
     }
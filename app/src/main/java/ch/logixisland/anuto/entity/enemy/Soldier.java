@@ -7,11 +7,13 @@ import ch.logixisland.anuto.data.setting.enemy.GlobalSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
-import ch.logixisland.anuto.engine.logic.loop.TickListener;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.render.Layers;
-import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.LoopedSprite;
 import ch.logixisland.anuto.engine.render.sprite.ReplicatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -22,7 +24,7 @@ public class Soldier extends Enemy implements SpriteTransformation {
     private final static String ENTITY_NAME = "soldier";
     private final static float ANIMATION_SPEED = 1f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -33,6 +35,16 @@ public class Soldier extends Enemy implements SpriteTransformation {
             EnemySettingsRoot enemySettingsRoot = gameEngine.getGameConfiguration().getEnemySettingsRoot();
             return new Soldier(gameEngine, enemySettingsRoot.getGlobalSettings(), enemySettingsRoot.getSoldierSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getEnemySettingsRoot().getSoldierSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.soldier, 12);
+        }
     }
 
     public static class Persister extends EnemyPersister {
@@ -41,14 +53,9 @@ public class Soldier extends Enemy implements SpriteTransformation {
         }
     }
 
-    private static class StaticData implements TickListener {
+    private static class StaticData {
         SpriteTemplate mSpriteTemplate;
-        AnimatedSprite mReferenceSprite;
-
-        @Override
-        public void tick() {
-            mReferenceSprite.tick();
-        }
+        LoopedSprite mReferenceSprite;
     }
 
     private ReplicatedSprite mSprite;
@@ -73,12 +80,10 @@ public class Soldier extends Enemy implements SpriteTransformation {
         s.mSpriteTemplate = getSpriteFactory().createTemplate(R.attr.soldier, 12);
         s.mSpriteTemplate.setMatrix(0.9f, 0.9f, null, null);
 
-        s.mReferenceSprite = getSpriteFactory().createAnimated(Layers.ENEMY, s.mSpriteTemplate);
+        s.mReferenceSprite = getSpriteFactory().createLooped(Layers.ENEMY, s.mSpriteTemplate);
         s.mReferenceSprite.setSequenceForwardBackward();
         s.mReferenceSprite.setFrequency(ANIMATION_SPEED);
 
-        getGameEngine().add(s);
-
         return s;
     }
 
@@ -98,6 +103,6 @@ public class Soldier extends Enemy implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
     }
 }
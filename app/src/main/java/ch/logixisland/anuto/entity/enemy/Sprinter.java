@@ -7,11 +7,14 @@ import ch.logixisland.anuto.data.setting.enemy.GlobalSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.logic.loop.TickListener;
 import ch.logixisland.anuto.engine.render.Layers;
-import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.LoopedSprite;
 import ch.logixisland.anuto.engine.render.sprite.ReplicatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -24,7 +27,7 @@ public class Sprinter extends Enemy implements SpriteTransformation {
     private final static String ENTITY_NAME = "sprinter";
     private final static float ANIMATION_SPEED = 0.7f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -35,6 +38,16 @@ public class Sprinter extends Enemy implements SpriteTransformation {
             EnemySettingsRoot enemySettingsRoot = gameEngine.getGameConfiguration().getEnemySettingsRoot();
             return new Sprinter(gameEngine, enemySettingsRoot.getGlobalSettings(), enemySettingsRoot.getSprinterSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getEnemySettingsRoot().getSprinterSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.sprinter, 6);
+        }
     }
 
     public static class Persister extends EnemyPersister {
@@ -47,16 +60,16 @@ public class Sprinter extends Enemy implements SpriteTransformation {
         SampledFunction mSpeedFunction;
 
         SpriteTemplate mSpriteTemplate;
-        AnimatedSprite mReferenceSprite;
+        LoopedSprite mReferenceSprite;
 
         @Override
         public void tick() {
-            mReferenceSprite.tick();
             mSpeedFunction.step();
         }
     }
 
     private float mAngle;
+    private float mPreviousAngle;
     private StaticData mStatic;
     private ReplicatedSprite mSprite;
 
@@ -81,13 +94,13 @@ public class Sprinter extends Enemy implements SpriteTransformation {
                 .multiply(0.9f)
                 .offset(0.1f)
                 .repeat((float) Math.PI)
-                .stretch(GameEngine.TARGET_FRAME_RATE / ANIMATION_SPEED / (float) Math.PI)
+                .stretch(getGameEngine().getTargetFrameRate() / ANIMATION_SPEED / (float) Math.PI)
                 .sample();
 
         s.mSpriteTemplate = getSpriteFactory().createTemplate(R.attr.sprinter, 6);
         s.mSpriteTemplate.setMatrix(0.9f, 0.9f, null, null);
 
-        s.mReferenceSprite = getSpriteFactory().createAnimated(Layers.ENEMY, s.mSpriteTemplate);
+        s.mReferenceSprite = getSpriteFactory().createLooped(Layers.ENEMY, s.mSpriteTemplate);
         s.mReferenceSprite.setSequenceForwardBackward();
         s.mReferenceSprite.setFrequency(ANIMATION_SPEED);
 
@@ -103,10 +116,16 @@ public class Sprinter extends Enemy implements SpriteTransformation {
         getGameEngine().add(mSprite);
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
     }
 
     @Override
@@ -5,8 +5,10 @@ import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.logic.persistence.EntityPersister;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -18,7 +20,7 @@ public class BasicPlateau extends Plateau implements SpriteTransformation {
 
     private final static String ENTITY_NAME = "basic";
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntitySpriteFactory {
         @Override
         public Entity create(GameEngine gameEngine) {
             return new BasicPlateau(gameEngine);
@@ -28,6 +30,11 @@ public class BasicPlateau extends Plateau implements SpriteTransformation {
         public String getEntityName() {
             return ENTITY_NAME;
         }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.plateau1, 4);
+        }
     }
 
     public static class Persister extends EntityPersister {
@@ -82,6 +89,6 @@ public class BasicPlateau extends Plateau implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
     }
 }
@@ -4,6 +4,7 @@ import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -17,13 +18,14 @@ public class CanonShot extends HomingShot implements SpriteTransformation {
 
     private final static float MOVEMENT_SPEED = 4.0f;
     private final static float ROTATION_SPEED = 1.0f;
-    private final static float ROTATION_STEP = ROTATION_SPEED * 360f / GameEngine.TARGET_FRAME_RATE;
 
     private class StaticData {
         public SpriteTemplate mSpriteTemplate;
     }
 
     private float mAngle;
+    private float mPreviousAngle;
+    private float mRotationStep;
     private float mDamage;
 
     private StaticSprite mSprite;
@@ -33,6 +35,7 @@ public class CanonShot extends HomingShot implements SpriteTransformation {
         setPosition(position);
         setTarget(target);
         setSpeed(MOVEMENT_SPEED);
+        mRotationStep = ROTATION_SPEED * 360f / getGameEngine().getTargetFrameRate();
 
         mDamage = damage;
 
@@ -43,6 +46,10 @@ public class CanonShot extends HomingShot implements SpriteTransformation {
         mSprite.setIndex(RandomUtils.next(4));
     }
 
+    public static void preloadSprites(SpriteFactory spriteFactory) {
+        spriteFactory.preload(R.attr.canonShot, 4);
+    }
+
     @Override
     public Object initStatic() {
         StaticData s = new StaticData();
@@ -70,15 +77,21 @@ public class CanonShot extends HomingShot implements SpriteTransformation {
     @Override
     public void tick() {
         setDirection(getDirectionTo(getTarget()));
-        mAngle += ROTATION_STEP;
+        mAngle += mRotationStep;
 
         super.tick();
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
     }
 
     @Override
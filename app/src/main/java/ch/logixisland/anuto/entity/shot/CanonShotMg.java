@@ -3,6 +3,7 @@ package ch.logixisland.anuto.entity.shot;
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -43,6 +44,10 @@ public class CanonShotMg extends Shot implements SpriteTransformation {
         mSprite.setIndex(RandomUtils.next(4));
     }
 
+    public static void preloadSprites(SpriteFactory spriteFactory) {
+        spriteFactory.preload(R.attr.canonMgShot, 4);
+    }
+
     @Override
     public Object initStatic() {
         StaticData s = new StaticData();
@@ -87,7 +92,7 @@ public class CanonShotMg extends Shot implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
         transformer.rotate(mAngle);
     }
 }
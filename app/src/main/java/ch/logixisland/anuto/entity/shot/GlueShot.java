@@ -4,7 +4,8 @@ import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Layers;
-import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.LoopedSprite;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -26,7 +27,7 @@ public class GlueShot extends Shot implements SpriteTransformation {
 
     private float mDuration;
     private Vector2 mTarget;
-    private AnimatedSprite mSprite;
+    private LoopedSprite mSprite;
 
     private Sound mSound;
     public GlueShot(Entity origin, Vector2 position, Vector2 target, float intensity, float duration) {
@@ -42,7 +43,7 @@ public class GlueShot extends Shot implements SpriteTransformation {
 
         StaticData s = (StaticData) getStaticData();
 
-        mSprite = getSpriteFactory().createAnimated(Layers.SHOT, s.mSpriteTemplate);
+        mSprite = getSpriteFactory().createLooped(Layers.SHOT, s.mSpriteTemplate);
         mSprite.setListener(this);
         mSprite.setSequenceForward();
         mSprite.setFrequency(ANIMATION_SPEED);
@@ -50,6 +51,11 @@ public class GlueShot extends Shot implements SpriteTransformation {
         mSound = getSoundFactory().createSound(R.raw.gas1_pff);
     }
 
+    public static void preloadSprites(SpriteFactory spriteFactory) {
+        spriteFactory.preload(R.attr.glueShot, 6);
+        GlueEffect.preloadSprites(spriteFactory);
+    }
+
     @Override
     public Object initStatic() {
         StaticData s = new StaticData();
@@ -78,9 +84,7 @@ public class GlueShot extends Shot implements SpriteTransformation {
     public void tick() {
         super.tick();
 
-        mSprite.tick();
-
-        if (getDistanceTo(mTarget) < getSpeed() / GameEngine.TARGET_FRAME_RATE) {
+        if (getDistanceTo(mTarget) < getSpeed() / getGameEngine().getTargetFrameRate()) {
             getGameEngine().add(new GlueEffect(getOrigin(), mTarget, mIntensity, mDuration));
             mSound.play();
             this.remove();
@@ -89,6 +93,6 @@ public class GlueShot extends Shot implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
     }
 }
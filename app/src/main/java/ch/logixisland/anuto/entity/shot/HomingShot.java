@@ -2,13 +2,13 @@ package ch.logixisland.anuto.entity.shot;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
-import ch.logixisland.anuto.engine.logic.entity.EntityListener;
+import ch.logixisland.anuto.engine.logic.entity.EntityHandle;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 
-public abstract class HomingShot extends Shot implements EntityListener {
+public abstract class HomingShot extends Shot {
 
     private Enemy mTarget;
-    private boolean mTargetReached;
+    private EntityHandle<Enemy> mTargetHandle;
 
     HomingShot(Entity origin) {
         super(origin);
@@ -22,10 +22,14 @@ public abstract class HomingShot extends Shot implements EntityListener {
 
     @Override
     public void tick() {
+        if (mTargetHandle != null && !mTargetHandle.isAlive()) {
+            setTarget(null);
+            targetLost();
+        }
+
         super.tick();
 
-        if (isEnabled() && mTarget != null && getDistanceTo(mTarget) <= getSpeed() / GameEngine.TARGET_FRAME_RATE) {
-            mTargetReached = true;
+        if (isEnabled() && mTarget != null && getDistanceTo(mTarget) <= getSpeed() / getGameEngine().getTargetFrameRate()) {
             targetReached();
         }
     }
@@ -35,28 +39,12 @@ public abstract class HomingShot extends Shot implements EntityListener {
     }
 
     public void setTarget(Enemy target) {
-        if (mTarget != null) {
-            mTarget.removeListener(this);
-        }
-
         mTarget = target;
-        mTargetReached = false;
-
-        if (mTarget != null) {
-            mTarget.addListener(this);
-        }
+        mTargetHandle = target != null ? getGameEngine().createHandle(target) : null;
     }
 
     protected abstract void targetReached();
 
     protected abstract void targetLost();
 
-    @Override
-    public void entityRemoved(Entity entity) {
-        if (!mTargetReached) {
-            setTarget(null);
-            targetLost();
-        }
-    }
-
 }
@@ -5,6 +5,7 @@ import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -34,11 +35,13 @@ public class Mine extends Shot implements SpriteTransformation {
 
     private class StaticData {
         SpriteTemplate mSpriteTemplate;
+        Function mHeightScalingFunction;
     }
 
     private float mDamage;
     private float mRadius;
     private float mAngle;
+    private float mPreviousAngle;
     private boolean mFlying;
     private float mRotationStep;
     private SampledFunction mHeightScalingFunction;
@@ -47,7 +50,7 @@ public class Mine extends Shot implements SpriteTransformation {
     private StaticSprite mSpriteFlying;
     private StaticSprite mSpriteMine;
 
-    private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
+    private final TickTimer mUpdateTimer = TickTimer.createInterval(getGameEngine().getTargetFrameRate(), 0.1f);
 
     public Mine(Entity origin, Vector2 position, Vector2 target, float damage, float radius) {
         super(origin);
@@ -61,16 +64,10 @@ public class Mine extends Shot implements SpriteTransformation {
         mRadius = radius;
         mTarget = target;
 
-        mRotationStep = RandomUtils.next(ROTATION_RATE_MIN, ROTATION_RATE_MAX) * 360f / GameEngine.TARGET_FRAME_RATE;
+        mRotationStep = RandomUtils.next(ROTATION_RATE_MIN, ROTATION_RATE_MAX) * 360f / getGameEngine().getTargetFrameRate();
 
-        float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
-        float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
-        mHeightScalingFunction = Function.quadratic()
-                .multiply(-1f)
-                .offset(HEIGHT_SCALING_PEAK)
-                .shift(-x1)
-                .stretch(GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET / (x1 + x2))
-                .sample();
+        StaticData s = (StaticData) getStaticData();
+        mHeightScalingFunction = s.mHeightScalingFunction.sample();
 
         createAssets();
     }
@@ -107,10 +104,23 @@ public class Mine extends Shot implements SpriteTransformation {
         return mTarget;
     }
 
+    public static void preloadSprites(SpriteFactory spriteFactory) {
+        spriteFactory.preload(R.attr.mine, 4);
+    }
+
     @Override
     public Object initStatic() {
         StaticData s = new StaticData();
 
+        float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
+        float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
+        s.mHeightScalingFunction = Function.quadratic()
+                .multiply(-1f)
+                .offset(HEIGHT_SCALING_PEAK)
+                .shift(-x1)
+                .stretch(getGameEngine().getTargetFrameRate() * TIME_TO_TARGET / (x1 + x2))
+                .bake(0, (int) (getGameEngine().getTargetFrameRate() * TIME_TO_TARGET));
+
         s.mSpriteTemplate = getSpriteFactory().createTemplate(R.attr.mine, 4);
         s.mSpriteTemplate.setMatrix(0.7f, 0.7f, null, null);
 
@@ -147,7 +157,7 @@ public class Mine extends Shot implements SpriteTransformation {
             mAngle += mRotationStep;
             mHeightScalingFunction.step();
 
-            if (mHeightScalingFunction.getPosition() >= GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET) {
+            if (mHeightScalingFunction.getPosition() >= getGameEngine().getTargetFrameRate() * TIME_TO_TARGET) {
                 getGameEngine().remove(mSpriteFlying);
                 getGameEngine().add(mSpriteMine);
 
@@ -172,11 +182,17 @@ public class Mine extends Shot implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
         float s = mHeightScalingFunction.getValue();
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
         transformer.scale(s);
-        transformer.rotate(mAngle);
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
     }
 }
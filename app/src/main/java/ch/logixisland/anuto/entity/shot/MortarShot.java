@@ -4,6 +4,7 @@ import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -24,6 +25,7 @@ public class MortarShot extends Shot implements SpriteTransformation {
 
     private class StaticData {
         SpriteTemplate mSpriteTemplate;
+        Function mHeightScalingFunction;
     }
 
     private float mDamage;
@@ -45,24 +47,30 @@ public class MortarShot extends Shot implements SpriteTransformation {
 
         StaticData s = (StaticData) getStaticData();
 
-        float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
-        float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
-        mHeightScalingFunction = Function.quadratic()
-                .multiply(-1f)
-                .offset(HEIGHT_SCALING_PEAK)
-                .shift(-x1)
-                .stretch(GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET / (x1 + x2))
-                .sample();
+        mHeightScalingFunction = s.mHeightScalingFunction.sample();
 
         mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
         mSprite.setListener(this);
         mSprite.setIndex(RandomUtils.next(4));
     }
 
+    public static void preloadSprites(SpriteFactory spriteFactory) {
+        spriteFactory.preload(R.attr.grenade, 4);
+    }
+
     @Override
     public Object initStatic() {
         StaticData s = new StaticData();
 
+        float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
+        float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
+        s.mHeightScalingFunction = Function.quadratic()
+                .multiply(-1f)
+                .offset(HEIGHT_SCALING_PEAK)
+                .shift(-x1)
+                .stretch(getGameEngine().getTargetFrameRate() * TIME_TO_TARGET / (x1 + x2))
+                .bake(0, (int) (getGameEngine().getTargetFrameRate() * TIME_TO_TARGET));
+
         s.mSpriteTemplate = getSpriteFactory().createTemplate(R.attr.grenade, 4);
         s.mSpriteTemplate.setMatrix(0.7f, 0.7f, null, null);
 
@@ -86,7 +94,7 @@ public class MortarShot extends Shot implements SpriteTransformation {
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
         float s = mHeightScalingFunction.getValue();
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
         transformer.scale(s);
         transformer.rotate(mAngle);
     }
@@ -96,7 +104,7 @@ public class MortarShot extends Shot implements SpriteTransformation {
         super.tick();
 
         mHeightScalingFunction.step();
-        if (mHeightScalingFunction.getPosition() >= GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET) {
+        if (mHeightScalingFunction.getPosition() >= getGameEngine().getTargetFrameRate() * TIME_TO_TARGET) {
             getGameEngine().add(new Explosion(getOrigin(), getPosition(), mDamage, mRadius));
             this.remove();
         }
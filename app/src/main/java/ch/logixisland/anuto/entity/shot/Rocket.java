@@ -4,6 +4,7 @@ import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -28,6 +29,7 @@ public class Rocket extends HomingShot implements SpriteTransformation {
     private float mDamage;
     private float mRadius;
     private float mAngle;
+    private float mPreviousAngle;
 
     private StaticSprite mSprite;
     private AnimatedSprite mSpriteFire;
@@ -57,6 +59,11 @@ public class Rocket extends HomingShot implements SpriteTransformation {
         mAngle = angle;
     }
 
+    public static void preloadSprites(SpriteFactory spriteFactory) {
+        spriteFactory.preload(R.attr.rocket, 4);
+        spriteFactory.preload(R.attr.rocketFire, 4);
+    }
+
     @Override
     public Object initStatic() {
         StaticData s = new StaticData();
@@ -105,9 +112,15 @@ public class Rocket extends HomingShot implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
     }
 
     @Override
@@ -3,7 +3,7 @@ package ch.logixisland.anuto.entity.tower;
 import ch.logixisland.anuto.data.setting.tower.TowerSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
-import ch.logixisland.anuto.engine.logic.entity.EntityListener;
+import ch.logixisland.anuto.engine.logic.entity.EntityHandle;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 
@@ -12,28 +12,16 @@ public abstract class AimingTower extends Tower {
     private static TowerStrategy sDefaultStrategy = TowerStrategy.Closest;
     private static boolean sDefaultLockTarget = true;
 
-    private Enemy mTarget = null;
+    private EntityHandle<Enemy> mTarget = null;
     private TowerStrategy mStrategy = sDefaultStrategy;
     private boolean mLockTarget = sDefaultLockTarget;
 
-    private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
-
-    private final EntityListener mEntityListener = new EntityListener() {
-        @Override
-        public void entityRemoved(Entity entity) {
-            targetLost();
-        }
-    };
+    private final TickTimer mUpdateTimer = TickTimer.createInterval(getGameEngine().getTargetFrameRate(), 0.1f);
 
     protected AimingTower(GameEngine gameEngine, TowerSettings config) {
         super(gameEngine, config);
     }
 
-    @Override
-    public void init() {
-        super.init();
-    }
-
     @Override
     public void clean() {
         super.clean();
@@ -45,11 +33,13 @@ public abstract class AimingTower extends Tower {
         super.tick();
 
         if (mUpdateTimer.tick()) {
-            if (mTarget != null && getDistanceTo(mTarget) > getRange()) {
+            Enemy target = getTarget();
+
+            if (target != null && getDistanceTo(target) > getRange()) {
                 targetLost();
             }
 
-            if (mTarget == null || !mLockTarget) {
+            if (getTarget() == null || !mLockTarget) {
                 nextTarget();
             }
         }
@@ -76,18 +66,14 @@ public abstract class AimingTower extends Tower {
 
 
     public Enemy getTarget() {
-        return mTarget;
+        return mTarget != null ? mTarget.get() : null;
     }
 
     protected void setTarget(Enemy target) {
-        if (mTarget != null) {
-            mTarget.removeListener(mEntityListener);
-        }
-
-        mTarget = target;
-
-        if (mTarget != null) {
-            mTarget.addListener(mEntityListener);
+        if (target == null) {
+            mTarget = null;
+        } else if (target != getTarget()) {
+            mTarget = getGameEngine().createHandle(target);
         }
     }
 
@@ -106,11 +92,11 @@ public abstract class AimingTower extends Tower {
                 break;
 
             case First:
-                setTarget(getPossibleTargets().min(Enemy.distanceRemaining()));
+                setTarget(getPossibleTargetsByProgress(true).first());
                 break;
 
             case Last:
-                setTarget(getPossibleTargets().max(Enemy.distanceRemaining()));
+                setTarget(getPossibleTargetsByProgress(false).first());
         }
     }
 
@@ -11,8 +11,11 @@ import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -27,7 +30,7 @@ public class BouncingLaser extends AimingTower implements SpriteTransformation {
     private final static String ENTITY_NAME = "bouncingLaser";
     private final static float LASER_SPAWN_OFFSET = 0.7f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -38,6 +41,17 @@ public class BouncingLaser extends AimingTower implements SpriteTransformation {
             TowerSettingsRoot towerSettingsRoot = gameEngine.getGameConfiguration().getTowerSettingsRoot();
             return new BouncingLaser(gameEngine, towerSettingsRoot.getBouncingLaserSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getTowerSettingsRoot().getBouncingLaserSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.base5, 4);
+            spriteFactory.preload(R.attr.laserTower2, 4);
+        }
     }
 
     public static class Persister extends TowerPersister {
@@ -54,6 +68,7 @@ public class BouncingLaser extends AimingTower implements SpriteTransformation {
     private BouncingLaserSettings mSettings;
 
     private float mAngle = 90f;
+    private float mPreviousAngle = 90f;
 
     private StaticSprite mSpriteBase;
     private StaticSprite mSpriteCanon;
@@ -127,10 +142,16 @@ public class BouncingLaser extends AimingTower implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
     }
 
     @Override
@@ -11,8 +11,11 @@ import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -33,7 +36,7 @@ public class Canon extends AimingTower implements SpriteTransformation {
     private final static float REBOUND_RANGE = 0.25f;
     private final static float REBOUND_DURATION = 0.2f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -44,6 +47,18 @@ public class Canon extends AimingTower implements SpriteTransformation {
             TowerSettingsRoot towerSettingsRoot = gameEngine.getGameConfiguration().getTowerSettingsRoot();
             return new Canon(gameEngine, towerSettingsRoot.getCanonSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getTowerSettingsRoot().getCanonSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.base1, 4);
+            spriteFactory.preload(R.attr.canon, 4);
+            CanonShot.preloadSprites(spriteFactory);
+        }
     }
 
     public static class Persister extends TowerPersister {
@@ -55,9 +70,11 @@ public class Canon extends AimingTower implements SpriteTransformation {
     private static class StaticData {
         SpriteTemplate mSpriteTemplateBase;
         SpriteTemplate mSpriteTemplateCanon;
+        Function mReboundFunction;
     }
 
     private float mAngle = 90f;
+    private float mPreviousAngle = 90f;
     private boolean mReboundActive;
 
     private SampledFunction mReboundFunction;
@@ -71,10 +88,7 @@ public class Canon extends AimingTower implements SpriteTransformation {
         super(gameEngine, settings);
         StaticData s = (StaticData) getStaticData();
 
-        mReboundFunction = Function.sine()
-                .multiply(REBOUND_RANGE)
-                .stretch(GameEngine.TARGET_FRAME_RATE * REBOUND_DURATION / (float) Math.PI)
-                .sample();
+        mReboundFunction = s.mReboundFunction.sample();
 
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
         mSpriteBase.setListener(this);
@@ -97,6 +111,11 @@ public class Canon extends AimingTower implements SpriteTransformation {
     public Object initStatic() {
         StaticData s = new StaticData();
 
+        s.mReboundFunction = Function.sine()
+                .multiply(REBOUND_RANGE)
+                .stretch(getGameEngine().getTargetFrameRate() * REBOUND_DURATION / (float) Math.PI)
+                .bake(0, (int) (getGameEngine().getTargetFrameRate() * REBOUND_DURATION));
+
         s.mSpriteTemplateBase = getSpriteFactory().createTemplate(R.attr.base1, 4);
         s.mSpriteTemplateBase.setMatrix(1f, 1f, null, null);
 
@@ -142,17 +161,23 @@ public class Canon extends AimingTower implements SpriteTransformation {
 
         if (mReboundActive) {
             mReboundFunction.step();
-            if (mReboundFunction.getPosition() >= GameEngine.TARGET_FRAME_RATE * REBOUND_DURATION) {
+            if (mReboundFunction.getPosition() >= getGameEngine().getTargetFrameRate() * REBOUND_DURATION) {
                 mReboundFunction.reset();
                 mReboundActive = false;
             }
         }
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
 
         if (sprite == mSpriteCanon && mReboundActive) {
             transformer.translate(-mReboundFunction.getValue(), 0);
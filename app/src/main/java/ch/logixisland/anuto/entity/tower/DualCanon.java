@@ -11,8 +11,11 @@ import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -33,7 +36,7 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
     private final static float REBOUND_RANGE = 0.25f;
     private final static float REBOUND_DURATION = 0.2f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -44,6 +47,19 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
             TowerSettingsRoot towerSettingsRoot = gameEngine.getGameConfiguration().getTowerSettingsRoot();
             return new DualCanon(gameEngine, towerSettingsRoot.getDualCanonSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getTowerSettingsRoot().getDualCanonSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.base1, 4);
+            spriteFactory.preload(R.attr.canonDual, 4);
+            spriteFactory.preload(R.attr.canon, 4);
+            CanonShot.preloadSprites(spriteFactory);
+        }
     }
 
     public static class Persister extends TowerPersister {
@@ -56,6 +72,7 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
         SpriteTemplate mSpriteTemplateBase;
         SpriteTemplate mSpriteTemplateTower;
         SpriteTemplate mSpriteTemplateCanon;
+        Function mReboundFunction;
     }
 
     private static class SubCanon {
@@ -65,6 +82,7 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
     }
 
     private float mAngle = 90f;
+    private float mPreviousAngle = 90f;
     private boolean mShoot2 = false;
     private SubCanon[] mCanons = new SubCanon[2];
 
@@ -77,10 +95,6 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
         super(gameEngine, settings);
         StaticData s = (StaticData) getStaticData();
 
-        Function reboundFunction = Function.sine()
-                .multiply(REBOUND_RANGE)
-                .stretch(GameEngine.TARGET_FRAME_RATE * REBOUND_DURATION / (float) Math.PI);
-
         mSpriteBase = getSpriteFactory().createStatic(Layers.TOWER_BASE, s.mSpriteTemplateBase);
         mSpriteBase.setListener(this);
         mSpriteBase.setIndex(RandomUtils.next(4));
@@ -91,7 +105,7 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
 
         for (int i = 0; i < mCanons.length; i++) {
             mCanons[i] = new SubCanon();
-            mCanons[i].reboundFunction = reboundFunction.sample();
+            mCanons[i].reboundFunction = s.mReboundFunction.sample();
             mCanons[i].reboundActive = false;
 
             mCanons[i].sprite = getSpriteFactory().createStatic(Layers.TOWER, s.mSpriteTemplateCanon);
@@ -112,6 +126,11 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
     public Object initStatic() {
         StaticData s = new StaticData();
 
+        s.mReboundFunction = Function.sine()
+                .multiply(REBOUND_RANGE)
+                .stretch(getGameEngine().getTargetFrameRate() * REBOUND_DURATION / (float) Math.PI)
+                .bake(0, (int) (getGameEngine().getTargetFrameRate() * REBOUND_DURATION));
+
         s.mSpriteTemplateBase = getSpriteFactory().createTemplate(R.attr.base1, 4);
         s.mSpriteTemplateBase.setMatrix(1f, 1f, null, null);
 
@@ -184,7 +203,7 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
 
         if (mCanons[0].reboundActive) {
             mCanons[0].reboundFunction.step();
-            if (mCanons[0].reboundFunction.getPosition() >= GameEngine.TARGET_FRAME_RATE * REBOUND_DURATION) {
+            if (mCanons[0].reboundFunction.getPosition() >= getGameEngine().getTargetFrameRate() * REBOUND_DURATION) {
                 mCanons[0].reboundFunction.reset();
                 mCanons[0].reboundActive = false;
             }
@@ -192,17 +211,23 @@ public class DualCanon extends AimingTower implements SpriteTransformation {
 
         if (mCanons[1].reboundActive) {
             mCanons[1].reboundFunction.step();
-            if (mCanons[1].reboundFunction.getPosition() >= GameEngine.TARGET_FRAME_RATE * REBOUND_DURATION) {
+            if (mCanons[1].reboundFunction.getPosition() >= getGameEngine().getTargetFrameRate() * REBOUND_DURATION) {
                 mCanons[1].reboundFunction.reset();
                 mCanons[1].reboundActive = false;
             }
         }
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
 
         if (sprite == mCanons[0].sprite) {
             transformer.translate(0, 0.3f);
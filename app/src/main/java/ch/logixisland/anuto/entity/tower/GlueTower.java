@@ -8,15 +8,18 @@ import java.util.List;
 
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.data.map.MapDescriptorRoot;
-import ch.logixisland.anuto.data.map.PathDescriptor;
+import ch.logixisland.anuto.data.map.PathCoverage;
 import ch.logixisland.anuto.data.setting.tower.GlueTowerSettings;
 import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -34,9 +37,8 @@ public class GlueTower extends Tower implements SpriteTransformation {
     private final static String ENTITY_NAME = "glueTower";
     private final static float SHOT_SPAWN_OFFSET = 0.8f;
     private final static float CANON_OFFSET_MAX = 0.5f;
-    private final static float CANON_OFFSET_STEP = CANON_OFFSET_MAX / GameEngine.TARGET_FRAME_RATE / 0.8f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -46,7 +48,20 @@ public class GlueTower extends Tower implements SpriteTransformation {
         public Entity create(GameEngine gameEngine) {
             TowerSettingsRoot towerSettingsRoot = gameEngine.getGameConfiguration().getTowerSettingsRoot();
             MapDescriptorRoot mapDescriptorRoot = gameEngine.getGameConfiguration().getMapDescriptorRoot();
-            return new GlueTower(gameEngine, towerSettingsRoot.getGlueTowerSettings(), mapDescriptorRoot.getPaths());
+            return new GlueTower(gameEngine, towerSettingsRoot.getGlueTowerSettings(), mapDescriptorRoot.getPathCoverage());
+        }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getTowerSettingsRoot().getGlueTowerSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.base4, 4);
+            spriteFactory.preload(R.attr.glueShot, 6);
+            spriteFactory.preload(R.attr.glueTowerGun, 4);
+            GlueShot.preloadSprites(spriteFactory);
         }
     }
 
@@ -68,30 +83,32 @@ public class GlueTower extends Tower implements SpriteTransformation {
 
         @Override
         public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-            transformer.translate(getPosition());
+            transformer.translate(getDrawX(), getDrawY());
             transformer.rotate(mAngle);
             transformer.translate(mCanonOffset, 0);
         }
     }
 
     private GlueTowerSettings mSettings;
-    private Collection<PathDescriptor> mPaths;
+    private PathCoverage mPathCoverage;
 
     private float mGlueIntensity;
     private boolean mShooting;
     private float mCanonOffset;
+    private float mCanonOffsetStep;
     private SubCanon[] mCanons = new SubCanon[8];
     private Collection<Vector2> mTargets = new ArrayList<>();
     private StaticSprite mSpriteBase;
 
     private StaticSprite mSpriteTower;
-    private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
+    private final TickTimer mUpdateTimer = TickTimer.createInterval(getGameEngine().getTargetFrameRate(), 0.1f);
 
-    private GlueTower(GameEngine gameEngine, GlueTowerSettings settings, Collection<PathDescriptor> paths) {
+    private GlueTower(GameEngine gameEngine, GlueTowerSettings settings, PathCoverage pathCoverage) {
         super(gameEngine, settings);
         StaticData s = (StaticData) getStaticData();
 
-        mPaths = paths;
+        mPathCoverage = pathCoverage;
+        mCanonOffsetStep = CANON_OFFSET_MAX / gameEngine.getTargetFrameRate() / 0.8f;
         mSettings = settings;
         mGlueIntensity = settings.getGlueIntensity();
 
@@ -182,7 +199,7 @@ public class GlueTower extends Tower implements SpriteTransformation {
         }
 
         if (mShooting) {
-            mCanonOffset += CANON_OFFSET_STEP;
+            mCanonOffset += mCanonOffsetStep;
 
             if (mCanonOffset >= CANON_OFFSET_MAX) {
                 mShooting = false;
@@ -193,13 +210,13 @@ public class GlueTower extends Tower implements SpriteTransformation {
                 }
             }
         } else if (mCanonOffset > 0f) {
-            mCanonOffset -= CANON_OFFSET_STEP;
+            mCanonOffset -= mCanonOffsetStep;
         }
     }
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
     }
 
     @Override
@@ -219,7 +236,7 @@ public class GlueTower extends Tower implements SpriteTransformation {
     }
 
     private void determineTargets() {
-        Collection<Line> sections = getPathSectionsInRange(mPaths);
+        Collection<Line> sections = getPathSectionsInRange(mPathCoverage).getSections();
         float dist = 0f;
 
         mTargets.clear();
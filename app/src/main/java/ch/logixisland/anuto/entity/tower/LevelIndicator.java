@@ -3,37 +3,33 @@ package ch.logixisland.anuto.entity.tower;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 
-import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
-import ch.logixisland.anuto.engine.theme.Theme;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class LevelIndicator implements Drawable {
 
     private final Tower mTower;
-    private final Paint mText;
+    private final StyleRegistry mStyleRegistry;
 
-    LevelIndicator(Theme theme, Tower tower) {
+    LevelIndicator(StyleRegistry styleRegistry, Tower tower) {
         mTower = tower;
-
-        mText = new Paint();
-        mText.setStyle(Paint.Style.FILL);
-        mText.setColor(theme.getColor(R.attr.levelIndicatorColor));
-        mText.setTextSize(100);
+        mStyleRegistry = styleRegistry;
     }
 
     @Override
     public void draw(Canvas canvas) {
         Vector2 pos = mTower.getPosition();
+        Paint text = mStyleRegistry.getPaint(StyleRegistry.LEVEL_INDICATOR);
 
         canvas.save();
         canvas.translate(pos.x(), pos.y());
         canvas.scale(0.0075f, -0.0075f);
-        String text = String.valueOf(mTower.getLevel());
-        float height = mText.ascent() + mText.descent();
-        float width = mText.measureText(text);
-        canvas.drawText(text, -width / 2, -height / 2, mText);
+        String level = String.valueOf(mTower.getLevel());
+        float height = text.ascent() + text.descent();
+        float width = text.measureText(level);
+        canvas.drawText(level, -width / 2, -height / 2, text);
         canvas.restore();
     }
 
@@ -10,16 +10,20 @@ import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.data.game.EntityDescriptor;
 import ch.logixisland.anuto.data.game.MineLayerDescriptor;
 import ch.logixisland.anuto.data.map.MapDescriptorRoot;
-import ch.logixisland.anuto.data.map.PathDescriptor;
+import ch.logixisland.anuto.data.map.PathCoverage;
+import ch.logixisland.anuto.data.map.PathSections;
 import ch.logixisland.anuto.data.setting.tower.MineLayerSettings;
 import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityListener;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -27,7 +31,6 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.shot.Mine;
 import ch.logixisland.anuto.util.RandomUtils;
-import ch.logixisland.anuto.util.math.Line;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class MineLayer extends Tower implements SpriteTransformation {
@@ -35,7 +38,7 @@ public class MineLayer extends Tower implements SpriteTransformation {
     private final static String ENTITY_NAME = "mineLayer";
     private final static float ANIMATION_DURATION = 1f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -45,7 +48,18 @@ public class MineLayer extends Tower implements SpriteTransformation {
         public Entity create(GameEngine gameEngine) {
             TowerSettingsRoot towerSettingsRoot = gameEngine.getGameConfiguration().getTowerSettingsRoot();
             MapDescriptorRoot mapDescriptorRoot = gameEngine.getGameConfiguration().getMapDescriptorRoot();
-            return new MineLayer(gameEngine, towerSettingsRoot.getMineLayerSettings(), mapDescriptorRoot.getPaths());
+            return new MineLayer(gameEngine, towerSettingsRoot.getMineLayerSettings(), mapDescriptorRoot.getPathCoverage());
+        }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getTowerSettingsRoot().getMineLayerSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.mineLayer, 6);
+            Mine.preloadSprites(spriteFactory);
         }
     }
 
@@ -94,13 +108,13 @@ public class MineLayer extends Tower implements SpriteTransformation {
     }
 
     private MineLayerSettings mSettings;
-    private Collection<PathDescriptor> mPaths;
+    private PathCoverage mPathCoverage;
 
     private float mAngle;
     private int mMaxMineCount;
     private float mExplosionRadius;
     private boolean mShooting;
-    private Collection<Line> mSections;
+    private PathSections mSections;
     private Collection<Mine> mMines = new ArrayList<>();
 
     private AnimatedSprite mSprite;
@@ -115,11 +129,11 @@ public class MineLayer extends Tower implements SpriteTransformation {
         }
     };
 
-    private MineLayer(GameEngine gameEngine, MineLayerSettings settings, Collection<PathDescriptor> paths) {
+    private MineLayer(GameEngine gameEngine, MineLayerSettings settings, PathCoverage pathCoverage) {
         super(gameEngine, settings);
         StaticData s = (StaticData) getStaticData();
 
-        mPaths = paths;
+        mPathCoverage = pathCoverage;
         mSettings = settings;
 
         mSprite = getSpriteFactory().createAnimated(Layers.TOWER_BASE, s.mSpriteTemplate);
@@ -173,13 +187,13 @@ public class MineLayer extends Tower implements SpriteTransformation {
     @Override
     public void setPosition(Vector2 position) {
         super.setPosition(position);
-        mSections = getPathSectionsInRange(mPaths);
+        mSections = getPathSectionsInRange(mPathCoverage);
     }
 
     @Override
     public void move(Vector2 offset) {
         super.move(offset);
-        mSections = getPathSectionsInRange(mPaths);
+        mSections = getPathSectionsInRange(mPathCoverage);
     }
 
     @Override
@@ -193,7 +207,7 @@ public class MineLayer extends Tower implements SpriteTransformation {
     public void tick() {
         super.tick();
 
-        if (isReloaded() && mMines.size() < mMaxMineCount && mSections.size() > 0) {
+        if (isReloaded() && mMines.size() < mMaxMineCount && !mSections.isEmpty()) {
             mShooting = true;
             setReloaded(false);
         }
@@ -219,7 +233,7 @@ public class MineLayer extends Tower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
         transformer.rotate(mAngle);
     }
 
@@ -240,27 +254,7 @@ public class MineLayer extends Tower implements SpriteTransformation {
     }
 
     private Vector2 getTarget() {
-        float totalLen = 0f;
-
-        for (Line section : mSections) {
-            totalLen += section.length();
-        }
-
-        float dist = RandomUtils.next(totalLen);
-
-        for (Line section : mSections) {
-            float length = section.length();
-
-            if (dist > length) {
-                dist -= length;
-            } else {
-                return section.lineVector()
-                        .norm()
-                        .mul(dist)
-                        .add(section.getPoint1());
-            }
-        }
-
-        return null;
+        float dist = RandomUtils.next(getGameEngine().getRandom(), mSections.getTotalLength());
+        return mSections.getPointAt(dist);
     }
 }
@@ -4,6 +4,7 @@ import android.graphics.Canvas;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.data.setting.tower.MortarSettings;
@@ -11,9 +12,12 @@ import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.render.sprite.AnimatedSprite;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -30,7 +34,7 @@ public class Mortar extends AimingTower implements SpriteTransformation {
     private final static float SHOT_SPAWN_OFFSET = 0.6f;
     private final static float REBOUND_DURATION = 0.5f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -41,6 +45,18 @@ public class Mortar extends AimingTower implements SpriteTransformation {
             TowerSettingsRoot towerSettingsRoot = gameEngine.getGameConfiguration().getTowerSettingsRoot();
             return new Mortar(gameEngine, towerSettingsRoot.getMortarSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getTowerSettingsRoot().getMortarSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.base2, 4);
+            spriteFactory.preload(R.attr.mortar, 8);
+            MortarShot.preloadSprites(spriteFactory);
+        }
     }
 
     public static class Persister extends TowerPersister {
@@ -58,6 +74,7 @@ public class Mortar extends AimingTower implements SpriteTransformation {
 
     private float mExplosionRadius;
     private float mAngle = 90f;
+    private float mPreviousAngle = 90f;
     private boolean mRebounding = false;
 
     private StaticSprite mSpriteBase;
@@ -129,7 +146,8 @@ public class Mortar extends AimingTower implements SpriteTransformation {
 
         if (getTarget() != null && isReloaded()) {
             Vector2 targetPos = getTarget().getPositionAfter(MortarShot.TIME_TO_TARGET);
-            targetPos = targetPos.add(Vector2.polar(RandomUtils.next(mSettings.getInaccuracy()), RandomUtils.next(360f)));
+            Random random = getGameEngine().getRandom();
+            targetPos = targetPos.add(Vector2.polar(RandomUtils.next(random, mSettings.getInaccuracy()), RandomUtils.next(random, 360f)));
             mAngle = getAngleTo(targetPos);
             Vector2 shotPos = getPosition().add(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
 
@@ -145,12 +163,18 @@ public class Mortar extends AimingTower implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
 
         if (sprite == mSpriteCanon) {
-            transformer.rotate(mAngle);
+            transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
         }
     }
 
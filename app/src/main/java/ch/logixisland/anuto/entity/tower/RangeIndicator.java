@@ -1,24 +1,19 @@
 package ch.logixisland.anuto.entity.tower;
 
 import android.graphics.Canvas;
-import android.graphics.Paint;
 
-import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
-import ch.logixisland.anuto.engine.theme.Theme;
+import ch.logixisland.anuto.engine.render.StyleRegistry;
 
 public class RangeIndicator implements Drawable {
 
     private final Tower mTower;
-    private final Paint mPen;
+    private final StyleRegistry mStyleRegistry;
 
-    public RangeIndicator(Theme theme, Tower tower) {
+    public RangeIndicator(StyleRegistry styleRegistry, Tower tower) {
         mTower = tower;
-        mPen = new Paint();
-        mPen.setStyle(Paint.Style.STROKE);
-        mPen.setStrokeWidth(0.05f);
-        mPen.setColor(theme.getColor(R.attr.rangeIndicatorColor));
+        mStyleRegistry = styleRegistry;
     }
 
     @Override
@@ -28,7 +23,7 @@ public class RangeIndicator implements Drawable {
 
     @Override
     public void draw(Canvas canvas) {
-        canvas.drawCircle(mTower.getPosition().x(), mTower.getPosition().y(), mTower.getRange(), mPen);
+        canvas.drawCircle(mTower.getPosition().x(), mTower.getPosition().y(), mTower.getRange(), mStyleRegistry.getPaint(StyleRegistry.RANGE_INDICATOR));
     }
 
 }
@@ -11,9 +11,12 @@ import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -28,7 +31,7 @@ public class RocketLauncher extends AimingTower implements SpriteTransformation
     private final static String ENTITY_NAME = "rocketLauncher";
     private final static float ROCKET_LOAD_TIME = 1.0f;
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -39,6 +42,18 @@ public class RocketLauncher extends AimingTower implements SpriteTransformation
             TowerSettingsRoot towerSettingsRoot = gameEngine.getGameConfiguration().getTowerSettingsRoot();
             return new RocketLauncher(gameEngine, towerSettingsRoot.getRocketLauncherSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getTowerSettingsRoot().getRocketLauncherSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.rocketLauncher, 4);
+            spriteFactory.preload(R.attr.rocket, 4);
+            Rocket.preloadSprites(spriteFactory);
+        }
     }
 
     public static class Persister extends TowerPersister {
@@ -56,6 +71,7 @@ public class RocketLauncher extends AimingTower implements SpriteTransformation
 
     private float mExplosionRadius;
     private float mAngle = 90f;
+    private float mPreviousAngle = 90f;
     private Rocket mRocket;
     private TickTimer mRocketLoadTimer;
 
@@ -78,7 +94,7 @@ public class RocketLauncher extends AimingTower implements SpriteTransformation
         mSpriteRocket.setIndex(RandomUtils.next(4));
 
         mExplosionRadius = settings.getExplosionRadius();
-        mRocketLoadTimer = TickTimer.createInterval(ROCKET_LOAD_TIME);
+        mRocketLoadTimer = TickTimer.createInterval(getGameEngine().getTargetFrameRate(), ROCKET_LOAD_TIME);
 
         mSound = getSoundFactory().createSound(R.raw.explosive2_tsh);
     }
@@ -153,10 +169,16 @@ public class RocketLauncher extends AimingTower implements SpriteTransformation
         }
     }
 
+    @Override
+    protected void storePreviousState() {
+        super.storePreviousState();
+        mPreviousAngle = mAngle;
+    }
+
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
-        transformer.rotate(mAngle);
+        transformer.translate(getDrawX(), getDrawY());
+        transformer.rotate(getDrawAngle(mPreviousAngle, mAngle));
     }
 
     @Override
@@ -3,7 +3,6 @@ package ch.logixisland.anuto.entity.tower;
 import android.graphics.Canvas;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 import ch.logixisland.anuto.R;
@@ -11,10 +10,13 @@ import ch.logixisland.anuto.data.setting.tower.TeleporterSettings;
 import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityBitSet;
 import ch.logixisland.anuto.engine.logic.entity.EntityFactory;
-import ch.logixisland.anuto.engine.logic.entity.EntityListener;
+import ch.logixisland.anuto.engine.logic.entity.EntityMetadataFactory;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
+import ch.logixisland.anuto.engine.logic.entity.EntitySpriteFactory;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.render.sprite.SpriteInstance;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
@@ -24,13 +26,12 @@ import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.effect.TeleportEffect;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.util.RandomUtils;
-import ch.logixisland.anuto.util.iterator.StreamIterator;
 
 public class Teleporter extends AimingTower implements SpriteTransformation {
 
     private final static String ENTITY_NAME = "teleporter";
 
-    public static class Factory implements EntityFactory {
+    public static class Factory implements EntityFactory, EntityMetadataFactory, EntitySpriteFactory {
         @Override
         public String getEntityName() {
             return ENTITY_NAME;
@@ -41,6 +42,17 @@ public class Teleporter extends AimingTower implements SpriteTransformation {
             TowerSettingsRoot towerSettingsRoot = gameEngine.getGameConfiguration().getTowerSettingsRoot();
             return new Teleporter(gameEngine, towerSettingsRoot.getTeleporterSettings());
         }
+
+        @Override
+        public Object createMetadata(GameEngine gameEngine) {
+            return gameEngine.getGameConfiguration().getTowerSettingsRoot().getTeleporterSettings();
+        }
+
+        @Override
+        public void preloadSprites(SpriteFactory spriteFactory) {
+            spriteFactory.preload(R.attr.base4, 4);
+            spriteFactory.preload(R.attr.teleportTower, 4);
+        }
     }
 
     public static class Persister extends TowerPersister {
@@ -49,16 +61,10 @@ public class Teleporter extends AimingTower implements SpriteTransformation {
         }
     }
 
-    private static class StaticData implements EntityListener {
+    private static class StaticData {
         SpriteTemplate mSpriteTemplateBase;
         SpriteTemplate mSpriteTemplateTower;
-        Collection<Enemy> mTeleportedEnemies = new ArrayList<>();
-
-        @Override
-        public void entityRemoved(Entity entity) {
-            Enemy enemy = (Enemy) entity;
-            mTeleportedEnemies.remove(enemy);
-        }
+        EntityBitSet mTeleportedEnemies = new EntityBitSet();
     }
 
     private TeleporterSettings mSettings;
@@ -149,7 +155,7 @@ public class Teleporter extends AimingTower implements SpriteTransformation {
 
     @Override
     public void draw(SpriteInstance sprite, SpriteTransformer transformer) {
-        transformer.translate(getPosition());
+        transformer.translate(getDrawX(), getDrawY());
     }
 
     @Override
@@ -168,11 +174,11 @@ public class Teleporter extends AimingTower implements SpriteTransformation {
     }
 
     @Override
-    public StreamIterator<Enemy> getPossibleTargets() {
+    protected boolean isPossibleTarget(Enemy enemy) {
         StaticData s = (StaticData) getStaticData();
 
-        return super.getPossibleTargets()
-                .filter(s.mTeleportedEnemies)
-                .filter(Enemy.enabled());
+        return super.isPossibleTarget(enemy)
+                && !s.mTeleportedEnemies.contains(enemy)
+                && enemy.isEnabled();
     }
 }
@@ -2,24 +2,24 @@ package ch.logixisland.anuto.entity.tower;
 
 import android.graphics.Canvas;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
-import ch.logixisland.anuto.data.map.PathDescriptor;
+import ch.logixisland.anuto.data.map.PathCoverage;
+import ch.logixisland.anuto.data.map.PathSections;
 import ch.logixisland.anuto.data.setting.enemy.WeaponType;
 import ch.logixisland.anuto.data.setting.tower.TowerSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.RankedEntities;
+import ch.logixisland.anuto.engine.logic.entity.Zone;
+import ch.logixisland.anuto.engine.logic.loop.Message;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.entity.Types;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.entity.plateau.Plateau;
+import ch.logixisland.anuto.util.iterator.Predicate;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
-import ch.logixisland.anuto.util.math.Intersections;
-import ch.logixisland.anuto.util.math.Line;
-import ch.logixisland.anuto.util.math.MathUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public abstract class Tower extends Entity {
@@ -36,6 +36,7 @@ public abstract class Tower extends Entity {
     private boolean mReloaded = false;
 
     private Plateau mPlateau;
+    private Zone mZone;
 
     private TickTimer mReloadTimer;
     private RangeIndicator mRangeIndicator;
@@ -43,6 +44,22 @@ public abstract class Tower extends Entity {
 
     private final List<TowerListener> mListeners = new CopyOnWriteArrayList<>();
 
+    private final Message mDamageInflictedNotification = new Message() {
+        @Override
+        public void execute() {
+            for (TowerListener listener : mListeners) {
+                listener.damageInflicted(mDamageInflicted);
+            }
+        }
+    };
+
+    private final Predicate<Enemy> mPossibleTarget = new Predicate<Enemy>() {
+        @Override
+        public boolean apply(Enemy enemy) {
+            return isPossibleTarget(enemy);
+        }
+    };
+
     Tower(GameEngine gameEngine, TowerSettings settings) {
         super(gameEngine);
 
@@ -54,7 +71,7 @@ public abstract class Tower extends Entity {
         mReloadTime = mSettings.getReload();
         mLevel = 1;
 
-        mReloadTimer = TickTimer.createInterval(mReloadTime);
+        mReloadTimer = TickTimer.createInterval(getGameEngine().getTargetFrameRate(), mReloadTime);
 
         setEnabled(false);
     }
@@ -64,11 +81,22 @@ public abstract class Tower extends Entity {
         return Types.TOWER;
     }
 
+    @Override
+    public void init() {
+        super.init();
+        mZone = getGameEngine().createZone(Types.ENEMY, getPosition(), mRange, null);
+    }
+
     @Override
     public void clean() {
         super.clean();
         hideRange();
 
+        if (mZone != null) {
+            mZone.remove();
+            mZone = null;
+        }
+
         if (mPlateau != null) {
             mPlateau.setOccupied(false);
             mPlateau = null;
@@ -84,6 +112,24 @@ public abstract class Tower extends Entity {
         }
     }
 
+    @Override
+    public void setPosition(Vector2 position) {
+        super.setPosition(position);
+
+        if (mZone != null) {
+            mZone.setShape(position, mRange);
+        }
+    }
+
+    @Override
+    public void move(Vector2 offset) {
+        super.move(offset);
+
+        if (mZone != null) {
+            mZone.setShape(getPosition(), mRange);
+        }
+    }
+
     public abstract void preview(Canvas canvas);
 
     public abstract List<TowerInfoValue> getTowerInfoValues();
@@ -152,10 +198,7 @@ public abstract class Tower extends Entity {
 
     public void reportDamageInflicted(float amount) {
         mDamageInflicted += amount;
-
-        for (TowerListener listener : mListeners) {
-            listener.damageInflicted(mDamageInflicted);
-        }
+        getGameEngine().notifyChanged(mDamageInflictedNotification);
     }
 
     void setDamageInflicted(float damageInflicted) {
@@ -183,6 +226,13 @@ public abstract class Tower extends Entity {
         mLevel++;
 
         mReloadTimer.setInterval(mReloadTime);
+
+        if (mZone != null) {
+            mZone.setShape(getPosition(), mRange);
+        }
+
+        // level and range indicators show the new values
+        getGameEngine().markDirty();
     }
 
     public boolean isEnhanceable() {
@@ -207,7 +257,7 @@ public abstract class Tower extends Entity {
 
     public void showRange() {
         if (mRangeIndicator == null) {
-            mRangeIndicator = new RangeIndicator(getTheme(), this);
+            mRangeIndicator = new RangeIndicator(getStyleRegistry(), this);
             getGameEngine().add(mRangeIndicator);
         }
     }
@@ -221,7 +271,7 @@ public abstract class Tower extends Entity {
 
     public void showLevel() {
         if (mLevelIndicator == null) {
-            mLevelIndicator = new LevelIndicator(getTheme(), this);
+            mLevelIndicator = new LevelIndicator(getStyleRegistry(), this);
             getGameEngine().add(mLevelIndicator);
         }
     }
@@ -234,81 +284,26 @@ public abstract class Tower extends Entity {
     }
 
     public StreamIterator<Enemy> getPossibleTargets() {
-        return getGameEngine().getEntitiesByType(Types.ENEMY)
-                .filter(inRange(getPosition(), getRange()))
-                .cast(Enemy.class);
+        return mZone.getEntities()
+                .cast(Enemy.class)
+                .filter(mPossibleTarget);
     }
 
-    Collection<Line> getPathSectionsInRange(Collection<PathDescriptor> paths) {
-        Collection<Line> sections = new ArrayList<>();
-
-        for (PathDescriptor path : paths) {
-            sections.addAll(getPathSectionsInRange(path));
-        }
+    StreamIterator<Enemy> getPossibleTargetsByProgress(boolean mostAdvancedFirst) {
+        RankedEntities enemies = getGameEngine().getRankedEntities(Types.ENEMY);
+        StreamIterator<Entity> ranked = mostAdvancedFirst ? enemies.ascending() : enemies.descending();
 
-        return sections;
+        return ranked
+                .cast(Enemy.class)
+                .filter(mPossibleTarget);
     }
 
-    private Collection<Line> getPathSectionsInRange(PathDescriptor path) {
-        float r2 = MathUtils.square(getRange());
-        Collection<Line> sections = new ArrayList<>();
-        List<Vector2> wayPoints = path.getWayPoints();
-
-        for (int i = 1; i < wayPoints.size(); i++) {
-            Vector2 p1 = getPosition().to(wayPoints.get(i - 1));
-            Vector2 p2 = getPosition().to(wayPoints.get(i));
-
-            boolean p1in = p1.len2() <= r2;
-            boolean p2in = p2.len2() <= r2;
-
-            Vector2[] is = Intersections.lineCircle(p1, p2, getRange());
-
-            Vector2 sectionP1;
-            Vector2 sectionP2;
-
-            if (p1in && p2in) {
-                sectionP1 = p1.add(getPosition());
-                sectionP2 = p2.add(getPosition());
-            } else if (!p1in && !p2in) {
-                if (is == null) {
-                    continue;
-                }
-
-                float a1 = is[0].to(p1).angle();
-                float a2 = is[0].to(p2).angle();
-
-                if (MathUtils.equals(a1, a2, 10f)) {
-                    continue;
-                }
-
-                sectionP1 = is[0].add(getPosition());
-                sectionP2 = is[1].add(getPosition());
-            } else {
-                float angle = p1.to(p2).angle();
-
-                if (p1in) {
-                    if (MathUtils.equals(angle, p1.to(is[0]).angle(), 10f)) {
-                        sectionP2 = is[0].add(getPosition());
-                    } else {
-                        sectionP2 = is[1].add(getPosition());
-                    }
-
-                    sectionP1 = (p1.add(getPosition()));
-                } else {
-                    if (MathUtils.equals(angle, is[0].to(p2).angle(), 10f)) {
-                        sectionP1 = is[0].add(getPosition());
-                    } else {
-                        sectionP1 = is[1].add(getPosition());
-                    }
-
-                    sectionP2 = p2.add(getPosition());
-                }
-            }
-
-            sections.add(new Line(sectionP1, sectionP2));
-        }
+    protected boolean isPossibleTarget(Enemy enemy) {
+        return enemy.getDistanceTo(getPosition()) <= getRange();
+    }
 
-        return sections;
+    PathSections getPathSectionsInRange(PathCoverage pathCoverage) {
+        return pathCoverage.getSectionsInRange(getPosition(), getRange());
     }
 
     public void addListener(TowerListener listener) {
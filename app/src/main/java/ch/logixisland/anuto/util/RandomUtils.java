@@ -1,8 +1,10 @@
 package ch.logixisland.anuto.util;
 
+import java.util.Random;
+
 public final class RandomUtils {
 
-    private static final java.util.Random sRandom = new java.util.Random();
+    private static final Random sRandom = new Random();
 
     private RandomUtils() {
     }
@@ -23,4 +25,8 @@ public final class RandomUtils {
         return sRandom.nextFloat() * (max - min) + min;
     }
 
+    public static float next(Random random, float max) {
+        return random.nextFloat() * max;
+    }
+
 }
@@ -57,6 +57,18 @@ public class SafeMultiMap<T> implements StreamIterable<T> {
         return collection;
     }
 
+    public int size() {
+        return mLayers.size();
+    }
+
+    public int keyAt(int index) {
+        return mLayers.keyAt(index);
+    }
+
+    public SafeCollection<T> valueAt(int index) {
+        return mLayers.valueAt(index);
+    }
+
     public boolean add(int key, T value) {
         return get(key).add(value);
     }
@@ -0,0 +1,44 @@
+package ch.logixisland.anuto.util.math;
+
+class BakedFunction extends Function {
+
+    private final Function mFunction;
+    private final int mDomainStart;
+    private final float[] mValues;
+
+    BakedFunction(Function function, int domainStart, int domainEnd) {
+        if (domainEnd < domainStart) {
+            throw new IllegalArgumentException();
+        }
+
+        mFunction = function;
+        mDomainStart = domainStart;
+        mValues = new float[domainEnd - domainStart + 1];
+
+        for (int i = 0; i < mValues.length; i++) {
+            mValues[i] = function.calculate(domainStart + i);
+        }
+    }
+
+    @Override
+    public float calculate(float input) {
+        int position = (int) input;
+
+        if (position == input) {
+            return calculate(position);
+        }
+
+        return mFunction.calculate(input);
+    }
+
+    @Override
+    float calculate(int position) {
+        int index = position - mDomainStart;
+
+        if (index >= 0 && index < mValues.length) {
+            return mValues[index];
+        }
+
+        return mFunction.calculate(position);
+    }
+}
@@ -0,0 +1,68 @@
+package ch.logixisland.anuto.util.math;
+
+public final class FastTrig {
+
+    private static final int SIN_TABLE_SIZE = 4096;
+    private static final float SIN_TABLE_STEP = 360f / SIN_TABLE_SIZE;
+    private static final float[] SIN_TABLE = new float[SIN_TABLE_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= SIN_TABLE_SIZE; i++) {
+            SIN_TABLE[i] = (float) Math.sin(MathUtils.toRadians(i * SIN_TABLE_STEP));
+        }
+    }
+
+    private FastTrig() {
+    }
+
+    // linear interpolation between table entries, error below 1e-5
+    public static float sin(float degrees) {
+        float position = (degrees % 360f) / SIN_TABLE_STEP;
+
+        if (position < 0f) {
+            position += SIN_TABLE_SIZE;
+        }
+
+        int index = (int) position;
+        float fraction = position - index;
+
+        if (index >= SIN_TABLE_SIZE) {
+            index -= SIN_TABLE_SIZE;
+        }
+
+        return SIN_TABLE[index] + (SIN_TABLE[index + 1] - SIN_TABLE[index]) * fraction;
+    }
+
+    public static float cos(float degrees) {
+        return sin(degrees + 90f);
+    }
+
+    // polynomial approximation of atan on [-1, 1], error below 0.001 degrees
+    public static float atan2(float y, float x) {
+        float ax = Math.abs(x);
+        float ay = Math.abs(y);
+
+        if (ax == 0f && ay == 0f) {
+            return 0f;
+        }
+
+        float z = ax > ay ? ay / ax : ax / ay;
+        float z2 = z * z;
+        float angle = z * (0.9998660f + z2 * (-0.3302995f + z2 * (0.1801410f + z2 * (-0.0851330f + z2 * 0.0208351f))));
+        angle = MathUtils.toDegrees(angle);
+
+        if (ay > ax) {
+            angle = 90f - angle;
+        }
+
+        if (x < 0f) {
+            angle = 180f - angle;
+        }
+
+        if (y < 0f) {
+            angle = -angle;
+        }
+
+        return angle;
+    }
+}
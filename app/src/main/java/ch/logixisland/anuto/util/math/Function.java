@@ -116,6 +116,14 @@ public abstract class Function {
 
     public abstract float calculate(float input);
 
+    float calculate(int position) {
+        return calculate((float) position);
+    }
+
+    public Function bake(int domainStart, int domainEnd) {
+        return new BakedFunction(this, domainStart, domainEnd);
+    }
+
     public SampledFunction sample() {
         return new SampledFunction(this);
     }
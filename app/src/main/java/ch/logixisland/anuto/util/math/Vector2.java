@@ -4,8 +4,8 @@ public class Vector2 {
 
     public static Vector2 polar(float length, float angle) {
         return new Vector2(
-                (float) Math.cos(MathUtils.toRadians(angle)) * length,
-                (float) Math.sin(MathUtils.toRadians(angle)) * length
+                FastTrig.cos(angle) * length,
+                FastTrig.sin(angle) * length
         );
     }
 
@@ -72,7 +72,7 @@ public class Vector2 {
     }
 
     public float angle() {
-        return MathUtils.toDegrees((float) Math.atan2(y, x));
+        return FastTrig.atan2(y, x);
     }
 
     @Override
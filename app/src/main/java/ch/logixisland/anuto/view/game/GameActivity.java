@@ -16,19 +16,21 @@ import ch.logixisland.anuto.view.AnutoActivity;
 
 public class GameActivity extends AnutoActivity {
 
-    private final GameEngine mGameEngine;
-    private final TowerSelector mTowerSelector;
+    private final GameFactory mFactory;
     private final BackButtonControl mBackButtonControl;
 
+    private GameEngine mGameEngine;
+    private TowerSelector mTowerSelector;
+
     private Toast mBackButtonToast;
+    private boolean mResumed;
+    private boolean mDestroyed;
 
     private GameView view_tower_defense;
 
     public GameActivity() {
-        GameFactory factory = AnutoApplication.getInstance().getGameFactory();
-        mGameEngine = factory.getGameEngine();
-        mTowerSelector = factory.getTowerSelector();
-        mBackButtonControl = new BackButtonControl(factory.getSettingsManager());
+        mFactory = AnutoApplication.getInstance().getGameFactory();
+        mBackButtonControl = new BackButtonControl(mFactory.getSettingsManager());
     }
 
     @Override
@@ -39,28 +41,63 @@ public class GameActivity extends AnutoActivity {
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        setContentView(R.layout.activity_game);
         getWindow().addFlags(WindowManager.LayoutParams.FLAG_KEEP_SCREEN_ON);
 
+        // the game views need the whole game, which may still be wired in the background
+        if (mFactory.isGameplayReady()) {
+            showGame();
+        } else {
+            mFactory.runWhenGameplayReady(new Runnable() {
+                @Override
+                public void run() {
+                    if (!mDestroyed) {
+                        showGame();
+                    }
+                }
+            });
+        }
+    }
+
+    private void showGame() {
+        mGameEngine = mFactory.getGameEngine();
+        mTowerSelector = mFactory.getTowerSelector();
+
+        setContentView(R.layout.activity_game);
         view_tower_defense = (GameView) findViewById(R.id.view_tower_defense);
+
+        if (mResumed) {
+            mGameEngine.start();
+        }
     }
 
     @Override
     public void onResume() {
         super.onResume();
-        mGameEngine.start();
+        mResumed = true;
+
+        if (mGameEngine != null) {
+            mGameEngine.start();
+        }
     }
 
     @Override
     public void onPause() {
         super.onPause();
-        mGameEngine.stop();
+        mResumed = false;
+
+        if (mGameEngine != null) {
+            mGameEngine.stop();
+        }
     }
 
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        view_tower_defense.close();
+        mDestroyed = true;
+
+        if (view_tower_defense != null) {
+            view_tower_defense.close();
+        }
 
         if (mBackButtonToast != null) {
             mBackButtonToast.cancel();
@@ -70,7 +107,7 @@ public class GameActivity extends AnutoActivity {
     @Override
     public boolean onKeyDown(int keyCode, KeyEvent event) {
         if (keyCode == KeyEvent.KEYCODE_BACK) {
-            if (mTowerSelector.isTowerSelected()) {
+            if (mTowerSelector != null && mTowerSelector.isTowerSelected()) {
                 mTowerSelector.selectTower(null);
                 return true;
             } else {
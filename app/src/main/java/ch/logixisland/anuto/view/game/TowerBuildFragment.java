@@ -3,9 +3,11 @@ package ch.logixisland.anuto.view.game;
 import android.app.Activity;
 import android.os.Bundle;
 import android.os.Handler;
+import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +21,8 @@ import ch.logixisland.anuto.view.AnutoFragment;
 
 public class TowerBuildFragment extends AnutoFragment implements TowerBuildView {
 
+    private static final String TAG = TowerBuildFragment.class.getSimpleName();
+
     private final TowerSelector mTowerSelector;
 
     private Handler mHandler;
@@ -33,10 +37,12 @@ public class TowerBuildFragment extends AnutoFragment implements TowerBuildView
 
     @Override
     public void showTowerBuildView() {
+        final long requestTime = System.nanoTime();
+
         mHandler.post(new Runnable() {
             @Override
             public void run() {
-                show();
+                show(requestTime);
             }
         });
     }
@@ -86,7 +92,7 @@ public class TowerBuildFragment extends AnutoFragment implements TowerBuildView
         mHandler.removeCallbacksAndMessages(null);
     }
 
-    private void show() {
+    private void show(long requestTime) {
         if (!mVisible) {
             updateMenuTransparency();
 
@@ -95,7 +101,26 @@ public class TowerBuildFragment extends AnutoFragment implements TowerBuildView
                     .commitAllowingStateLoss();
 
             mVisible = true;
+            logOpenTime(requestTime);
+        }
+    }
+
+    // the menu counts as open when it is drawn for the first time after the request
+    private void logOpenTime(final long requestTime) {
+        final View view = getView();
+
+        if (view == null) {
+            return;
         }
+
+        view.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                view.getViewTreeObserver().removeOnPreDrawListener(this);
+                Log.d(TAG, String.format("buildMenuOpenTime=%dus", (System.nanoTime() - requestTime) / 1000));
+                return true;
+            }
+        });
     }
 
     private void hide() {
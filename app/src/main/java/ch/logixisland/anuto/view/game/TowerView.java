@@ -63,6 +63,10 @@ public class TowerView extends View {
     }
 
     public String getTowerName() {
+        if (mPreviewTower == null) {
+            return null;
+        }
+
         return mPreviewTower.getEntityName();
     }
 
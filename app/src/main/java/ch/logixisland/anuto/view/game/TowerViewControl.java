@@ -4,6 +4,7 @@ import android.content.ClipData;
 import android.graphics.Canvas;
 import android.graphics.Point;
 import android.os.Handler;
+import android.util.Log;
 import android.view.MotionEvent;
 import android.view.View;
 
@@ -16,9 +17,14 @@ import ch.logixisland.anuto.business.game.GameStateListener;
 import ch.logixisland.anuto.business.score.CreditsListener;
 import ch.logixisland.anuto.business.score.ScoreBoard;
 import ch.logixisland.anuto.business.tower.TowerInserter;
+import ch.logixisland.anuto.engine.logic.GameConfigurationListener;
+import ch.logixisland.anuto.engine.logic.GameEngine;
 
-class TowerViewControl implements GameStateListener, CreditsListener, View.OnTouchListener {
+class TowerViewControl implements GameStateListener, GameConfigurationListener, CreditsListener, View.OnTouchListener {
 
+    private static final String TAG = TowerViewControl.class.getSimpleName();
+
+    private final GameEngine mGameEngine;
     private final ScoreBoard mScoreBoard;
     private final GameState mGameState;
     private final TowerInserter mTowerInserter;
@@ -31,6 +37,7 @@ class TowerViewControl implements GameStateListener, CreditsListener, View.OnTou
         mTowerViews = towerViews;
 
         GameFactory factory = AnutoApplication.getInstance().getGameFactory();
+        mGameEngine = factory.getGameEngine();
         mScoreBoard = factory.getScoreBoard();
         mGameState = factory.getGameState();
         mTowerInserter = factory.getTowerInserter();
@@ -38,6 +45,7 @@ class TowerViewControl implements GameStateListener, CreditsListener, View.OnTou
         mHandler = new Handler();
 
         mGameState.addListener(this);
+        mGameEngine.addGameConfigurationListener(this);
         mScoreBoard.addCreditsListener(this);
 
         for (TowerView towerView : mTowerViews) {
@@ -49,6 +57,7 @@ class TowerViewControl implements GameStateListener, CreditsListener, View.OnTou
 
     void close() {
         mGameState.removeListener(this);
+        mGameEngine.removeGameConfigurationListener(this);
         mScoreBoard.removeCreditsListener(this);
         mHandler.removeCallbacksAndMessages(null);
     }
@@ -58,7 +67,7 @@ class TowerViewControl implements GameStateListener, CreditsListener, View.OnTou
         if (event.getAction() == MotionEvent.ACTION_DOWN) {
             TowerView towerView = (TowerView) v;
 
-            if (mScoreBoard.getCredits() >= towerView.getTowerValue()) {
+            if (towerView.getTowerName() != null && mScoreBoard.getCredits() >= towerView.getTowerValue()) {
                 mTowerInserter.insertTower(towerView.getTowerName());
 
                 View.DragShadowBuilder shadowBuilder = new View.DragShadowBuilder() {
@@ -88,6 +97,16 @@ class TowerViewControl implements GameStateListener, CreditsListener, View.OnTou
         });
     }
 
+    @Override
+    public void gameConfigurationChanged() {
+        mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                updateTowerSlots();
+            }
+        });
+    }
+
     @Override
     public void gameOver() {
 
@@ -104,11 +123,19 @@ class TowerViewControl implements GameStateListener, CreditsListener, View.OnTou
     }
 
     private void updateTowerSlots() {
+        // the slots are filled once the configuration has been loaded in the background
+        if (!mGameEngine.isGameConfigurationReady()) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+
         for (int i = 0; i < mTowerViews.size(); i++) {
             mTowerViews.get(i).setPreviewTower(mTowerInserter.createPreviewTower(i));
         }
 
         updateTowerEnabled();
+        Log.d(TAG, String.format("towerSlotsUpdateTime=%dus", (System.nanoTime() - startTime) / 1000));
     }
 
     private void updateTowerEnabled() {
@@ -43,10 +43,11 @@ public class ChangeMapActivity extends AnutoActivity implements AdapterView.OnIt
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
+        long openTime = System.nanoTime();
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_change_map);
 
-        mAdapter = new MapsAdapter(this, mMapRepository, mHighScores);
+        mAdapter = new MapsAdapter(this, mMapRepository, mHighScores, openTime);
 
         arrow_up = (ImageView) findViewById(R.id.arrow_up);
         arrow_down = (ImageView) findViewById(R.id.arrow_down);
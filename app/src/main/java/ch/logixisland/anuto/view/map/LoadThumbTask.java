@@ -3,22 +3,41 @@ package ch.logixisland.anuto.view.map;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
 import android.os.AsyncTask;
+import android.util.Log;
 import android.util.SparseArray;
 import android.widget.ImageView;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import ch.logixisland.anuto.data.map.MapDescriptorRoot;
+
 class LoadThumbTask extends AsyncTask<Void, Void, Bitmap> {
 
+    interface Listener {
+        void thumbShown();
+    }
+
+    private static final String TAG = LoadThumbTask.class.getSimpleName();
+
     private static final SparseArray<Bitmap> sThumbCache = new SparseArray<>();
     private static final MapThumbGenerator sMapThumbGenerator = new MapThumbGenerator();
 
     private final Resources mResources;
+    private final MapThumbCache mMapThumbCache;
     private final ImageView mImageView;
     private final int mMapDescriptorResId;
+    private final Listener mListener;
 
-    LoadThumbTask(Resources resources, ImageView imageView, int mapDescriptorResId) {
+    LoadThumbTask(Resources resources, MapThumbCache mapThumbCache, ImageView imageView, int mapDescriptorResId,
+                  Listener listener) {
         mResources = resources;
+        mMapThumbCache = mapThumbCache;
         mImageView = imageView;
         mMapDescriptorResId = mapDescriptorResId;
+        mListener = listener;
     }
 
     @Override
@@ -26,8 +45,15 @@ class LoadThumbTask extends AsyncTask<Void, Void, Bitmap> {
         Bitmap thumb = sThumbCache.get(mMapDescriptorResId);
 
         if (thumb == null) {
-            thumb = sMapThumbGenerator.generateThumb(mResources, mMapDescriptorResId);
-            sThumbCache.append(mMapDescriptorResId, thumb);
+            long startTime = System.nanoTime();
+            MapThumb mapThumb = loadThumb();
+
+            if (mapThumb != null) {
+                thumb = Bitmap.createBitmap(mapThumb.getPixels(), mapThumb.getWidth(), mapThumb.getHeight(), Bitmap.Config.ARGB_8888);
+                sThumbCache.append(mMapDescriptorResId, thumb);
+            }
+
+            Log.d(TAG, String.format("thumbLoadTime=%dus", (System.nanoTime() - startTime) / 1000));
         }
 
         return thumb;
@@ -36,5 +62,43 @@ class LoadThumbTask extends AsyncTask<Void, Void, Bitmap> {
     @Override
     protected void onPostExecute(Bitmap thumb) {
         mImageView.setImageBitmap(thumb);
+        mListener.thumbShown();
+    }
+
+    private MapThumb loadThumb() {
+        try {
+            byte[] mapDescriptor = readResource();
+            String key = MapThumbCache.getContentKey(mapDescriptor, MapThumbGenerator.VERSION);
+            MapThumb thumb = mMapThumbCache.loadThumb(key);
+
+            if (thumb == null) {
+                MapDescriptorRoot mapDescriptorRoot = MapDescriptorRoot.fromXml(new ByteArrayInputStream(mapDescriptor));
+                thumb = sMapThumbGenerator.generateThumb(mapDescriptorRoot);
+                mMapThumbCache.saveThumb(key, thumb);
+            }
+
+            return thumb;
+        } catch (Exception e) {
+            Log.e(TAG, "Could not load thumb of map!", e);
+            return null;
+        }
+    }
+
+    private byte[] readResource() throws IOException {
+        InputStream stream = mResources.openRawResource(mMapDescriptorResId);
+
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int count;
+
+            while ((count = stream.read(buffer)) > 0) {
+                content.write(buffer, 0, count);
+            }
+
+            return content.toByteArray();
+        } finally {
+            stream.close();
+        }
     }
 }
@@ -0,0 +1,30 @@
+package ch.logixisland.anuto.view.map;
+
+class MapThumb {
+
+    private final int mWidth;
+    private final int mHeight;
+    private final int[] mPixels;
+
+    MapThumb(int width, int height, int[] pixels) {
+        if (pixels.length != width * height) {
+            throw new IllegalArgumentException("Pixel count does not match thumb size!");
+        }
+
+        mWidth = width;
+        mHeight = height;
+        mPixels = pixels;
+    }
+
+    int getWidth() {
+        return mWidth;
+    }
+
+    int getHeight() {
+        return mHeight;
+    }
+
+    int[] getPixels() {
+        return mPixels;
+    }
+}
@@ -0,0 +1,120 @@
+package ch.logixisland.anuto.view.map;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+class MapThumbCache {
+
+    private static final int FILE_VERSION = 1;
+    private static final int HEADER_SIZE = 3 * 4;
+
+    private final File mDirectory;
+
+    MapThumbCache(File directory) {
+        mDirectory = directory;
+    }
+
+    // the generator version keeps thumbs of an older rasterizer from being served
+    static String getContentKey(byte[] content, int generatorVersion) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            StringBuilder builder = new StringBuilder();
+
+            for (byte b : digest.digest(content)) {
+                builder.append(String.format("%02x", b));
+            }
+
+            builder.append("_v").append(generatorVersion);
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-1 not available!", e);
+        }
+    }
+
+    MapThumb loadThumb(String key) {
+        File file = getFile(key);
+
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try {
+            FileInputStream stream = new FileInputStream(file);
+
+            try {
+                FileChannel channel = stream.getChannel();
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != FILE_VERSION) {
+                    return null;
+                }
+
+                int width = buffer.getInt();
+                int height = buffer.getInt();
+
+                if (width <= 0 || height <= 0 || buffer.remaining() != width * height * 4) {
+                    return null;
+                }
+
+                int[] pixels = new int[width * height];
+                buffer.asIntBuffer().get(pixels);
+                return new MapThumb(width, height, pixels);
+            } finally {
+                stream.close();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    void saveThumb(String key, MapThumb thumb) {
+        if (!mDirectory.isDirectory() && !mDirectory.mkdirs()) {
+            return;
+        }
+
+        // write to a temporary file first so a crash never leaves a truncated thumb behind
+        File file = getFile(key);
+        File tempFile = new File(mDirectory, key + ".tmp");
+
+        try {
+            FileOutputStream stream = new FileOutputStream(tempFile);
+
+            try {
+                ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + thumb.getPixels().length * 4);
+                buffer.putInt(FILE_VERSION);
+                buffer.putInt(thumb.getWidth());
+                buffer.putInt(thumb.getHeight());
+
+                IntBuffer pixels = buffer.asIntBuffer();
+                pixels.put(thumb.getPixels());
+
+                buffer.rewind();
+                FileChannel channel = stream.getChannel();
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } finally {
+                stream.close();
+            }
+
+            if (!tempFile.renameTo(file)) {
+                tempFile.delete();
+            }
+        } catch (IOException e) {
+            tempFile.delete();
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(mDirectory, key + ".thumb");
+    }
+}
@@ -1,83 +1,79 @@
 package ch.logixisland.anuto.view.map;
 
-import android.content.res.Resources;
-import android.graphics.Bitmap;
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-
-import java.io.InputStream;
+import java.util.Arrays;
 
 import ch.logixisland.anuto.data.map.MapDescriptorRoot;
 import ch.logixisland.anuto.data.map.PathDescriptor;
 import ch.logixisland.anuto.data.map.PlateauDescriptor;
-import ch.logixisland.anuto.engine.render.Viewport;
 import ch.logixisland.anuto.util.math.Vector2;
 
 class MapThumbGenerator {
 
-    private static final int PIXELS_PER_SQUARE = 10;
-
-    private static final int PLATEAU_COLOR = Color.parseColor("#bbbbbb");
-    private static final int PATH_COLOR = Color.parseColor("#000000");
-
-    Bitmap generateThumb(Resources resources, int mapDescriptorResId) {
-        try {
-            InputStream inputStream = resources.openRawResource(mapDescriptorResId);
-            MapDescriptorRoot mapDescriptorRoot = MapDescriptorRoot.fromXml(inputStream);
-            return generateThumb(mapDescriptorRoot);
-        } catch (Exception e) {
-            return null;
-        }
-    }
+    // part of the cache key, increment whenever the thumbs look different
+    static final int VERSION = 1;
 
-    Bitmap generateThumb(MapDescriptorRoot mapDescriptorRoot) {
-        Bitmap bitmap = Bitmap.createBitmap(
-                mapDescriptorRoot.getWidth() * PIXELS_PER_SQUARE,
-                mapDescriptorRoot.getHeight() * PIXELS_PER_SQUARE, Bitmap.Config.ARGB_8888);
-        Canvas canvas = new Canvas(bitmap);
+    private static final int PIXELS_PER_SQUARE = 10;
 
-        Viewport viewport = new Viewport();
-        viewport.setGameSize(mapDescriptorRoot.getWidth(), mapDescriptorRoot.getHeight());
-        viewport.setScreenSize(bitmap.getWidth(), bitmap.getHeight());
-        canvas.concat(viewport.getScreenMatrix());
+    private static final int BACKGROUND_COLOR = 0x00000000;
+    private static final int PLATEAU_COLOR = 0xffbbbbbb;
+    private static final int PATH_COLOR = 0xff000000;
 
-        drawPaths(canvas, mapDescriptorRoot);
-        drawPlateaus(canvas, mapDescriptorRoot);
+    MapThumb generateThumb(MapDescriptorRoot mapDescriptorRoot) {
+        int width = mapDescriptorRoot.getWidth() * PIXELS_PER_SQUARE;
+        int height = mapDescriptorRoot.getHeight() * PIXELS_PER_SQUARE;
+        int[] pixels = new int[width * height];
+        Arrays.fill(pixels, BACKGROUND_COLOR);
 
-        return bitmap;
+        MapThumb thumb = new MapThumb(width, height, pixels);
+        drawPaths(thumb, mapDescriptorRoot);
+        drawPlateaus(thumb, mapDescriptorRoot);
+        return thumb;
     }
 
-    private void drawPaths(Canvas canvas, MapDescriptorRoot mapDescriptorRoot) {
-        Paint pathPaint = new Paint();
-        pathPaint.setStyle(Paint.Style.FILL);
-        pathPaint.setColor(PATH_COLOR);
-
+    private void drawPaths(MapThumb thumb, MapDescriptorRoot mapDescriptorRoot) {
         for (PathDescriptor path : mapDescriptorRoot.getPaths()) {
             Vector2 lastWayPoint = null;
             for (Vector2 wayPoint : path.getWayPoints()) {
                 if (lastWayPoint != null) {
-                    canvas.drawRect(
+                    fillRect(thumb,
                             Math.min(lastWayPoint.x(), wayPoint.x()) - 0.5f,
                             Math.min(lastWayPoint.y(), wayPoint.y()) - 0.5f,
                             Math.max(lastWayPoint.x(), wayPoint.x()) + 0.5f,
                             Math.max(lastWayPoint.y(), wayPoint.y()) + 0.5f,
-                            pathPaint);
+                            PATH_COLOR);
                 }
                 lastWayPoint = wayPoint;
             }
         }
     }
 
-    private void drawPlateaus(Canvas canvas, MapDescriptorRoot mapDescriptorRoot) {
-        Paint plateauPaint = new Paint();
-        plateauPaint.setStyle(Paint.Style.STROKE);
-        plateauPaint.setStrokeWidth(1);
-        plateauPaint.setColor(PLATEAU_COLOR);
-
+    private void drawPlateaus(MapThumb thumb, MapDescriptorRoot mapDescriptorRoot) {
         for (PlateauDescriptor plateau : mapDescriptorRoot.getPlateaus()) {
             Vector2 position = plateau.getPosition();
-            canvas.drawPoint(position.x(), position.y(), plateauPaint);
+            fillRect(thumb,
+                    position.x() - 0.5f, position.y() - 0.5f,
+                    position.x() + 0.5f, position.y() + 0.5f,
+                    PLATEAU_COLOR);
+        }
+    }
+
+    // game coordinates have tile centers on integers and the y axis pointing up
+    private void fillRect(MapThumb thumb, float left, float bottom, float right, float top, int color) {
+        int width = thumb.getWidth();
+        int height = thumb.getHeight();
+        int[] pixels = thumb.getPixels();
+
+        int x0 = Math.max(0, Math.round((left + 0.5f) * PIXELS_PER_SQUARE));
+        int x1 = Math.min(width, Math.round((right + 0.5f) * PIXELS_PER_SQUARE));
+        int y0 = Math.max(0, height - Math.round((top + 0.5f) * PIXELS_PER_SQUARE));
+        int y1 = Math.min(height, height - Math.round((bottom + 0.5f) * PIXELS_PER_SQUARE));
+
+        if (x0 >= x1) {
+            return;
+        }
+
+        for (int y = y0; y < y1; y++) {
+            Arrays.fill(pixels, y * width + x0, y * width + x1, color);
         }
     }
 
@@ -2,6 +2,7 @@ package ch.logixisland.anuto.view.map;
 
 import android.app.Activity;
 import android.content.res.Resources;
+import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -9,6 +10,7 @@ import android.widget.BaseAdapter;
 import android.widget.ImageView;
 import android.widget.TextView;
 
+import java.io.File;
 import java.lang.ref.WeakReference;
 import java.text.DecimalFormat;
 import java.util.List;
@@ -18,16 +20,26 @@ import ch.logixisland.anuto.business.game.HighScores;
 import ch.logixisland.anuto.data.map.MapInfo;
 import ch.logixisland.anuto.data.map.MapRepository;
 
-class MapsAdapter extends BaseAdapter {
+class MapsAdapter extends BaseAdapter implements LoadThumbTask.Listener {
+
+    private static final String TAG = MapsAdapter.class.getSimpleName();
 
     private final WeakReference<Activity> mActivityRef;
     private final HighScores mHighScores;
     private final List<MapInfo> mMapInfos;
+    private final MapThumbCache mMapThumbCache;
+
+    private final long mOpenTime;
+    private int mPendingThumbCount = 0;
+    private int mShownThumbCount = 0;
+    private boolean mOpenTimeLogged = false;
 
-    MapsAdapter(Activity activity, MapRepository mapRepository, HighScores highScores) {
+    MapsAdapter(Activity activity, MapRepository mapRepository, HighScores highScores, long openTime) {
         mActivityRef = new WeakReference<>(activity);
         mMapInfos = mapRepository.getMapInfos();
         mHighScores = highScores;
+        mMapThumbCache = new MapThumbCache(new File(activity.getCacheDir(), "thumbs"));
+        mOpenTime = openTime;
     }
 
     static private class ViewHolder {
@@ -84,8 +96,22 @@ class MapsAdapter extends BaseAdapter {
         viewHolder.txt_highscore.setText(resources.getString(R.string.score) + ": " + highScore);
 
         viewHolder.img_thumb.setImageBitmap(null);
-        new LoadThumbTask(resources, viewHolder.img_thumb, mapInfo.getMapDescriptorResId()).execute();
+        new LoadThumbTask(resources, mMapThumbCache, viewHolder.img_thumb, mapInfo.getMapDescriptorResId(), this).execute();
+        mPendingThumbCount++;
 
         return mapItemView;
     }
+
+    // the picker is open once the thumbs requested by the first layout are all shown
+    @Override
+    public void thumbShown() {
+        mPendingThumbCount--;
+        mShownThumbCount++;
+
+        if (mPendingThumbCount == 0 && !mOpenTimeLogged) {
+            mOpenTimeLogged = true;
+            Log.d(TAG, String.format("mapPickerOpenTime=%dms; thumbs=%d", (System.nanoTime() - mOpenTime) / 1000000,
+                    mShownThumbCount));
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package ch.logixisland.anuto.data;
+
+import org.junit.Test;
+import org.simpleframework.xml.core.Persister;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import ch.logixisland.anuto.data.map.MapDescriptorRoot;
+import ch.logixisland.anuto.data.setting.GameSettingsRoot;
+import ch.logixisland.anuto.data.setting.enemy.EnemySettingsRoot;
+import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
+import ch.logixisland.anuto.data.wave.WaveDescriptorRoot;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Parses every bundled descriptor and prints the time per pass. Maps and waves are also read with
+ * the Simple XML bindings of {@link XmlReaderParityTest} for comparison.
+ */
+public class DescriptorParseBenchmark {
+
+    private static final int WARM_UP_PASSES = 5;
+    private static final int PASSES = 50;
+
+    private final List<String> mNames = new ArrayList<>();
+    private final List<byte[]> mContents = new ArrayList<>();
+
+    @Test
+    public void parseAllDescriptors() throws Exception {
+        for (File file : XmlReaderParityTest.getDescriptorFiles()) {
+            mNames.add(file.getName());
+            mContents.add(XmlReaderParityTest.readFile(file));
+        }
+
+        assertTrue(mNames.size() > 0);
+
+        for (int i = 0; i < WARM_UP_PASSES; i++) {
+            parseStreaming(false);
+            parseSimple();
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < PASSES; i++) {
+            parseStreaming(false);
+        }
+        long streamingTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < PASSES; i++) {
+            parseStreaming(true);
+        }
+        long streamingAllTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < PASSES; i++) {
+            parseSimple();
+        }
+        long simpleTime = System.nanoTime() - startTime;
+
+        System.out.println(String.format("Descriptor parsing per pass: streaming %.2f ms (maps and waves), " +
+                        "%.2f ms (all %d files), Simple XML %.2f ms (maps and waves)",
+                toMillisPerPass(streamingTime), toMillisPerPass(streamingAllTime), mNames.size(),
+                toMillisPerPass(simpleTime)));
+    }
+
+    private void parseStreaming(boolean includeSettings) throws IOException {
+        for (int i = 0; i < mNames.size(); i++) {
+            String name = mNames.get(i);
+            ByteArrayInputStream stream = new ByteArrayInputStream(mContents.get(i));
+
+            if (name.startsWith("map_")) {
+                MapDescriptorRoot.fromXml(stream);
+            } else if (name.equals("wave_descriptors.xml")) {
+                WaveDescriptorRoot.fromXml(stream);
+            } else if (!includeSettings) {
+                continue;
+            } else if (name.equals("game_settings.xml")) {
+                GameSettingsRoot.fromXml(stream);
+            } else if (name.equals("enemy_settings.xml")) {
+                EnemySettingsRoot.fromXml(stream);
+            } else if (name.equals("tower_settings.xml")) {
+                TowerSettingsRoot.fromXml(stream);
+            } else {
+                throw new IOException("No descriptor class for " + name + "!");
+            }
+        }
+    }
+
+    private void parseSimple() throws Exception {
+        Persister persister = new Persister();
+
+        for (int i = 0; i < mNames.size(); i++) {
+            String name = mNames.get(i);
+            ByteArrayInputStream stream = new ByteArrayInputStream(mContents.get(i));
+
+            if (name.startsWith("map_")) {
+                persister.read(XmlReaderParityTest.SimpleMap.class, stream);
+            } else if (name.equals("wave_descriptors.xml")) {
+                persister.read(XmlReaderParityTest.SimpleWaves.class, stream);
+            }
+        }
+    }
+
+    private static float toMillisPerPass(long nanos) {
+        return nanos / 1000000f / PASSES;
+    }
+}
@@ -0,0 +1,684 @@
+package ch.logixisland.anuto.data;
+
+import org.junit.Test;
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.ElementList;
+import org.simpleframework.xml.ElementMap;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.core.Persister;
+import org.simpleframework.xml.stream.InputNode;
+import org.simpleframework.xml.stream.NodeBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import ch.logixisland.anuto.data.map.MapDescriptorRoot;
+import ch.logixisland.anuto.data.map.PathDescriptor;
+import ch.logixisland.anuto.data.map.PlateauDescriptor;
+import ch.logixisland.anuto.data.setting.GameSettingsRoot;
+import ch.logixisland.anuto.data.setting.enemy.EnemySettings;
+import ch.logixisland.anuto.data.setting.enemy.EnemySettingsRoot;
+import ch.logixisland.anuto.data.setting.enemy.GlobalSettings;
+import ch.logixisland.anuto.data.setting.enemy.HealerSettings;
+import ch.logixisland.anuto.data.setting.enemy.WeaponType;
+import ch.logixisland.anuto.data.setting.tower.BouncingLaserSettings;
+import ch.logixisland.anuto.data.setting.tower.GlueGunSettings;
+import ch.logixisland.anuto.data.setting.tower.GlueTowerSettings;
+import ch.logixisland.anuto.data.setting.tower.MineLayerSettings;
+import ch.logixisland.anuto.data.setting.tower.MortarSettings;
+import ch.logixisland.anuto.data.setting.tower.RocketLauncherSettings;
+import ch.logixisland.anuto.data.setting.tower.TeleporterSettings;
+import ch.logixisland.anuto.data.setting.tower.TowerSettings;
+import ch.logixisland.anuto.data.setting.tower.TowerSettingsRoot;
+import ch.logixisland.anuto.data.wave.EnemyDescriptor;
+import ch.logixisland.anuto.data.wave.WaveDescriptor;
+import ch.logixisland.anuto.data.wave.WaveDescriptorRoot;
+import ch.logixisland.anuto.util.math.Vector2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Compares the streaming reader with Simple XML, which parsed the descriptors before. Every bundled
+ * file must produce the same elements, attributes and text, and maps, waves and settings the same
+ * objects as the former Simple XML bindings, which are mirrored below.
+ */
+public class XmlReaderParityTest {
+
+    static final File RAW_DIRECTORY = new File("src/main/res/raw");
+
+    @Root(name = "map")
+    static class SimpleMap {
+        @Element(name = "width")
+        int mWidth;
+        @Element(name = "height")
+        int mHeight;
+        @ElementList(name = "plateaus", entry = "plateau")
+        List<SimplePlateau> mPlateaus = new ArrayList<>();
+        @ElementList(name = "paths", entry = "path")
+        List<SimplePath> mPaths = new ArrayList<>();
+    }
+
+    @Root
+    static class SimplePlateau {
+        @Attribute(name = "name")
+        String mName;
+        @Attribute(name = "x")
+        float mX;
+        @Attribute(name = "y")
+        float mY;
+    }
+
+    @Root
+    static class SimplePath {
+        @ElementList(entry = "wayPoint", inline = true)
+        List<SimpleWayPoint> mWayPoints = new ArrayList<>();
+    }
+
+    @Root
+    static class SimpleWayPoint {
+        @Attribute(name = "x")
+        float mX;
+        @Attribute(name = "y")
+        float mY;
+    }
+
+    @Root(name = "waves")
+    static class SimpleWaves {
+        @ElementList(inline = true, entry = "wave")
+        List<SimpleWave> mWaves = new ArrayList<>();
+    }
+
+    @Root
+    static class SimpleWave {
+        @ElementList(name = "enemies", entry = "enemy")
+        List<SimpleEnemy> mEnemies = new ArrayList<>();
+        @Element(name = "waveReward", required = false)
+        int mWaveReward;
+        @Element(name = "extend", required = false)
+        int mExtend;
+        @Element(name = "maxExtend", required = false)
+        int mMaxExtend;
+    }
+
+    @Root
+    static class SimpleEnemy {
+        @Attribute(name = "name")
+        String mName;
+        @Attribute(name = "pathIndex", required = false)
+        int mPathIndex;
+        @Attribute(name = "delay", required = false)
+        float mDelay;
+        @Attribute(name = "offset", required = false)
+        float mOffset;
+    }
+
+    @Root(name = "settings")
+    static class SimpleGameSettings {
+        @Element(name = "credits")
+        int mCredits;
+        @Element(name = "lives")
+        int mLives;
+        @Element(name = "difficultyModifier")
+        float mDifficultyModifier;
+        @Element(name = "difficultyExponent")
+        float mDifficultyExponent;
+        @Element(name = "difficultyLinear")
+        float mDifficultyLinear;
+        @Element(name = "minHealthModifier")
+        float mMinHealthModifier;
+        @Element(name = "rewardModifier")
+        float mRewardModifier;
+        @Element(name = "rewardExponent")
+        float mRewardExponent;
+        @Element(name = "minRewardModifier")
+        float mMinRewardModifier;
+        @Element(name = "earlyModifier")
+        float mEarlyModifier;
+        @Element(name = "earlyExponent")
+        float mEarlyExponent;
+    }
+
+    @Root(name = "enemies")
+    static class SimpleEnemySettingsRoot {
+        @Element(name = "global")
+        SimpleGlobalSettings mGlobal;
+        @Element(name = "soldier")
+        SimpleEnemySettings mSoldier;
+        @Element(name = "blob")
+        SimpleEnemySettings mBlob;
+        @Element(name = "sprinter")
+        SimpleEnemySettings mSprinter;
+        @Element(name = "healer")
+        SimpleHealerSettings mHealer;
+        @Element(name = "flyer")
+        SimpleEnemySettings mFlyer;
+    }
+
+    @Root
+    static class SimpleGlobalSettings {
+        @Element(name = "minSpeedModifier")
+        float mMinSpeedModifier;
+        @Element(name = "weakAgainstModifier")
+        float mWeakAgainstModifier;
+        @Element(name = "strongAgainstModifier")
+        float mStrongAgainstModifier;
+    }
+
+    @Root
+    static class SimpleEnemySettings {
+        @Element(name = "health")
+        float mHealth;
+        @Element(name = "speed")
+        float mSpeed;
+        @Element(name = "reward")
+        int mReward;
+        @ElementList(entry = "weakAgainst", inline = true, required = false)
+        List<WeaponType> mWeakAgainst = new ArrayList<>();
+        @ElementList(entry = "strongAgainst", inline = true, required = false)
+        List<WeaponType> mStrongAgainst = new ArrayList<>();
+    }
+
+    @Root
+    static class SimpleHealerSettings extends SimpleEnemySettings {
+        @Element(name = "healAmount")
+        float mHealAmount;
+        @Element(name = "healRadius")
+        float mHealRadius;
+        @Element(name = "healInterval")
+        float mHealInterval;
+        @Element(name = "healDuration")
+        float mHealDuration;
+    }
+
+    @Root(name = "towers")
+    static class SimpleTowerSettingsRoot {
+        @Element(name = "ageModifier")
+        float mAgeModifier;
+        @ElementMap(name = "slots", entry = "slot", key = "index", attribute = true)
+        Map<Integer, String> mSlots = new HashMap<>();
+        @Element(name = "canon")
+        SimpleTowerSettings mCanon;
+        @Element(name = "dualCanon")
+        SimpleTowerSettings mDualCanon;
+        @Element(name = "machineGun")
+        SimpleTowerSettings mMachineGun;
+        @Element(name = "simpleLaser")
+        SimpleTowerSettings mSimpleLaser;
+        @Element(name = "bouncingLaser")
+        SimpleBouncingLaserSettings mBouncingLaser;
+        @Element(name = "straightLaser")
+        SimpleTowerSettings mStraightLaser;
+        @Element(name = "mortar")
+        SimpleMortarSettings mMortar;
+        @Element(name = "mineLayer")
+        SimpleMineLayerSettings mMineLayer;
+        @Element(name = "rocketLauncher")
+        SimpleRocketLauncherSettings mRocketLauncher;
+        @Element(name = "glueTower")
+        SimpleGlueSettings mGlueTower;
+        @Element(name = "glueGun")
+        SimpleGlueSettings mGlueGun;
+        @Element(name = "teleporter")
+        SimpleTeleporterSettings mTeleporter;
+    }
+
+    @Root
+    static class SimpleTowerSettings {
+        @Element(name = "value")
+        int mValue;
+        @Element(name = "damage", required = false)
+        float mDamage;
+        @Element(name = "range")
+        float mRange;
+        @Element(name = "reload")
+        float mReload;
+        @Element(name = "maxLevel")
+        int mMaxLevel;
+        @Element(name = "weaponType", required = false)
+        WeaponType mWeaponType;
+        @Element(name = "enhanceBase")
+        float mEnhanceBase;
+        @Element(name = "enhanceCost")
+        int mEnhanceCost;
+        @Element(name = "enhanceDamage", required = false)
+        float mEnhanceDamage;
+        @Element(name = "enhanceRange", required = false)
+        float mEnhanceRange;
+        @Element(name = "enhanceReload", required = false)
+        float mEnhanceReload;
+        @Element(name = "upgrade", required = false)
+        String mUpgrade;
+        @Element(name = "upgradeCost", required = false)
+        int mUpgradeCost;
+    }
+
+    @Root
+    static class SimpleBouncingLaserSettings extends SimpleTowerSettings {
+        @Element(name = "bounceCount")
+        int mBounceCount;
+        @Element(name = "bounceDistance")
+        float mBounceDistance;
+    }
+
+    @Root
+    static class SimpleMortarSettings extends SimpleTowerSettings {
+        @Element(name = "inaccuracy")
+        float mInaccuracy;
+        @Element(name = "explosionRadius")
+        float mExplosionRadius;
+        @Element(name = "enhanceExplosionRadius")
+        float mEnhanceExplosionRadius;
+    }
+
+    @Root
+    static class SimpleMineLayerSettings extends SimpleTowerSettings {
+        @Element(name = "maxMineCount")
+        int mMaxMineCount;
+        @Element(name = "enhanceMaxMineCount")
+        int mEnhanceMaxMineCount;
+        @Element(name = "explosionRadius")
+        float mExplosionRadius;
+        @Element(name = "enhanceExplosionRadius")
+        float mEnhanceExplosionRadius;
+    }
+
+    @Root
+    static class SimpleRocketLauncherSettings extends SimpleTowerSettings {
+        @Element(name = "explosionRadius")
+        float mExplosionRadius;
+        @Element(name = "enhanceExplosionRadius")
+        float mEnhanceExplosionRadius;
+    }
+
+    @Root
+    static class SimpleGlueSettings extends SimpleTowerSettings {
+        @Element(name = "glueIntensity")
+        float mGlueIntensity;
+        @Element(name = "enhanceGlueIntensity")
+        float mEnhanceGlueIntensity;
+        @Element(name = "glueDuration")
+        float mGlueDuration;
+    }
+
+    @Root
+    static class SimpleTeleporterSettings extends SimpleTowerSettings {
+        @Element(name = "teleportDistance")
+        float mTeleportDistance;
+        @Element(name = "enhanceTeleportDistance")
+        float mEnhanceTeleportDistance;
+    }
+
+    @Test
+    public void documentsMatchSimpleXml() throws Exception {
+        List<File> files = getDescriptorFiles();
+        assertTrue("No descriptor files found in " + RAW_DIRECTORY.getAbsolutePath(), files.size() > 0);
+
+        for (File file : files) {
+            byte[] content = readFile(file);
+            assertEquals(file.getName(), dumpSimple(content), dumpStreaming(content));
+        }
+    }
+
+    @Test
+    public void mapsMatchSimpleXml() throws Exception {
+        for (File file : getDescriptorFiles()) {
+            if (!file.getName().startsWith("map_")) {
+                continue;
+            }
+
+            byte[] content = readFile(file);
+            SimpleMap expected = new Persister().read(SimpleMap.class, new ByteArrayInputStream(content));
+            MapDescriptorRoot actual = MapDescriptorRoot.fromXml(new ByteArrayInputStream(content));
+            String name = file.getName();
+
+            assertEquals(name, expected.mWidth, actual.getWidth());
+            assertEquals(name, expected.mHeight, actual.getHeight());
+            assertEquals(name, expected.mPlateaus.size(), actual.getPlateaus().size());
+            assertEquals(name, expected.mPaths.size(), actual.getPaths().size());
+
+            int index = 0;
+            for (PlateauDescriptor plateau : actual.getPlateaus()) {
+                SimplePlateau expectedPlateau = expected.mPlateaus.get(index++);
+                assertEquals(name, expectedPlateau.mName, plateau.getName());
+                assertEquals(name, expectedPlateau.mX, plateau.getPosition().x(), 0f);
+                assertEquals(name, expectedPlateau.mY, plateau.getPosition().y(), 0f);
+            }
+
+            for (int i = 0; i < actual.getPaths().size(); i++) {
+                PathDescriptor path = actual.getPaths().get(i);
+                List<SimpleWayPoint> expectedWayPoints = expected.mPaths.get(i).mWayPoints;
+                assertEquals(name, expectedWayPoints.size(), path.getWayPoints().size());
+
+                for (int j = 0; j < expectedWayPoints.size(); j++) {
+                    Vector2 wayPoint = path.getWayPoints().get(j);
+                    assertEquals(name, expectedWayPoints.get(j).mX, wayPoint.x(), 0f);
+                    assertEquals(name, expectedWayPoints.get(j).mY, wayPoint.y(), 0f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void wavesMatchSimpleXml() throws Exception {
+        byte[] content = readFile(new File(RAW_DIRECTORY, "wave_descriptors.xml"));
+        SimpleWaves expected = new Persister().read(SimpleWaves.class, new ByteArrayInputStream(content));
+        WaveDescriptorRoot actual = WaveDescriptorRoot.fromXml(new ByteArrayInputStream(content));
+
+        assertEquals(expected.mWaves.size(), actual.getWaves().size());
+
+        for (int i = 0; i < expected.mWaves.size(); i++) {
+            SimpleWave expectedWave = expected.mWaves.get(i);
+            WaveDescriptor wave = actual.getWaves().get(i);
+            assertEquals(expectedWave.mWaveReward, wave.getWaveReward());
+            assertEquals(expectedWave.mExtend, wave.getExtend());
+            assertEquals(expectedWave.mMaxExtend, wave.getMaxExtend());
+            assertEquals(expectedWave.mEnemies.size(), wave.getEnemies().size());
+
+            for (int j = 0; j < expectedWave.mEnemies.size(); j++) {
+                SimpleEnemy expectedEnemy = expectedWave.mEnemies.get(j);
+                EnemyDescriptor enemy = wave.getEnemies().get(j);
+                assertEquals(expectedEnemy.mName, enemy.getName());
+                assertEquals(expectedEnemy.mPathIndex, enemy.getPathIndex());
+                assertEquals(expectedEnemy.mDelay, enemy.getDelay(), 0f);
+                assertEquals(expectedEnemy.mOffset, enemy.getOffset(), 0f);
+            }
+        }
+    }
+
+    @Test
+    public void gameSettingsMatchSimpleXml() throws Exception {
+        byte[] content = readFile(new File(RAW_DIRECTORY, "game_settings.xml"));
+        SimpleGameSettings expected = new Persister().read(SimpleGameSettings.class, new ByteArrayInputStream(content));
+        GameSettingsRoot actual = GameSettingsRoot.fromXml(new ByteArrayInputStream(content));
+
+        assertEquals(expected.mCredits, actual.getCredits());
+        assertEquals(expected.mLives, actual.getLives());
+        assertEquals(expected.mDifficultyModifier, actual.getDifficultyModifier(), 0f);
+        assertEquals(expected.mDifficultyExponent, actual.getDifficultyExponent(), 0f);
+        assertEquals(expected.mDifficultyLinear, actual.getDifficultyLinear(), 0f);
+        assertEquals(expected.mMinHealthModifier, actual.getMinHealthModifier(), 0f);
+        assertEquals(expected.mRewardModifier, actual.getRewardModifier(), 0f);
+        assertEquals(expected.mRewardExponent, actual.getRewardExponent(), 0f);
+        assertEquals(expected.mMinRewardModifier, actual.getMinRewardModifier(), 0f);
+        assertEquals(expected.mEarlyModifier, actual.getEarlyModifier(), 0f);
+        assertEquals(expected.mEarlyExponent, actual.getEarlyExponent(), 0f);
+    }
+
+    @Test
+    public void enemySettingsMatchSimpleXml() throws Exception {
+        byte[] content = readFile(new File(RAW_DIRECTORY, "enemy_settings.xml"));
+        SimpleEnemySettingsRoot expected = new Persister().read(SimpleEnemySettingsRoot.class, new ByteArrayInputStream(content));
+        EnemySettingsRoot actual = EnemySettingsRoot.fromXml(new ByteArrayInputStream(content));
+
+        GlobalSettings global = actual.getGlobalSettings();
+        assertEquals(expected.mGlobal.mMinSpeedModifier, global.getMinSpeedModifier(), 0f);
+        assertEquals(expected.mGlobal.mWeakAgainstModifier, global.getWeakAgainstModifier(), 0f);
+        assertEquals(expected.mGlobal.mStrongAgainstModifier, global.getStrongAgainstModifier(), 0f);
+
+        assertEnemy("soldier", expected.mSoldier, actual.getSoldierSettings());
+        assertEnemy("blob", expected.mBlob, actual.getBlobSettings());
+        assertEnemy("sprinter", expected.mSprinter, actual.getSprinterSettings());
+        assertEnemy("healer", expected.mHealer, actual.getHealerSettings());
+        assertEnemy("flyer", expected.mFlyer, actual.getFlyerSettings());
+
+        HealerSettings healer = actual.getHealerSettings();
+        assertEquals(expected.mHealer.mHealAmount, healer.getHealAmount(), 0f);
+        assertEquals(expected.mHealer.mHealRadius, healer.getHealRadius(), 0f);
+        assertEquals(expected.mHealer.mHealInterval, healer.getHealInterval(), 0f);
+        assertEquals(expected.mHealer.mHealDuration, healer.getHealDuration(), 0f);
+    }
+
+    @Test
+    public void towerSettingsMatchSimpleXml() throws Exception {
+        byte[] content = readFile(new File(RAW_DIRECTORY, "tower_settings.xml"));
+        SimpleTowerSettingsRoot expected = new Persister().read(SimpleTowerSettingsRoot.class, new ByteArrayInputStream(content));
+        TowerSettingsRoot actual = TowerSettingsRoot.fromXml(new ByteArrayInputStream(content));
+
+        assertEquals(expected.mAgeModifier, actual.getAgeModifier(), 0f);
+        assertEquals(expected.mSlots.size(), actual.getTowerSlots().getTowerNames().size());
+
+        for (Map.Entry<Integer, String> slot : expected.mSlots.entrySet()) {
+            assertEquals(slot.getValue(), actual.getTowerSlots().getTowerOfSlot(slot.getKey()));
+        }
+
+        assertTower("canon", expected.mCanon, actual.getCanonSettings());
+        assertTower("dualCanon", expected.mDualCanon, actual.getDualCanonSettings());
+        assertTower("machineGun", expected.mMachineGun, actual.getMachineGunSettings());
+        assertTower("simpleLaser", expected.mSimpleLaser, actual.getSimpleLaserSettings());
+        assertTower("bouncingLaser", expected.mBouncingLaser, actual.getBouncingLaserSettings());
+        assertTower("straightLaser", expected.mStraightLaser, actual.getStraightLaserSettings());
+        assertTower("mortar", expected.mMortar, actual.getMortarSettings());
+        assertTower("mineLayer", expected.mMineLayer, actual.getMineLayerSettings());
+        assertTower("rocketLauncher", expected.mRocketLauncher, actual.getRocketLauncherSettings());
+        assertTower("glueTower", expected.mGlueTower, actual.getGlueTowerSettings());
+        assertTower("glueGun", expected.mGlueGun, actual.getGlueGunSettings());
+        assertTower("teleporter", expected.mTeleporter, actual.getTeleporterSettings());
+
+        BouncingLaserSettings bouncingLaser = actual.getBouncingLaserSettings();
+        assertEquals(expected.mBouncingLaser.mBounceCount, bouncingLaser.getBounceCount());
+        assertEquals(expected.mBouncingLaser.mBounceDistance, bouncingLaser.getBounceDistance(), 0f);
+
+        MortarSettings mortar = actual.getMortarSettings();
+        assertEquals(expected.mMortar.mInaccuracy, mortar.getInaccuracy(), 0f);
+        assertEquals(expected.mMortar.mExplosionRadius, mortar.getExplosionRadius(), 0f);
+        assertEquals(expected.mMortar.mEnhanceExplosionRadius, mortar.getEnhanceExplosionRadius(), 0f);
+
+        MineLayerSettings mineLayer = actual.getMineLayerSettings();
+        assertEquals(expected.mMineLayer.mMaxMineCount, mineLayer.getMaxMineCount());
+        assertEquals(expected.mMineLayer.mEnhanceMaxMineCount, mineLayer.getEnhanceMaxMineCount());
+        assertEquals(expected.mMineLayer.mExplosionRadius, mineLayer.getExplosionRadius(), 0f);
+        assertEquals(expected.mMineLayer.mEnhanceExplosionRadius, mineLayer.getEnhanceExplosionRadius(), 0f);
+
+        RocketLauncherSettings rocketLauncher = actual.getRocketLauncherSettings();
+        assertEquals(expected.mRocketLauncher.mExplosionRadius, rocketLauncher.getExplosionRadius(), 0f);
+        assertEquals(expected.mRocketLauncher.mEnhanceExplosionRadius, rocketLauncher.getEnhanceExplosionRadius(), 0f);
+
+        GlueTowerSettings glueTower = actual.getGlueTowerSettings();
+        assertEquals(expected.mGlueTower.mGlueIntensity, glueTower.getGlueIntensity(), 0f);
+        assertEquals(expected.mGlueTower.mEnhanceGlueIntensity, glueTower.getEnhanceGlueIntensity(), 0f);
+        assertEquals(expected.mGlueTower.mGlueDuration, glueTower.getGlueDuration(), 0f);
+
+        GlueGunSettings glueGun = actual.getGlueGunSettings();
+        assertEquals(expected.mGlueGun.mGlueIntensity, glueGun.getGlueIntensity(), 0f);
+        assertEquals(expected.mGlueGun.mEnhanceGlueIntensity, glueGun.getEnhanceGlueIntensity(), 0f);
+        assertEquals(expected.mGlueGun.mGlueDuration, glueGun.getGlueDuration(), 0f);
+
+        TeleporterSettings teleporter = actual.getTeleporterSettings();
+        assertEquals(expected.mTeleporter.mTeleportDistance, teleporter.getTeleportDistance(), 0f);
+        assertEquals(expected.mTeleporter.mEnhanceTeleportDistance, teleporter.getEnhanceTeleportDistance(), 0f);
+    }
+
+    @Test
+    public void missingRequiredElementsAreRejected() throws Exception {
+        String towers = new String(readFile(new File(RAW_DIRECTORY, "tower_settings.xml")), "UTF-8");
+        String enemies = new String(readFile(new File(RAW_DIRECTORY, "enemy_settings.xml")), "UTF-8");
+        String game = new String(readFile(new File(RAW_DIRECTORY, "game_settings.xml")), "UTF-8");
+
+        assertMissing("range", removeFirst(towers, "<range>2.5</range>"), TOWER_SETTINGS);
+        assertMissing("reload", removeFirst(towers, "<reload>1.0</reload>"), TOWER_SETTINGS);
+        assertMissing("value", removeFirst(towers, "<value>100</value>"), TOWER_SETTINGS);
+        assertMissing("ageModifier", removeFirst(towers, "<ageModifier>0.97</ageModifier>"), TOWER_SETTINGS);
+        assertMissing("explosionRadius", removeFirst(towers, "<explosionRadius>1.5</explosionRadius>"), TOWER_SETTINGS);
+        assertMissing("reward", removeFirst(enemies, "<reward>10</reward>"), ENEMY_SETTINGS);
+        assertMissing("credits", removeFirst(game, "<credits>500</credits>"), GAME_SETTINGS);
+    }
+
+    private interface SettingsParser {
+        void parse(InputStream stream) throws IOException;
+    }
+
+    private static final SettingsParser TOWER_SETTINGS = new SettingsParser() {
+        @Override
+        public void parse(InputStream stream) throws IOException {
+            TowerSettingsRoot.fromXml(stream);
+        }
+    };
+
+    private static final SettingsParser ENEMY_SETTINGS = new SettingsParser() {
+        @Override
+        public void parse(InputStream stream) throws IOException {
+            EnemySettingsRoot.fromXml(stream);
+        }
+    };
+
+    private static final SettingsParser GAME_SETTINGS = new SettingsParser() {
+        @Override
+        public void parse(InputStream stream) throws IOException {
+            GameSettingsRoot.fromXml(stream);
+        }
+    };
+
+    private static String removeFirst(String content, String element) {
+        assertTrue(element, content.contains(element));
+        return content.replaceFirst(Pattern.quote(element), "");
+    }
+
+    private static void assertMissing(String element, String content, SettingsParser parser) throws Exception {
+        try {
+            parser.parse(new ByteArrayInputStream(content.getBytes("UTF-8")));
+            fail("Missing " + element + " was accepted");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Missing element " + element + " "));
+        }
+    }
+
+    private static void assertEnemy(String name, SimpleEnemySettings expected, EnemySettings actual) {
+        assertEquals(name, expected.mHealth, actual.getHealth(), 0f);
+        assertEquals(name, expected.mSpeed, actual.getSpeed(), 0f);
+        assertEquals(name, expected.mReward, actual.getReward());
+        assertEquals(name, expected.mWeakAgainst, new ArrayList<>(actual.getWeakAgainst()));
+        assertEquals(name, expected.mStrongAgainst, new ArrayList<>(actual.getStrongAgainst()));
+    }
+
+    private static void assertTower(String name, SimpleTowerSettings expected, TowerSettings actual) {
+        assertEquals(name, expected.mValue, actual.getValue());
+        assertEquals(name, expected.mDamage, actual.getDamage(), 0f);
+        assertEquals(name, expected.mRange, actual.getRange(), 0f);
+        assertEquals(name, expected.mReload, actual.getReload(), 0f);
+        assertEquals(name, expected.mMaxLevel, actual.getMaxLevel());
+        assertEquals(name, expected.mWeaponType, actual.getWeaponType());
+        assertEquals(name, expected.mEnhanceBase, actual.getEnhanceBase(), 0f);
+        assertEquals(name, expected.mEnhanceCost, actual.getEnhanceCost());
+        assertEquals(name, expected.mEnhanceDamage, actual.getEnhanceDamage(), 0f);
+        assertEquals(name, expected.mEnhanceRange, actual.getEnhanceRange(), 0f);
+        assertEquals(name, expected.mEnhanceReload, actual.getEnhanceReload(), 0f);
+        assertEquals(name, expected.mUpgrade, actual.getUpgrade());
+        assertEquals(name, expected.mUpgradeCost, actual.getUpgradeCost());
+    }
+
+    static List<File> getDescriptorFiles() {
+        List<File> files = new ArrayList<>();
+        File[] children = RAW_DIRECTORY.listFiles();
+
+        if (children != null) {
+            for (File file : children) {
+                if (file.getName().endsWith(".xml")) {
+                    files.add(file);
+                }
+            }
+        }
+
+        return files;
+    }
+
+    static byte[] readFile(File file) throws IOException {
+        InputStream stream = new FileInputStream(file);
+
+        try {
+            byte[] content = new byte[(int) file.length()];
+            int offset = 0;
+
+            while (offset < content.length) {
+                int count = stream.read(content, offset, content.length - offset);
+
+                if (count < 0) {
+                    throw new IOException("Unexpected end of " + file + "!");
+                }
+
+                offset += count;
+            }
+
+            return content;
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static String dumpSimple(byte[] content) throws Exception {
+        StringBuilder dump = new StringBuilder();
+        dumpSimple(NodeBuilder.read(new ByteArrayInputStream(content)), dump);
+        return dump.toString();
+    }
+
+    private static void dumpSimple(InputNode node, StringBuilder dump) throws Exception {
+        Map<String, String> attributes = new TreeMap<>();
+
+        for (String name : node.getAttributes()) {
+            attributes.put(name, node.getAttribute(name).getValue());
+        }
+
+        // the value is the text before the first child element
+        String text = node.getValue();
+        appendElement(dump, node.getName(), attributes, text == null ? "" : text);
+
+        for (InputNode child = node.getNext(); child != null; child = node.getNext()) {
+            dumpSimple(child, dump);
+        }
+
+        dump.append("</").append(node.getName()).append(">\n");
+    }
+
+    private static String dumpStreaming(byte[] content) throws IOException {
+        XmlReader reader = new XmlReader(new ByteArrayInputStream(content));
+        reader.requireRoot();
+
+        StringBuilder dump = new StringBuilder();
+        dumpStreaming(reader, dump);
+        return dump.toString();
+    }
+
+    private static void dumpStreaming(XmlReader reader, StringBuilder dump) throws IOException {
+        String name = reader.getName();
+        int depth = reader.getDepth();
+        Map<String, String> attributes = new TreeMap<>();
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.put(reader.getAttributeName(i), reader.getAttribute(reader.getAttributeName(i)));
+        }
+
+        StringBuilder text = new StringBuilder();
+
+        while (reader.next() == XmlReader.TEXT) {
+            text.append(reader.getText());
+        }
+
+        appendElement(dump, name, attributes, text.toString());
+
+        while (reader.getDepth() >= depth) {
+            if (reader.getEvent() == XmlReader.START_TAG) {
+                dumpStreaming(reader, dump);
+            }
+
+            reader.next();
+        }
+
+        dump.append("</").append(name).append(">\n");
+    }
+
+    private static void appendElement(StringBuilder dump, String name, Map<String, String> attributes, String text) {
+        dump.append('<').append(name).append(' ').append(attributes).append('>');
+        dump.append(text.trim()).append('\n');
+    }
+}
@@ -0,0 +1,171 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+import android.graphics.Bitmap;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+public class SpriteBudgetTest {
+
+    // pretends every sheet is a row of square 64 pixel frames, decoded with 4 bytes per pixel
+    private static class FakeDecoder implements SpriteDecoder {
+        @Override
+        public void readSheetSize(SpriteSheetLayout layout) {
+            layout.setSheetSize(64 * layout.getSpriteCount(), 64);
+        }
+
+        @Override
+        public SpriteSheet decode(SpriteSheetLayout layout) {
+            long byteCount = (long) layout.getFrameWidth() * layout.getFrameHeight() * layout.getSpriteCount() * 4;
+            return new SpriteSheet(new Bitmap[layout.getSpriteCount()], byteCount);
+        }
+    }
+
+    private final FakeDecoder mDecoder = new FakeDecoder();
+
+    @Test
+    public void sourceSizeIsKeptWithoutTarget() {
+        SpriteSheetLayout layout = plan(new SpriteBudget(Long.MAX_VALUE), 4, 0);
+
+        assertEquals(64, layout.getFrameWidth());
+        assertEquals(64, layout.getFrameHeight());
+        assertEquals(1, layout.getSampleSize());
+    }
+
+    @Test
+    public void sheetIsDecodedAtTargetSize() {
+        SpriteSheetLayout layout = plan(new SpriteBudget(Long.MAX_VALUE), 4, 32);
+
+        assertEquals(32, layout.getFrameWidth());
+        assertEquals(32, layout.getFrameHeight());
+        assertEquals(2, layout.getSampleSize());
+    }
+
+    @Test
+    public void sheetIsNotScaledUp() {
+        SpriteSheetLayout layout = plan(new SpriteBudget(Long.MAX_VALUE), 4, 128);
+
+        assertEquals(64, layout.getFrameWidth());
+        assertEquals(1, layout.getSampleSize());
+    }
+
+    @Test
+    public void sheetIsDecodedSmallerWhenBudgetIsShort() {
+        // room for four frames of 32x32 but not of 64x64
+        SpriteBudget budget = new SpriteBudget(4 * 32 * 32 * 4);
+        SpriteSheetLayout layout = plan(budget, 4, 64);
+
+        assertEquals(32, layout.getFrameWidth());
+        assertEquals(2, layout.getSampleSize());
+    }
+
+    @Test
+    public void frameSizeHasLowerBound() {
+        SpriteSheetLayout layout = plan(new SpriteBudget(0), 4, 64);
+
+        assertEquals(16, layout.getFrameWidth());
+        assertEquals(16, layout.getFrameHeight());
+        assertEquals(4, layout.getSampleSize());
+    }
+
+    @Test
+    public void planReservesEstimate() {
+        SpriteBudget budget = new SpriteBudget(Long.MAX_VALUE);
+        long reserved = budget.plan(layout(4), 32);
+
+        assertEquals(4 * 32 * 32 * 4, reserved);
+        assertEquals(reserved, budget.getUsed());
+
+        budget.settle(reserved, reserved / 2);
+        assertEquals(reserved / 2, budget.getUsed());
+    }
+
+    @Test
+    public void concurrentPlansStayWithinBudget() throws Exception {
+        final int threadCount = 16;
+        // room for three sheets of 64x64 frames and nothing else
+        final SpriteBudget budget = new SpriteBudget(3 * 4 * 64 * 64 * 4);
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<SpriteSheetLayout>> layouts = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                layouts.add(executor.submit(new Callable<SpriteSheetLayout>() {
+                    @Override
+                    public SpriteSheetLayout call() throws Exception {
+                        SpriteSheetLayout layout = layout(4);
+                        start.await();
+                        budget.plan(layout, 64);
+                        return layout;
+                    }
+                }));
+            }
+
+            start.countDown();
+            int fullSizeCount = 0;
+
+            for (Future<SpriteSheetLayout> layout : layouts) {
+                if (layout.get().getFrameWidth() == 64) {
+                    fullSizeCount++;
+                }
+            }
+
+            assertEquals(3, fullSizeCount);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void decodedSheetsAreSettled() {
+        SpriteBudget budget = new SpriteBudget(Long.MAX_VALUE);
+        SpriteSheet sheet = decode(budget, 4, 32);
+        assertEquals(4 * 32 * 32 * 4, budget.getUsed());
+
+        budget.release(sheet.getByteCount());
+        assertEquals(0, budget.getUsed());
+
+        budget.release(1);
+        assertEquals(0, budget.getUsed());
+    }
+
+    @Test
+    public void chargedSheetsShrinkLaterPlans() {
+        // one sheet of 64x64 frames fits, a second one only at half the size
+        SpriteBudget budget = new SpriteBudget(2 * 4 * 64 * 64 * 4 - 1);
+        decode(budget, 4, 64);
+
+        SpriteSheetLayout layout = plan(budget, 4, 64);
+        assertEquals(32, layout.getFrameWidth());
+    }
+
+    private SpriteSheetLayout layout(int spriteCount) {
+        SpriteSheetLayout layout = new SpriteSheetLayout(1, spriteCount);
+        mDecoder.readSheetSize(layout);
+        return layout;
+    }
+
+    private SpriteSheetLayout plan(SpriteBudget budget, int spriteCount, int targetFrameSize) {
+        SpriteSheetLayout layout = layout(spriteCount);
+        budget.plan(layout, targetFrameSize);
+        return layout;
+    }
+
+    private SpriteSheet decode(SpriteBudget budget, int spriteCount, int targetFrameSize) {
+        SpriteSheetLayout layout = layout(spriteCount);
+        long reserved = budget.plan(layout, targetFrameSize);
+        SpriteSheet sheet = mDecoder.decode(layout);
+        budget.settle(reserved, sheet.getByteCount());
+        return sheet;
+    }
+}
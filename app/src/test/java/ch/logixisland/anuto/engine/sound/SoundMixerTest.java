@@ -0,0 +1,138 @@
+package ch.logixisland.anuto.engine.sound;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SoundMixerTest {
+
+    private static class FakeBackend implements SoundBackend {
+        final List<int[]> mPlays = new ArrayList<>();
+        final List<Float> mVolumes = new ArrayList<>();
+        final List<Integer> mStops = new ArrayList<>();
+
+        @Override
+        public int play(int soundId, float volume, int priority) {
+            mPlays.add(new int[]{soundId, priority});
+            mVolumes.add(volume);
+            return mPlays.size();
+        }
+
+        @Override
+        public void stop(int streamId) {
+            mStops.add(streamId);
+        }
+    }
+
+    private FakeBackend mBackend;
+    private SoundMixer mMixer;
+
+    @Before
+    public void setUp() {
+        mBackend = new FakeBackend();
+        mMixer = new SoundMixer(mBackend, 2);
+    }
+
+    @Test
+    public void requestsWithinOneTickAreMerged() {
+        mMixer.requestPlay(1, 0.2f, 0);
+        mMixer.requestPlay(1, 0.8f, 2);
+        mMixer.requestPlay(1, 0.5f, 1);
+        mMixer.flush(0);
+
+        assertEquals(1, mBackend.mPlays.size());
+        assertEquals(2, mBackend.mPlays.get(0)[1]);
+        assertEquals(0.8f, mBackend.mVolumes.get(0), 0f);
+        assertEquals(1, mMixer.getPlayCount());
+    }
+
+    @Test
+    public void requestsWithinMergeWindowAreDropped() {
+        requestAndFlush(1, 0, 0);
+        requestAndFlush(1, 0, SoundMixer.MERGE_WINDOW_MILLIS - 1);
+        assertEquals(1, mMixer.getPlayCount());
+        assertEquals(1, mMixer.getDropCount());
+
+        requestAndFlush(1, 0, 2 * SoundMixer.MERGE_WINDOW_MILLIS);
+        assertEquals(2, mMixer.getPlayCount());
+    }
+
+    @Test
+    public void mergeWindowIsPerSample() {
+        requestAndFlush(1, 0, 0);
+        requestAndFlush(2, 0, 1);
+        assertEquals(2, mMixer.getPlayCount());
+        assertEquals(0, mMixer.getDropCount());
+    }
+
+    @Test
+    public void playsPerSecondAreCapped() {
+        for (long time = 0; time < 1000; time += 100) {
+            requestAndFlush(1, 0, time);
+        }
+
+        assertEquals(SoundMixer.MAX_PLAYS_PER_SECOND, mMixer.getPlayCount());
+        assertEquals(10 - SoundMixer.MAX_PLAYS_PER_SECOND, mMixer.getDropCount());
+
+        // one second after the first play there is room again
+        requestAndFlush(1, 0, 1000);
+        assertEquals(SoundMixer.MAX_PLAYS_PER_SECOND + 1, mMixer.getPlayCount());
+    }
+
+    @Test
+    public void lowestPriorityVoiceIsStolen() {
+        requestAndFlush(1, 1, 0);
+        requestAndFlush(2, 2, 0);
+
+        requestAndFlush(3, 3, 10);
+        assertEquals(3, mBackend.mPlays.size());
+        assertEquals(1, mBackend.mStops.size());
+        assertEquals(1, (int) mBackend.mStops.get(0));
+
+        // the remaining voices have a higher priority
+        requestAndFlush(4, 0, 20);
+        assertEquals(3, mBackend.mPlays.size());
+        assertEquals(1, mMixer.getDropCount());
+    }
+
+    @Test
+    public void oldestVoiceIsStolenOnEqualPriority() {
+        requestAndFlush(1, 1, 0);
+        requestAndFlush(2, 1, 100);
+        requestAndFlush(3, 1, 200);
+
+        assertEquals(1, mBackend.mStops.size());
+        assertEquals(1, (int) mBackend.mStops.get(0));
+    }
+
+    @Test
+    public void finishedVoicesAreReusedWithoutStop() {
+        requestAndFlush(1, 2, 0);
+        requestAndFlush(2, 2, 0);
+
+        requestAndFlush(3, 0, SoundMixer.VOICE_DURATION_MILLIS);
+        assertEquals(3, mBackend.mPlays.size());
+        assertEquals(0, mBackend.mStops.size());
+    }
+
+    @Test
+    public void requestsOfSkippedTicksAreDropped() {
+        mMixer.requestPlay(1, 1f, 0);
+        mMixer.requestPlay(2, 1f, 0);
+        mMixer.ticksSkipped();
+        mMixer.flush(0);
+        assertEquals(0, mBackend.mPlays.size());
+
+        requestAndFlush(1, 0, 100);
+        assertEquals(1, mBackend.mPlays.size());
+    }
+
+    private void requestAndFlush(int soundId, int priority, long timeMillis) {
+        mMixer.requestPlay(soundId, 1f, priority);
+        mMixer.flush(timeMillis);
+    }
+}
@@ -0,0 +1,80 @@
+package ch.logixisland.anuto.util.math;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class FastTrigTest {
+
+    private static final float SIN_COS_ERROR = 1e-5f;
+    private static final float ATAN2_ERROR = 0.001f;
+
+    private static final float[] EDGE_ANGLES = {0f, -0f, 90f, -90f, 180f, -180f, 270f, -270f,
+            360f, -360f, 359.99f, -359.99f, 720f, -720f, 0.0001f, -0.0001f};
+
+    @Test
+    public void sinMatchesMath() {
+        for (float degrees : EDGE_ANGLES) {
+            assertSin(degrees);
+        }
+
+        Random random = new Random(1);
+        for (int i = 0; i < 100000; i++) {
+            assertSin((random.nextFloat() - 0.5f) * 1440f);
+        }
+    }
+
+    @Test
+    public void cosMatchesMath() {
+        for (float degrees : EDGE_ANGLES) {
+            assertCos(degrees);
+        }
+
+        Random random = new Random(2);
+        for (int i = 0; i < 100000; i++) {
+            assertCos((random.nextFloat() - 0.5f) * 1440f);
+        }
+    }
+
+    @Test
+    public void atan2MatchesMath() {
+        float[] values = {0f, -0f, 1f, -1f, 1e-6f, -1e-6f, 1e6f, -1e6f};
+
+        for (float y : values) {
+            for (float x : values) {
+                if (x != 0f || y != 0f) {
+                    assertAtan2(y, x);
+                }
+            }
+        }
+
+        Random random = new Random(3);
+        for (int i = 0; i < 100000; i++) {
+            assertAtan2((random.nextFloat() - 0.5f) * 200f, (random.nextFloat() - 0.5f) * 200f);
+        }
+    }
+
+    @Test
+    public void atan2OfOriginIsZero() {
+        assertEquals(0f, FastTrig.atan2(0f, 0f), 0f);
+    }
+
+    private static void assertSin(float degrees) {
+        assertEquals("sin(" + degrees + ")", Math.sin(Math.toRadians(degrees)), FastTrig.sin(degrees), SIN_COS_ERROR);
+    }
+
+    private static void assertCos(float degrees) {
+        assertEquals("cos(" + degrees + ")", Math.cos(Math.toRadians(degrees)), FastTrig.cos(degrees), SIN_COS_ERROR);
+    }
+
+    private static void assertAtan2(float y, float x) {
+        double expected = Math.toDegrees(Math.atan2(y, x));
+        double difference = FastTrig.atan2(y, x) - expected;
+
+        // 180 and -180 degrees are the same direction
+        difference -= 360.0 * Math.round(difference / 360.0);
+        assertEquals("atan2(" + y + ", " + x + ")", 0.0, difference, ATAN2_ERROR);
+    }
+}
@@ -0,0 +1,40 @@
+package ch.logixisland.anuto.view.map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class MapThumbCacheTest {
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void savedThumbIsLoaded() throws Exception {
+        MapThumbCache cache = new MapThumbCache(mFolder.newFolder());
+        int[] pixels = {0xff000000, 0xffbbbbbb, 0x00000000, 0x12345678, 0xffffffff, 0x7fffffff};
+        cache.saveThumb("key", new MapThumb(3, 2, pixels));
+
+        MapThumb thumb = cache.loadThumb("key");
+        assertEquals(3, thumb.getWidth());
+        assertEquals(2, thumb.getHeight());
+        assertArrayEquals(pixels, thumb.getPixels());
+    }
+
+    @Test
+    public void unknownKeyIsNotLoaded() throws Exception {
+        assertNull(new MapThumbCache(mFolder.newFolder()).loadThumb("key"));
+    }
+
+    @Test
+    public void generatorVersionChangesKey() {
+        byte[] content = "<map/>".getBytes();
+        assertEquals(MapThumbCache.getContentKey(content, 1), MapThumbCache.getContentKey(content, 1));
+        assertNotEquals(MapThumbCache.getContentKey(content, 1), MapThumbCache.getContentKey(content, 2));
+    }
+}
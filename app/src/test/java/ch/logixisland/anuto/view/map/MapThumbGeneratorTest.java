@@ -0,0 +1,70 @@
+package ch.logixisland.anuto.view.map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+
+import ch.logixisland.anuto.data.map.MapDescriptorRoot;
+
+import static org.junit.Assert.assertEquals;
+
+public class MapThumbGeneratorTest {
+
+    private static final int BACKGROUND = 0x00000000;
+    private static final int PLATEAU = 0xffbbbbbb;
+    private static final int PATH = 0xff000000;
+
+    // 3x2 tiles, the path runs along the bottom row and leaves the map on both sides
+    private static final String MAP_XML = "<map>" +
+            "<width>3</width><height>2</height>" +
+            "<plateaus>" +
+            "<plateau name=\"basic\" x=\"0\" y=\"1\"/>" +
+            "<plateau name=\"basic\" x=\"1\" y=\"0\"/>" +
+            "</plateaus>" +
+            "<paths><path><wayPoint x=\"-1\" y=\"0\"/><wayPoint x=\"3\" y=\"0\"/></path></paths>" +
+            "</map>";
+
+    private MapThumb mThumb;
+
+    @Before
+    public void setUp() throws Exception {
+        MapDescriptorRoot map = MapDescriptorRoot.fromXml(new ByteArrayInputStream(MAP_XML.getBytes(Charset.forName("UTF-8"))));
+        mThumb = new MapThumbGenerator().generateThumb(map);
+    }
+
+    @Test
+    public void thumbHasTenPixelsPerTile() {
+        assertEquals(30, mThumb.getWidth());
+        assertEquals(20, mThumb.getHeight());
+        assertEquals(30 * 20, mThumb.getPixels().length);
+    }
+
+    @Test
+    public void upperRowIsDrawnOnTop() {
+        assertTile(0, 0, PLATEAU);
+        assertTile(1, 0, BACKGROUND);
+        assertTile(2, 0, BACKGROUND);
+    }
+
+    @Test
+    public void pathIsClippedToMap() {
+        assertTile(0, 1, PATH);
+        assertTile(2, 1, PATH);
+    }
+
+    @Test
+    public void plateausCoverPaths() {
+        assertTile(1, 1, PLATEAU);
+    }
+
+    // column and row of the tile in thumb coordinates, row 0 is the top
+    private void assertTile(int column, int row, int color) {
+        for (int y = row * 10; y < row * 10 + 10; y++) {
+            for (int x = column * 10; x < column * 10 + 10; x++) {
+                assertEquals("pixel " + x + "/" + y, color, mThumb.getPixels()[y * mThumb.getWidth() + x]);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ch.logixisland.anuto.business.stress;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RateEquivalenceTest {
+
+    private static final StressScenario SCENARIO = new StressScenario("test", 1000, 10, 0f);
+
+    @Test
+    public void sameOutcomesAreEquivalent() {
+        RateEquivalence equivalence = new RateEquivalence(SCENARIO);
+        equivalence.addOutcome(20, 900, 100, 5000);
+        equivalence.addOutcome(30, 900, 100, 5000);
+        equivalence.addOutcome(60, 900, 100, 5000);
+
+        assertTrue(equivalence.isComplete());
+        assertTrue(equivalence.isEquivalent());
+    }
+
+    @Test
+    public void outcomesWithinToleranceAreEquivalent() {
+        RateEquivalence equivalence = new RateEquivalence(SCENARIO);
+        equivalence.addOutcome(20, 920, 80, 5100);
+        equivalence.addOutcome(30, 900, 100, 5000);
+        equivalence.addOutcome(60, 880, 120, 4900);
+
+        assertTrue(equivalence.isEquivalent());
+    }
+
+    @Test
+    public void killsOutsideToleranceAreNotEquivalent() {
+        RateEquivalence equivalence = new RateEquivalence(SCENARIO);
+        equivalence.addOutcome(20, 900, 100, 5000);
+        equivalence.addOutcome(30, 900, 100, 5000);
+        equivalence.addOutcome(60, 879, 100, 5000);
+
+        assertFalse(equivalence.isEquivalent());
+    }
+
+    @Test
+    public void leaksOutsideToleranceAreNotEquivalent() {
+        RateEquivalence equivalence = new RateEquivalence(SCENARIO);
+        equivalence.addOutcome(20, 900, 121, 5000);
+        equivalence.addOutcome(30, 900, 100, 5000);
+        equivalence.addOutcome(60, 900, 100, 5000);
+
+        assertFalse(equivalence.isEquivalent());
+    }
+
+    @Test
+    public void creditsOutsideToleranceAreNotEquivalent() {
+        RateEquivalence equivalence = new RateEquivalence(SCENARIO);
+        equivalence.addOutcome(20, 900, 100, 5000);
+        equivalence.addOutcome(30, 900, 100, 5000);
+        equivalence.addOutcome(60, 900, 100, 5101);
+
+        assertFalse(equivalence.isEquivalent());
+    }
+
+    @Test
+    public void missingRatesAreNotComplete() {
+        RateEquivalence equivalence = new RateEquivalence(SCENARIO);
+        equivalence.addOutcome(30, 900, 100, 5000);
+
+        assertFalse(equivalence.isComplete());
+    }
+}
@@ -0,0 +1,91 @@
+package ch.logixisland.anuto.business.stress;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+import ch.logixisland.anuto.data.map.MapDescriptorRoot;
+import ch.logixisland.anuto.data.wave.WaveDescriptorRoot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StressScenarioGeneratorTest {
+
+    private static final List<String> EFFECT_TOWER_NAMES = Arrays.asList("glueTower", "glueGun", "teleporter");
+
+    private static StressScenario createScenario(long seed, int enemyCount, int towerCount) {
+        return new StressScenario("test", seed, enemyCount, towerCount, 0.2f, 20f, 60f, 50000);
+    }
+
+    @Test
+    public void sameSeedCreatesSameScenario() {
+        StressScenarioGenerator first = new StressScenarioGenerator(createScenario(7L, 500, 100));
+        StressScenarioGenerator second = new StressScenarioGenerator(createScenario(7L, 500, 100));
+
+        assertEquals(first.createMapXml(), second.createMapXml());
+        assertEquals(first.createWavesXml(), second.createWavesXml());
+        assertEquals(first.createTowerLayout(120), second.createTowerLayout(120));
+    }
+
+    @Test
+    public void otherSeedCreatesOtherScenario() {
+        StressScenarioGenerator first = new StressScenarioGenerator(createScenario(7L, 500, 100));
+        StressScenarioGenerator second = new StressScenarioGenerator(createScenario(8L, 500, 100));
+
+        assertFalse(first.createWavesXml().equals(second.createWavesXml()));
+        assertFalse(first.createTowerLayout(120).equals(second.createTowerLayout(120)));
+    }
+
+    @Test
+    public void mapHasAPlateauForEveryTower() throws Exception {
+        for (int towerCount : new int[]{1, 10, 100, 300, 500}) {
+            StressScenarioGenerator generator = new StressScenarioGenerator(createScenario(1L, 100, towerCount));
+            MapDescriptorRoot map = MapDescriptorRoot.fromXml(toStream(generator.createMapXml()));
+
+            assertEquals(generator.getWidth(), map.getWidth());
+            assertEquals(generator.getHeight(), map.getHeight());
+            assertTrue(towerCount + " towers", map.getPlateaus().size() >= towerCount);
+            assertEquals(2, map.getPaths().size());
+        }
+    }
+
+    @Test
+    public void layoutPlacesEveryTower() {
+        StressScenario scenario = createScenario(3L, 100, 300);
+        List<String> layout = new StressScenarioGenerator(scenario).createTowerLayout(320);
+        int towerCount = 0;
+        int effectTowerCount = 0;
+
+        for (String towerName : layout) {
+            if (towerName != null) {
+                towerCount++;
+            }
+
+            if (EFFECT_TOWER_NAMES.contains(towerName)) {
+                effectTowerCount++;
+            }
+        }
+
+        assertEquals(320, layout.size());
+        assertEquals(300, towerCount);
+        assertEquals(60, effectTowerCount);
+    }
+
+    @Test
+    public void wavesSpawnEveryEnemy() throws Exception {
+        StressScenarioGenerator generator = new StressScenarioGenerator(createScenario(5L, 1234, 100));
+        WaveDescriptorRoot waves = WaveDescriptorRoot.fromXml(toStream(generator.createWavesXml()));
+
+        assertEquals(1, waves.getWaves().size());
+        assertEquals(1234, waves.getWaves().get(0).getEnemies().size());
+    }
+
+    private static ByteArrayInputStream toStream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(Charset.forName("UTF-8")));
+    }
+}
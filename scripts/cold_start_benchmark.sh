@@ -0,0 +1,67 @@
+#!/bin/sh
+# Measures the cold start of the game on a connected device.
+#
+# Every run force-stops the app, removes the checkpoint and the journal so a
+# fresh game is started, launches the game activity and waits for the
+# StartupTimer summary. The launch time reported by the activity manager and
+# the average of every startup stage are printed at the end.
+#
+# usage: scripts/cold_start_benchmark.sh [runs]
+
+PACKAGE=ch.logixisland.anuto
+ACTIVITY=$PACKAGE/.view.game.GameActivity
+RUNS=${1:-10}
+TIMEOUT=30
+
+RESULTS=$(mktemp)
+trap 'rm -f "$RESULTS"' EXIT
+
+run=1
+while [ "$run" -le "$RUNS" ]; do
+    adb shell am force-stop $PACKAGE
+    adb shell run-as $PACKAGE rm -f files/checkpoint.xml files/checkpoint.xml.tmp files/journal.bin
+    adb logcat -c
+
+    total=$(adb shell am start -W -n $ACTIVITY | tr -d '\r' | awk '/^TotalTime:/ { print $2 }')
+
+    summary=""
+    waited=0
+    while [ -z "$summary" ] && [ "$waited" -lt "$TIMEOUT" ]; do
+        sleep 1
+        waited=$((waited + 1))
+        summary=$(adb logcat -d -s StartupTimer:I | tr -d '\r' | grep -o 'cold start:.*' | head -n 1)
+    done
+
+    if [ -z "$summary" ]; then
+        echo "run $run: no startup summary within ${TIMEOUT}s" >&2
+        exit 1
+    fi
+
+    echo "run $run: launch=${total}ms $summary"
+    echo "launch=${total}ms $summary" >> "$RESULTS"
+    run=$((run + 1))
+done
+
+# "launch=412ms cold start: 980 ms; menu=12ms engine=85ms ..." -> averages per key
+awk '
+{
+    for (i = 1; i <= NF; i++) {
+        if ($i == "start:") {
+            sum["total"] += $(i + 1)
+            count["total"]++
+            if (!("total" in seen)) { seen["total"] = 1; keys[++n] = "total" }
+        } else if (split($i, pair, "=") == 2 && pair[2] ~ /^[0-9]+ms$/) {
+            key = pair[1]
+            sub(/ms$/, "", pair[2])
+            sum[key] += pair[2]
+            count[key]++
+            if (!(key in seen)) { seen[key] = 1; keys[++n] = key }
+        }
+    }
+}
+END {
+    printf "average over %d runs:\n", NR
+    for (i = 1; i <= n; i++) {
+        printf "  %-14s %6.1f ms\n", keys[i], sum[keys[i]] / count[keys[i]]
+    }
+}' "$RESULTS"